@@ -12,6 +12,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.function.Supplier;
+
 import org.eclipse.core.runtime.Path;
 import org.eclipse.jface.viewers.StyledString;
 import org.eclipse.jface.viewers.Stylers;
@@ -297,4 +299,22 @@ public class RedKeywordProposalTest {
         assertThat(proposal.getDescription()).isEqualTo("Name: keyword\n"
                 + "Source: Library (alias - alias for source)\n" + "Arguments: [a, *b]\n\n" + "the documentation");
     }
+
+    @Test
+    public void libraryKeywordDocumentationIsRequested_onlyWhenDescriptionIsNeeded() {
+        @SuppressWarnings("unchecked")
+        final Supplier<String> documentation = mock(Supplier.class);
+        when(documentation.get()).thenReturn("the documentation");
+
+        final RedKeywordProposal proposal = new RedLibraryKeywordProposal("source", "source", KeywordScope.STD_LIBRARY,
+                "", "keyword", ArgumentsDescriptor.createDescriptor(), documentation, false, new Path("file.robot"),
+                AssistProposalPredicates.<RedKeywordProposal> alwaysFalse(), ProposalMatch.EMPTY);
+
+        assertThat(proposal.getContent()).isEqualTo("keyword");
+        assertThat(proposal.getLabel()).isEqualTo("keyword - source");
+        verifyNoMoreInteractions(documentation);
+
+        assertThat(proposal.getDescription()).endsWith("the documentation");
+        verify(documentation).get();
+    }
 }
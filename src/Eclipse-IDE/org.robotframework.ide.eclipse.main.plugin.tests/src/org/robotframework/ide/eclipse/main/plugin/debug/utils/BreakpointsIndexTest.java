@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.debug.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.model.IBreakpoint;
+import org.junit.Test;
+
+public class BreakpointsIndexTest {
+
+    @Test
+    public void enabledBreakpointsAreFoundByFileNameAndLine() throws Exception {
+        final IBreakpoint bp1 = breakpoint("suite.robot", 5, true);
+        final IBreakpoint bp2 = breakpoint("suite.robot", 5, true);
+        final IBreakpoint bp3 = breakpoint("suite.robot", 7, true);
+        final IBreakpoint bp4 = breakpoint("res.robot", 5, true);
+
+        final BreakpointsIndex index = new BreakpointsIndex();
+        index.addAll(new IBreakpoint[] { bp1, bp2, bp3, bp4 });
+
+        assertThat(index.getBreakpoints("suite.robot", 5)).containsOnly(bp1, bp2);
+        assertThat(index.getBreakpoints("suite.robot", 7)).containsOnly(bp3);
+        assertThat(index.getBreakpoints("res.robot", 5)).containsOnly(bp4);
+        assertThat(index.getBreakpoints("res.robot", 7)).isEmpty();
+        assertThat(index.getBreakpoints("other.robot", 5)).isEmpty();
+    }
+
+    @Test
+    public void disabledBreakpointsAreNotIndexed() throws Exception {
+        final IBreakpoint bp = breakpoint("suite.robot", 5, false);
+
+        final BreakpointsIndex index = new BreakpointsIndex();
+        index.add(bp);
+
+        assertThat(index.getBreakpoints("suite.robot", 5)).isEmpty();
+    }
+
+    @Test
+    public void breakpointIsMoved_whenAddedAgainAfterLineChange() throws Exception {
+        final IBreakpoint bp = breakpoint("suite.robot", 5, true);
+
+        final BreakpointsIndex index = new BreakpointsIndex();
+        index.add(bp);
+        when(bp.getMarker().getAttribute(IMarker.LINE_NUMBER, -1)).thenReturn(9);
+        index.add(bp);
+
+        assertThat(index.getBreakpoints("suite.robot", 5)).isEmpty();
+        assertThat(index.getBreakpoints("suite.robot", 9)).containsOnly(bp);
+    }
+
+    @Test
+    public void breakpointIsNotFound_whenRemoved() throws Exception {
+        final IBreakpoint bp1 = breakpoint("suite.robot", 5, true);
+        final IBreakpoint bp2 = breakpoint("suite.robot", 5, true);
+
+        final BreakpointsIndex index = new BreakpointsIndex();
+        index.addAll(new IBreakpoint[] { bp1, bp2 });
+        index.remove(bp1);
+
+        assertThat(index.getBreakpoints("suite.robot", 5)).containsOnly(bp2);
+    }
+
+    private static IBreakpoint breakpoint(final String fileName, final int line, final boolean enabled)
+            throws CoreException {
+        final IResource resource = mock(IResource.class);
+        when(resource.getName()).thenReturn(fileName);
+        final IMarker marker = mock(IMarker.class);
+        when(marker.exists()).thenReturn(true);
+        when(marker.getResource()).thenReturn(resource);
+        when(marker.getAttribute(IMarker.LINE_NUMBER, -1)).thenReturn(line);
+        final IBreakpoint breakpoint = mock(IBreakpoint.class);
+        when(breakpoint.getMarker()).thenReturn(marker);
+        when(breakpoint.isEnabled()).thenReturn(enabled);
+        return breakpoint;
+    }
+}
@@ -41,6 +41,7 @@ public class RemoteRobotLaunchConfigurationTest {
         assertThat(robotConfig.getAgentConnectionHost()).isEqualTo("127.0.0.1");
         assertThat(robotConfig.getAgentConnectionPort()).isBetween(1, 65_535);
         assertThat(robotConfig.getAgentConnectionTimeout()).isEqualTo(30);
+        assertThat(robotConfig.getAgentConnectionClientsLimit()).isEqualTo(1);
     }
 
     @Test
@@ -50,6 +51,7 @@ public class RemoteRobotLaunchConfigurationTest {
         robotConfig.setAgentConnectionHostValue("1.2.3.4");
         robotConfig.setAgentConnectionPortValue("987");
         robotConfig.setAgentConnectionTimeoutValue("123");
+        robotConfig.setAgentConnectionClientsLimitValue("4");
 
         robotConfig.fillDefaults();
 
@@ -58,6 +60,7 @@ public class RemoteRobotLaunchConfigurationTest {
         assertThat(robotConfig.getAgentConnectionHost()).isEqualTo("127.0.0.1");
         assertThat(robotConfig.getAgentConnectionPort()).isEqualTo(43_981);
         assertThat(robotConfig.getAgentConnectionTimeout()).isEqualTo(30);
+        assertThat(robotConfig.getAgentConnectionClientsLimit()).isEqualTo(1);
     }
 
     @Test
@@ -156,15 +159,37 @@ public class RemoteRobotLaunchConfigurationTest {
         robotConfig.getAgentConnectionTimeout();
     }
 
+    @Test
+    public void whenClientsLimitIsNotANumber_coreExceptionIsThrown() throws CoreException {
+        thrown.expect(CoreException.class);
+        thrown.expectMessage("Parallel clients limit 'abc' must be an Integer between 1 and 64");
+
+        final RemoteRobotLaunchConfiguration robotConfig = getDefaultRemoteRobotLaunchConfiguration();
+        robotConfig.setAgentConnectionClientsLimitValue("abc");
+        robotConfig.getAgentConnectionClientsLimit();
+    }
+
+    @Test
+    public void whenClientsLimitIsOutOfRange_coreExceptionIsThrown() throws CoreException {
+        thrown.expect(CoreException.class);
+        thrown.expectMessage("Parallel clients limit '65' must be an Integer between 1 and 64");
+
+        final RemoteRobotLaunchConfiguration robotConfig = getDefaultRemoteRobotLaunchConfiguration();
+        robotConfig.setAgentConnectionClientsLimitValue("65");
+        robotConfig.getAgentConnectionClientsLimit();
+    }
+
     @Test
     public void remoteSettingsAreCorrect_whenSet() throws CoreException {
         final RemoteRobotLaunchConfiguration robotConfig = getDefaultRemoteRobotLaunchConfiguration();
         robotConfig.setAgentConnectionHostValue("192.168.1.21");
         robotConfig.setAgentConnectionPortValue("1234");
         robotConfig.setAgentConnectionTimeoutValue("567");
+        robotConfig.setAgentConnectionClientsLimitValue("8");
         assertThat(robotConfig.getAgentConnectionHost()).isEqualTo("192.168.1.21");
         assertThat(robotConfig.getAgentConnectionPort()).isEqualTo(1234);
         assertThat(robotConfig.getAgentConnectionTimeout()).isEqualTo(567);
+        assertThat(robotConfig.getAgentConnectionClientsLimit()).isEqualTo(8);
     }
 
     @Test
@@ -47,13 +47,13 @@ public class DefaultLaunchConfigurationPreferencePageTest {
         page.createControl(shellProvider.getShell());
 
         final List<String> integerPrefNames = newArrayList(RedPreferences.LAUNCH_AGENT_CONNECTION_PORT,
-                RedPreferences.LAUNCH_AGENT_CONNECTION_TIMEOUT);
+                RedPreferences.LAUNCH_AGENT_CONNECTION_TIMEOUT, RedPreferences.LAUNCH_MESSAGE_LOG_IN_MEMORY_LIMIT);
         final List<String> stringPrefNames = newArrayList(RedPreferences.LAUNCH_ADDITIONAL_INTERPRETER_ARGUMENTS,
                 RedPreferences.LAUNCH_ADDITIONAL_ROBOT_ARGUMENTS, RedPreferences.LAUNCH_AGENT_CONNECTION_HOST,
                 RedPreferences.LAUNCH_ADDITIONAL_EXECUTABLE_FILE_ARGUMENTS);
 
         final List<FieldEditor> editors = FieldEditorPreferencePageHelper.getEditors(page);
-        assertThat(editors).hasSize(7);
+        assertThat(editors).hasSize(8);
         for (final FieldEditor editor : editors) {
             if (editor instanceof IntegerFieldEditor) {
                 integerPrefNames.remove(editor.getPreferenceName());
@@ -87,5 +87,6 @@ public class RedPreferencesInitializerTest {
         verify(preferences).put(RedPreferences.LAUNCH_AGENT_CONNECTION_HOST, "127.0.0.1");
         verify(preferences).putInt(RedPreferences.LAUNCH_AGENT_CONNECTION_PORT, 43_981);
         verify(preferences).putInt(RedPreferences.LAUNCH_AGENT_CONNECTION_TIMEOUT, 30);
+        verify(preferences).putInt(RedPreferences.LAUNCH_MESSAGE_LOG_IN_MEMORY_LIMIT, 1_000_000);
     }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.junit.Rule;
+import org.junit.Test;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.red.junit.ProjectProvider;
+
+public class ImportDependencyGraphTest {
+
+    @Rule
+    public ProjectProvider projectProvider = new ProjectProvider(ImportDependencyGraphTest.class);
+
+    private static final IPath SUITE = new Path("/project/suite.robot");
+
+    private static final IPath RESOURCE = new Path("/project/res.robot");
+
+    private static final IPath NESTED_RESOURCE = new Path("/project/nested.robot");
+
+    private static final IPath VARIABLES = new Path("/project/vars.py");
+
+    private static final IPath LIBRARY = new Path("/project/libs/mylib");
+
+    @Test
+    public void transitiveImportersAreReturned_forChangedFile() {
+        final ImportDependencyGraph graph = new ImportDependencyGraph();
+        graph.record(SUITE, newArrayList(RESOURCE, VARIABLES), new ArrayList<String>());
+        graph.record(RESOURCE, newArrayList(NESTED_RESOURCE), new ArrayList<String>());
+        graph.record(NESTED_RESOURCE, new ArrayList<IPath>(), new ArrayList<String>());
+
+        assertThat(graph.getTransitiveImporters(newArrayList(NESTED_RESOURCE))).containsOnly(RESOURCE, SUITE);
+        assertThat(graph.getTransitiveImporters(newArrayList(RESOURCE))).containsOnly(SUITE);
+        assertThat(graph.getTransitiveImporters(newArrayList(VARIABLES))).containsOnly(SUITE);
+        assertThat(graph.getTransitiveImporters(newArrayList(SUITE))).isEmpty();
+    }
+
+    @Test
+    public void importersAreReturnedOnce_whenFilesImportEachOther() {
+        final ImportDependencyGraph graph = new ImportDependencyGraph();
+        graph.record(RESOURCE, newArrayList(NESTED_RESOURCE), new ArrayList<String>());
+        graph.record(NESTED_RESOURCE, newArrayList(RESOURCE), new ArrayList<String>());
+        graph.record(SUITE, newArrayList(RESOURCE), new ArrayList<String>());
+
+        assertThat(graph.getTransitiveImporters(newArrayList(RESOURCE))).containsOnly(NESTED_RESOURCE, SUITE);
+    }
+
+    @Test
+    public void libraryImportersAreReturned_whenFileOfLibraryModuleChanged() {
+        final ImportDependencyGraph graph = new ImportDependencyGraph();
+        graph.record(SUITE, newArrayList(LIBRARY), new ArrayList<String>());
+
+        assertThat(graph.getTransitiveImporters(newArrayList((IPath) new Path("/project/libs/mylib.py"))))
+                .containsOnly(SUITE);
+        assertThat(graph.getTransitiveImporters(newArrayList((IPath) new Path("/project/libs/mylib/__init__.py"))))
+                .containsOnly(SUITE);
+        assertThat(graph.getTransitiveImporters(newArrayList((IPath) new Path("/project/libs/other.py")))).isEmpty();
+    }
+
+    @Test
+    public void missingImportedFilesAreRecorded_soImportersAreReturnedWhenFilesAreAdded() throws Exception {
+        projectProvider.createDir("dir");
+        final IFile suite = projectProvider.createFile("dir/suite.robot",
+                "*** Settings ***",
+                "Resource  missing.robot",
+                "Variables  ../vars/missing.py");
+
+        final ImportDependencyGraph graph = new ImportDependencyGraph();
+        graph.record(new RobotModel().createSuiteFile(suite));
+
+        final IPath projectPath = projectProvider.getProject().getFullPath();
+        assertThat(graph.getTransitiveImporters(newArrayList(projectPath.append("dir/missing.robot"))))
+                .containsOnly(suite.getFullPath());
+        assertThat(graph.getTransitiveImporters(newArrayList(projectPath.append("vars/missing.py"))))
+                .containsOnly(suite.getFullPath());
+    }
+
+    @Test
+    public void previousImportsAreForgotten_whenFileIsRecordedAgainOrRemoved() {
+        final ImportDependencyGraph graph = new ImportDependencyGraph();
+        graph.record(SUITE, newArrayList(RESOURCE), new ArrayList<String>());
+        graph.record(SUITE, newArrayList(NESTED_RESOURCE), new ArrayList<String>());
+
+        assertThat(graph.getTransitiveImporters(newArrayList(RESOURCE))).isEmpty();
+        assertThat(graph.getTransitiveImporters(newArrayList(NESTED_RESOURCE))).containsOnly(SUITE);
+
+        graph.remove(SUITE);
+        assertThat(graph.getTransitiveImporters(newArrayList(NESTED_RESOURCE))).isEmpty();
+    }
+
+    @Test
+    public void signatureIsChanged_onlyWhenItDiffersFromRecordedOne() {
+        final ImportDependencyGraph graph = new ImportDependencyGraph();
+        assertThat(graph.hasSignatureChanged(RESOURCE, newArrayList("keyword kw [a]"))).isTrue();
+
+        graph.record(RESOURCE, new ArrayList<IPath>(), newArrayList("keyword kw [a]"));
+        assertThat(graph.hasSignatureChanged(RESOURCE, newArrayList("keyword kw [a]"))).isFalse();
+        assertThat(graph.hasSignatureChanged(RESOURCE, newArrayList("keyword kw [a, b]"))).isTrue();
+
+        graph.clear();
+        assertThat(graph.hasSignatureChanged(RESOURCE, newArrayList("keyword kw [a]"))).isTrue();
+        assertThat(graph.isInitialized()).isFalse();
+    }
+}
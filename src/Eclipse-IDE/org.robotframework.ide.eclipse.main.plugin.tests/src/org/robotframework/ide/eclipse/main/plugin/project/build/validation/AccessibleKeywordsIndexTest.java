@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordEntity;
+import org.robotframework.red.junit.ProjectProvider;
+
+public class AccessibleKeywordsIndexTest {
+
+    @Rule
+    public ProjectProvider projectProvider = new ProjectProvider(AccessibleKeywordsIndexTest.class);
+
+    @Test
+    public void keywordsFromFileAndNestedResourcesAreAccessible_inLocatorOrder() throws Exception {
+        projectProvider.createFile("nested.robot", "*** Keywords ***", "kw", "nested_kw");
+        projectProvider.createFile("res.robot", "*** Settings ***", "Resource  nested.robot", "*** Keywords ***",
+                "kw", "res kw");
+        final IFile suite = projectProvider.createFile("suite.robot", "*** Settings ***", "Resource  res.robot",
+                "*** Keywords ***", "kw", "suite kw");
+
+        final Map<String, Collection<KeywordEntity>> keywords = new AccessibleKeywordsIndex(new RobotModel())
+                .getAccessibleKeywords(suite);
+
+        assertThat(keywords.keySet()).containsOnly("kw", "suitekw", "reskw", "nestedkw");
+        assertThat(sourceNames(keywords.get("kw"))).containsExactly("suite", "nested", "res");
+        assertThat(sourceNames(keywords.get("nestedkw"))).containsExactly("nested");
+        assertThat(keywords.get("unknown")).isNull();
+        assertThat(keywords.containsKey("reskw")).isTrue();
+    }
+
+    @Test
+    public void keywordsOfResourceAreCollectedOnce_andSharedByImportingFiles() throws Exception {
+        projectProvider.createFile("res.robot", "*** Keywords ***", "res kw");
+        final IFile suite1 = projectProvider.createFile("suite1.robot", "*** Settings ***", "Resource  res.robot");
+        final IFile suite2 = projectProvider.createFile("suite2.robot", "*** Settings ***", "Resource  res.robot");
+
+        final AccessibleKeywordsIndex index = new AccessibleKeywordsIndex(new RobotModel());
+        final Collection<KeywordEntity> keywords1 = index.getAccessibleKeywords(suite1).get("reskw");
+        final Collection<KeywordEntity> keywords2 = index.getAccessibleKeywords(suite2).get("reskw");
+
+        assertThat(keywords1).hasSize(1);
+        assertThat(keywords2).hasSize(1);
+        assertThat(keywords1.iterator().next()).isSameAs(keywords2.iterator().next());
+    }
+
+    @Test
+    public void resourcesImportedInLoopAreVisitedOnce() throws Exception {
+        projectProvider.createFile("res1.robot", "*** Settings ***", "Resource  res2.robot", "*** Keywords ***",
+                "kw1");
+        projectProvider.createFile("res2.robot", "*** Settings ***", "Resource  res1.robot", "*** Keywords ***",
+                "kw2");
+        final IFile suite = projectProvider.createFile("suite.robot", "*** Settings ***", "Resource  res1.robot");
+
+        final Map<String, Collection<KeywordEntity>> keywords = new AccessibleKeywordsIndex(new RobotModel())
+                .getAccessibleKeywords(suite);
+
+        assertThat(keywords).hasSize(2);
+        assertThat(keywords.get("kw1")).hasSize(1);
+        assertThat(keywords.get("kw2")).hasSize(1);
+    }
+
+    private static List<String> sourceNames(final Collection<KeywordEntity> keywords) {
+        final List<String> names = new ArrayList<>();
+        for (final KeywordEntity keyword : keywords) {
+            names.add(keyword.getSourceName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.library;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+
+import org.eclipse.core.resources.IFile;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.robotframework.ide.eclipse.main.plugin.project.library.LibrarySpecificationReader.CannotReadLibrarySpecificationException;
+import org.robotframework.red.junit.ProjectProvider;
+
+public class LibrarySpecificationReaderTest {
+
+    @ClassRule
+    public static ProjectProvider projectProvider = new ProjectProvider(LibrarySpecificationReaderTest.class);
+
+    @Test
+    public void specificationWithoutDocumentationIsRead_whenFileIsReadWithLazyDocumentation() throws Exception {
+        final IFile file = createLibspec("lib.libspec");
+
+        final LibrarySpecification spec = LibrarySpecificationReader.readSpecification(file);
+
+        assertThat(spec.getName()).isEqualTo("lib");
+        assertThat(spec.getFormat()).isEqualTo("ROBOT");
+        assertThat(spec.getVersion()).isEqualTo("1.0");
+        assertThat(spec.getScope()).isEqualTo("global");
+        assertThat(spec.getSourceFile()).isEqualTo(file);
+        assertThat(spec.getConstructor().getArguments()).containsExactly("a", "b=1");
+        assertThat(spec.getConstructor().getDocumentation()).isEqualTo("constructor doc");
+
+        assertThat(spec.getKeywords()).hasSize(3);
+        assertThat(spec.getKeywords().get(0).getName()).isEqualTo("First Keyword");
+        assertThat(spec.getKeywords().get(0).getArguments()).containsExactly("x", "*args");
+        assertThat(spec.getKeywords().get(0).isDeprecated()).isFalse();
+        assertThat(spec.getKeywords().get(0).canBeConvertedToHtml()).isTrue();
+        assertThat(spec.getKeywords().get(1).getName()).isEqualTo("Second Keyword");
+        assertThat(spec.getKeywords().get(1).getArguments()).isNull();
+        assertThat(spec.getKeywords().get(1).isDeprecated()).isTrue();
+        assertThat(spec.getKeywords().get(2).getName()).isEqualTo("Third Keyword");
+        assertThat(spec.getKeywords().get(2).getArguments()).isEmpty();
+        assertThat(spec.getKeywords().get(2).isDeprecated()).isFalse();
+    }
+
+    @Test
+    public void documentationIsReadFromFile_whenRequested() throws Exception {
+        final IFile file = createLibspec("lib_docs.libspec");
+
+        final LibrarySpecification spec = LibrarySpecificationReader.readSpecification(file);
+
+        assertThat(spec.getDocumentation()).isEqualTo("library <b>doc</b>");
+        assertThat(spec.getKeywords().get(0).getDocumentation()).isEqualTo("first\ndoc");
+        assertThat(spec.getKeywords().get(1).getDocumentation()).isEqualTo("*DEPRECATED* use other");
+        assertThat(spec.getKeywords().get(2).getDocumentation()).isNull();
+    }
+
+    @Test
+    public void documentationIsReadTogetherWithSpecification_whenLazyDocumentationIsNotGiven() throws Exception {
+        final IFile file = createLibspec("lib_eager.libspec");
+
+        final LibrarySpecification spec = LibrarySpecificationReader
+                .readSpecification(new File(file.getLocationURI()), null);
+
+        assertThat(spec.getDocumentation()).isEqualTo("library <b>doc</b>");
+        assertThat(spec.getKeywords().get(0).getDocumentation()).isEqualTo("first\ndoc");
+        assertThat(spec.getKeywords().get(2).getDocumentation()).isNull();
+    }
+
+    @Test
+    public void documentationIsMissing_whenSpecificationFileIsRemovedBeforeRequest() throws Exception {
+        final IFile file = createLibspec("lib_removed.libspec");
+
+        final LibrarySpecification spec = LibrarySpecificationReader.readSpecification(file);
+        file.delete(true, null);
+
+        assertThat(spec.getDocumentation()).isNull();
+        assertThat(spec.getKeywords().get(0).getDocumentation()).isNull();
+    }
+
+    @Test
+    public void documentationOfMovedKeywordIsMissing_whenSpecificationFileIsRegeneratedBeforeRequest()
+            throws Exception {
+        final IFile file = createLibspec("lib_regenerated.libspec");
+
+        final LibrarySpecification spec = LibrarySpecificationReader.readSpecification(file);
+        projectProvider.createFile("lib_regenerated.libspec",
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>",
+                "<keywordspec name=\"lib\" type=\"library\" format=\"ROBOT\" generated=\"20170101 10:00:00\">",
+                "<doc>new library doc</doc>",
+                "<kw name=\"Second Keyword\">",
+                "<doc>second doc</doc>",
+                "</kw>",
+                "<kw name=\"First Keyword\">",
+                "<doc>first doc</doc>",
+                "</kw>",
+                "</keywordspec>");
+
+        assertThat(spec.getDocumentation()).isEqualTo("new library doc");
+        assertThat(spec.getKeywords().get(0).getDocumentation()).isNull();
+        assertThat(spec.getKeywords().get(1).getDocumentation()).isNull();
+        assertThat(spec.getKeywords().get(2).getDocumentation()).isNull();
+    }
+
+    @Test(expected = CannotReadLibrarySpecificationException.class)
+    public void exceptionIsThrown_whenFileIsNotLibrarySpecification() throws Exception {
+        final IFile file = projectProvider.createFile("other.libspec", "<robot></robot>");
+
+        LibrarySpecificationReader.readSpecification(file);
+    }
+
+    @Test(expected = CannotReadLibrarySpecificationException.class)
+    public void exceptionIsThrown_whenFileIsBroken() throws Exception {
+        final IFile file = projectProvider.createFile("broken.libspec", "<keywordspec name=\"lib\">", "<kw>");
+
+        LibrarySpecificationReader.readSpecification(file);
+    }
+
+    private static IFile createLibspec(final String fileName) throws Exception {
+        return projectProvider.createFile(fileName,
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>",
+                "<keywordspec name=\"lib\" type=\"library\" format=\"ROBOT\" generated=\"20170101 10:00:00\">",
+                "<version>1.0</version>",
+                "<scope>global</scope>",
+                "<namedargs>yes</namedargs>",
+                "<doc>library &lt;b&gt;doc&lt;/b&gt;</doc>",
+                "<init>",
+                "<arguments>",
+                "<arg>a</arg>",
+                "<arg>b=1</arg>",
+                "</arguments>",
+                "<doc>constructor doc</doc>",
+                "</init>",
+                "<kw name=\"First Keyword\">",
+                "<arguments>",
+                "<arg>x</arg>",
+                "<arg>*args</arg>",
+                "</arguments>",
+                "<doc>first",
+                "doc</doc>",
+                "<tags>",
+                "<tag>t</tag>",
+                "</tags>",
+                "</kw>",
+                "<kw name=\"Second Keyword\">",
+                "<doc>*DEPRECATED* use other</doc>",
+                "</kw>",
+                "<kw name=\"Third Keyword\">",
+                "<arguments>",
+                "</arguments>",
+                "</kw>",
+                "</keywordspec>");
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.views.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+import org.eclipse.swt.custom.TextChangeListener;
+import org.eclipse.swt.custom.TextChangedEvent;
+import org.eclipse.swt.custom.TextChangingEvent;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+public class ExecutionMessagesContentTest {
+
+    @Test
+    public void contentIsEmpty_whenCreatedForEmptyStore() {
+        final ExecutionMessagesStore store = new ExecutionMessagesStore(5, 4);
+        final ExecutionMessagesContent content = new ExecutionMessagesContent(store, 0);
+
+        assertThat(content.getCharCount()).isZero();
+        assertThat(content.getLineCount()).isEqualTo(1);
+        assertThat(content.getLine(0)).isEmpty();
+    }
+
+    @Test
+    public void linesAreIndexed_forInitiallyStoredMessages() {
+        final ExecutionMessagesStore store = new ExecutionMessagesStore(5, 4);
+        store.append("line1\nline2\n\nlast");
+        final ExecutionMessagesContent content = new ExecutionMessagesContent(store, store.getLength());
+
+        assertThat(content.getCharCount()).isEqualTo(17);
+        assertThat(content.getLineCount()).isEqualTo(4);
+        assertThat(content.getLine(0)).isEqualTo("line1");
+        assertThat(content.getLine(1)).isEqualTo("line2");
+        assertThat(content.getLine(2)).isEmpty();
+        assertThat(content.getLine(3)).isEqualTo("last");
+        assertThat(content.getOffsetAtLine(3)).isEqualTo(13);
+        assertThat(content.getLineAtOffset(0)).isEqualTo(0);
+        assertThat(content.getLineAtOffset(5)).isEqualTo(0);
+        assertThat(content.getLineAtOffset(6)).isEqualTo(1);
+        assertThat(content.getLineAtOffset(12)).isEqualTo(2);
+        assertThat(content.getLineAtOffset(17)).isEqualTo(3);
+        assertThat(content.getTextRange(3, 6)).isEqualTo("e1\nlin");
+
+        store.dispose();
+    }
+
+    @Test
+    public void onlyGivenPrefixOfStoreIsVisible_untilFurtherMessagesAreAppended() {
+        final ExecutionMessagesStore store = new ExecutionMessagesStore(5, 4);
+        store.append("line1\n");
+        final ExecutionMessagesContent content = new ExecutionMessagesContent(store, store.getLength());
+        store.append("line2\n");
+
+        assertThat(content.getCharCount()).isEqualTo(6);
+        assertThat(content.getLineCount()).isEqualTo(2);
+
+        content.append("line2\n");
+
+        assertThat(content.getCharCount()).isEqualTo(12);
+        assertThat(content.getLineCount()).isEqualTo(3);
+        assertThat(content.getLine(1)).isEqualTo("line2");
+
+        store.dispose();
+    }
+
+    @Test
+    public void listenersAreNotifiedAboutTextChange_whenMessagesAreAppended() {
+        final ExecutionMessagesStore store = new ExecutionMessagesStore(5, 4);
+        store.append("line1\n");
+        final ExecutionMessagesContent content = new ExecutionMessagesContent(store, store.getLength());
+
+        final TextChangeListener listener = mock(TextChangeListener.class);
+        content.addTextChangeListener(listener);
+
+        store.append("line2\nline3\n");
+        content.append("line2\nline3\n");
+
+        final InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).textChanging(any(TextChangingEvent.class));
+        inOrder.verify(listener).textChanged(any(TextChangedEvent.class));
+        inOrder.verifyNoMoreInteractions();
+
+        store.dispose();
+    }
+}
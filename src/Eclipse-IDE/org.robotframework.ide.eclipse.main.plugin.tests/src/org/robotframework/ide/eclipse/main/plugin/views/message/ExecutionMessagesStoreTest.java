@@ -29,6 +29,38 @@ public class ExecutionMessagesStoreTest {
         assertThat(store.getMessage()).isEqualTo("msg1msg2msg3");
     }
 
+    @Test
+    public void oldestSegmentsAreMovedOutOfMemory_whenInMemoryLimitIsExceeded() {
+        final ExecutionMessagesStore store = new ExecutionMessagesStore(5, 4);
+        store.append("msg1\n");
+        store.append("msg2\n");
+        assertThat(store.getInMemoryLength()).isEqualTo(6);
+
+        store.append("msg3\n");
+        store.append("msg4\n");
+        assertThat(store.getInMemoryLength()).isEqualTo(8);
+        assertThat(store.getLength()).isEqualTo(20);
+        assertThat(store.getMessage()).isEqualTo("msg1\nmsg2\nmsg3\nmsg4\n");
+
+        store.dispose();
+    }
+
+    @Test
+    public void textRangesAreReadAcrossSegmentsAndInMemoryPart() {
+        final ExecutionMessagesStore store = new ExecutionMessagesStore(5, 4);
+        store.append("0123456789");
+        store.append("abcdefghij");
+
+        assertThat(store.getText(0, 3)).isEqualTo("012");
+        assertThat(store.getText(2, 8)).isEqualTo("23456789");
+        assertThat(store.getText(7, 10)).isEqualTo("789abcdefg");
+        assertThat(store.getText(14, 6)).isEqualTo("efghij");
+        assertThat(store.getText(18, 5)).isEqualTo("ij");
+        assertThat(store.getText(20, 5)).isEmpty();
+
+        store.dispose();
+    }
+
     @Test
     public void storeRemovesMessages_whenDisposed() {
         final ExecutionMessagesStore store = new ExecutionMessagesStore();
@@ -36,6 +68,7 @@ public class ExecutionMessagesStoreTest {
         store.dispose();
         
         assertThat(store.getMessage()).isEmpty();
+        assertThat(store.getLength()).isZero();
     }
 
     @Test
@@ -7,6 +7,7 @@ package org.robotframework.ide.eclipse.main.plugin.views.message;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import org.eclipse.swt.widgets.Display;
 import org.junit.Rule;
 import org.junit.Test;
 import org.robotframework.ide.eclipse.main.plugin.launch.RobotTestExecutionService;
@@ -71,7 +72,7 @@ public class MessageLogViewTest {
     }
 
     @Test
-    public void messageLogViewIsUpdated_whenMessagesAreAppendedDuringExecution() {
+    public void messageLogViewIsUpdated_whenMessagesAreAppendedDuringExecution() throws Exception {
         final RobotTestExecutionService executionService = new RobotTestExecutionService();
 
         final MessageLogView view = new MessageLogView(executionService);
@@ -82,7 +83,13 @@ public class MessageLogViewTest {
         store.append("message1\n");
         store.append("message2\n");
 
+        // messages are appended in batches, so the view is updated after some time
+        final long timeout = System.currentTimeMillis() + 5000;
+        while (view.getTextControl().getText().isEmpty() && System.currentTimeMillis() < timeout) {
+            if (!Display.getCurrent().readAndDispatch()) {
+                Thread.sleep(10);
+            }
+        }
         assertThat(view.getTextControl().getText()).isEqualTo("message1\nmessage2\n");
-
     }
 }
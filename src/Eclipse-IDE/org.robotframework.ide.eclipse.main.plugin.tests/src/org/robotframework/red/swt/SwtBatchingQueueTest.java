@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.red.swt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.widgets.Display;
+import org.junit.Test;
+
+public class SwtBatchingQueueTest {
+
+    @Test
+    public void elementsAddedFromOtherThread_areConsumedInSingleBatchInUiThread() throws Exception {
+        final List<List<String>> batches = new ArrayList<>();
+        final List<Boolean> consumedInUiThread = new ArrayList<>();
+        final SwtBatchingQueue<String> queue = new SwtBatchingQueue<>(Display.getCurrent(), 50, batch -> {
+            batches.add(batch);
+            consumedInUiThread.add(SwtThread.isSwtThread());
+        });
+
+        final Thread producer = new Thread(() -> {
+            queue.add("a");
+            queue.add("b");
+            queue.add("c");
+        });
+        producer.start();
+        producer.join();
+
+        runEventLoopUntilConsumed(batches);
+
+        assertThat(batches).containsExactly(newArrayList("a", "b", "c"));
+        assertThat(consumedInUiThread).containsExactly(true);
+    }
+
+    @Test
+    public void queuedElementsAreConsumedImmediately_whenFlushed() {
+        final List<List<String>> batches = new ArrayList<>();
+        final SwtBatchingQueue<String> queue = new SwtBatchingQueue<>(Display.getCurrent(), 50, batches::add);
+        queue.add("a");
+        queue.add("b");
+
+        queue.flush();
+
+        assertThat(batches).containsExactly(newArrayList("a", "b"));
+    }
+
+    @Test
+    public void elementsAreNotConsumed_whenQueueWasClearedOrDisposed() throws Exception {
+        final List<List<String>> batches = new ArrayList<>();
+        final SwtBatchingQueue<String> queue = new SwtBatchingQueue<>(Display.getCurrent(), 50, batches::add);
+        queue.add("a");
+        queue.clear();
+        queue.flush();
+
+        queue.add("b");
+        queue.dispose();
+        queue.add("c");
+        queue.flush();
+
+        assertThat(batches).isEmpty();
+    }
+
+    private static void runEventLoopUntilConsumed(final List<?> batches) throws InterruptedException {
+        final long timeout = System.currentTimeMillis() + 5000;
+        while (batches.isEmpty() && System.currentTimeMillis() < timeout) {
+            if (!Display.getCurrent().readAndDispatch()) {
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    private static List<String> newArrayList(final String... elements) {
+        final List<String> list = new ArrayList<>();
+        for (final String element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+}
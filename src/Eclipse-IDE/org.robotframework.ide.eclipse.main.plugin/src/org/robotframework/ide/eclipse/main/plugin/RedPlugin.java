@@ -56,6 +56,8 @@ public class RedPlugin extends AbstractUIPlugin {
     public void start(final BundleContext context) {
         try {
             super.start(context);
+            RobotRuntimeEnvironment
+                    .loadIntrospectionCache(getStateLocation().append("interpreters_introspection.json").toFile());
             if (RedSystemProperties.shouldShowSessionConsole()) {
                 RobotRuntimeEnvironment.addProcessListener(new RedSessionProcessListener());
             }
@@ -75,6 +75,8 @@ public class RedPreferences {
 
     public static final String LAUNCH_USE_SINGLE_COMMAND_LINE_ARGUMENT = "red.launch.useSingleCommandLineArgument";
 
+    public static final String LAUNCH_MESSAGE_LOG_IN_MEMORY_LIMIT = "red.launch.messageLogInMemoryLimit";
+
 
     public String getActiveRuntime() {
         return store.getString(ACTIVE_RUNTIME);
@@ -223,6 +225,10 @@ public class RedPreferences {
         return store.getBoolean(LAUNCH_USE_SINGLE_COMMAND_LINE_ARGUMENT);
     }
 
+    public int getLaunchMessageLogInMemoryLimit() {
+        return store.getInt(LAUNCH_MESSAGE_LOG_IN_MEMORY_LIMIT);
+    }
+
     public ColoringPreference getSyntaxColoring(final SyntaxHighlightingCategory category) {
         final int fontStyle = store.getInt(SYNTAX_COLORING_PREFIX + category.getId() + ".fontStyle");
         final int red = store.getInt(SYNTAX_COLORING_PREFIX + category.getId() + ".color.r");
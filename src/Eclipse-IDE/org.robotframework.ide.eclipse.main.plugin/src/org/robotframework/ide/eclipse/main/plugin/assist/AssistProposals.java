@@ -78,7 +78,7 @@ public class AssistProposals {
 
         final ArgumentsDescriptor argsDescriptor = keyword.createArgumentsDescriptor();
         return new RedLibraryKeywordProposal(spec.getName(), sourcePrefix, scope, bddPrefix, keyword.getName(),
-                argsDescriptor, keyword.getDocumentation(), keyword.isDeprecated(), exposingFilepath,
+                argsDescriptor, keyword::getDocumentation, keyword.isDeprecated(), exposingFilepath,
                 shouldUseQualified, match);
     }
 
@@ -10,6 +10,7 @@ import static com.google.common.collect.Lists.newArrayList;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.jface.resource.ImageDescriptor;
@@ -32,7 +33,9 @@ public abstract class RedKeywordProposal extends KeywordEntity implements Assist
 
     private final String bddPrefix;
 
-    private final String documentation;
+    // documentation of library keywords is read from specification file only when needed, so it
+    // is not requested until description of proposal is shown
+    private final Supplier<String> documentation;
 
     private final ProposalMatch match;
 
@@ -50,6 +53,14 @@ public abstract class RedKeywordProposal extends KeywordEntity implements Assist
             final String bddPrefix, final String name, final ArgumentsDescriptor argumentsDescriptor,
             final String documentation, final boolean isDeprecated, final IPath exposingFilePath,
             final Predicate<RedKeywordProposal> shouldUseQualifiedName, final ProposalMatch match) {
+        this(sourceName, sourceAlias, scope, bddPrefix, name, argumentsDescriptor, () -> documentation, isDeprecated,
+                exposingFilePath, shouldUseQualifiedName, match);
+    }
+
+    RedKeywordProposal(final String sourceName, final String sourceAlias, final KeywordScope scope,
+            final String bddPrefix, final String name, final ArgumentsDescriptor argumentsDescriptor,
+            final Supplier<String> documentation, final boolean isDeprecated, final IPath exposingFilePath,
+            final Predicate<RedKeywordProposal> shouldUseQualifiedName, final ProposalMatch match) {
 
         super(scope, sourceName, name, sourceAlias, isDeprecated, argumentsDescriptor, exposingFilePath);
         this.bddPrefix = bddPrefix;
@@ -122,7 +133,7 @@ public abstract class RedKeywordProposal extends KeywordEntity implements Assist
         builder.append("Name: ").append(getNameFromDefinition()).append("\n");
         builder.append("Source: ").append(getSourceDescription()).append("\n");
         builder.append("Arguments: ").append(getArgumentsDescriptor().getDescription()).append("\n\n");
-        builder.append(documentation);
+        builder.append(documentation.get());
 
         return builder.toString();
     }
@@ -171,6 +182,14 @@ public abstract class RedKeywordProposal extends KeywordEntity implements Assist
                     exposingFilePath, shouldUseQualifiedName, match);
         }
 
+        RedLibraryKeywordProposal(final String sourceName, final String sourceAlias, final KeywordScope scope,
+                final String bddPrefix, final String name, final ArgumentsDescriptor argumentsDescriptor,
+                final Supplier<String> documentation, final boolean isDeprecated, final IPath exposingFilePath,
+                final Predicate<RedKeywordProposal> shouldUseQualifiedName, final ProposalMatch match) {
+            super(sourceName, sourceAlias, scope, bddPrefix, name, argumentsDescriptor, documentation, isDeprecated,
+                    exposingFilePath, shouldUseQualifiedName, match);
+        }
+
         @Override
         public ImageDescriptor getImage() {
             return RedImages.getKeywordImage();
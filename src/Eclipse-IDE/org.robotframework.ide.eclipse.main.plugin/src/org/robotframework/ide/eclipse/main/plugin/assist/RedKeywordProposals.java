@@ -49,6 +49,9 @@ public class RedKeywordProposals {
 
     private final AssistProposalPredicate<LibrarySpecification> libraryPredicate;
 
+    // all accessible keywords are shared by conflicts checking of every proposal
+    private AccessibleKeywordsEntities allAccessibleKeywords;
+
     public RedKeywordProposals(final RobotSuiteFile suiteFile) {
         this(RedPlugin.getModelManager().getModel(), suiteFile, ProposalMatchers.embeddedKeywordsMatcher(),
                 AssistProposalPredicates.reservedLibraryPredicate());
@@ -87,8 +90,7 @@ public class RedKeywordProposals {
     }
 
     public RedKeywordProposal getBestMatchingKeywordProposal(final String keywordName) {
-        final AccessibleKeywordsEntities accessibleKeywordsEntities = getAccessibleKeywordsEntities(suiteFile, "");
-        final ListMultimap<KeywordScope, KeywordEntity> keywords = accessibleKeywordsEntities
+        final ListMultimap<KeywordScope, KeywordEntity> keywords = getAllAccessibleKeywords()
                 .getPossibleKeywords(keywordName, false);
 
         for (final KeywordScope scope : KeywordScope.defaultOrder()) {
@@ -99,6 +101,13 @@ public class RedKeywordProposals {
         return null;
     }
 
+    private AccessibleKeywordsEntities getAllAccessibleKeywords() {
+        if (allAccessibleKeywords == null) {
+            allAccessibleKeywords = getAccessibleKeywordsEntities(suiteFile, "");
+        }
+        return allAccessibleKeywords;
+    }
+
     private AccessibleKeywordsEntities getAccessibleKeywordsEntities(final RobotSuiteFile suite, final String userContent) {
         final AccessibleKeywordsCollector collector = new ProposalsKeywordCollector(shouldUseQualifiedName(),
                 userContent);
@@ -122,8 +131,7 @@ public class RedKeywordProposals {
     }
 
     private boolean keywordProposalIsConflicting(final RedKeywordProposal keywordEntity) {
-        final AccessibleKeywordsEntities accessibleKeywordsEntities = getAccessibleKeywordsEntities(suiteFile, "");
-        final ListMultimap<KeywordScope, KeywordEntity> keywords = accessibleKeywordsEntities
+        final ListMultimap<KeywordScope, KeywordEntity> keywords = getAllAccessibleKeywords()
                 .getPossibleKeywords(keywordEntity.getNameFromDefinition(), false);
 
         for (final KeywordScope scope : KeywordScope.defaultOrder()) {
@@ -15,6 +15,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IBreakpointManager;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.core.model.IDebugTarget;
@@ -29,6 +30,7 @@ import org.rf.ide.core.execution.server.response.ChangeVariable;
 import org.rf.ide.core.execution.server.response.InterruptExecution;
 import org.rf.ide.core.execution.server.response.ResumeExecution;
 import org.rf.ide.core.execution.server.response.ServerResponse.ResponseException;
+import org.robotframework.ide.eclipse.main.plugin.debug.utils.BreakpointsIndex;
 import org.robotframework.ide.eclipse.main.plugin.debug.utils.KeywordContext;
 import org.robotframework.ide.eclipse.main.plugin.debug.utils.RobotDebugStackFrameManager;
 import org.robotframework.ide.eclipse.main.plugin.debug.utils.RobotDebugVariablesManager;
@@ -67,12 +69,15 @@ public class RobotDebugTarget extends RobotDebugElement implements IDebugTarget
     
     private AgentClient client;
 
+    private final BreakpointsIndex breakpointsIndex;
+
     public RobotDebugTarget(final String name, final ILaunch launch) {
         super(null);
         this.name = name;
         this.launch = launch;
         this.currentKeywordsDebugContextMap = new LinkedHashMap<>();
         this.robotVariablesManager = new RobotDebugVariablesManager(this);
+        this.breakpointsIndex = new BreakpointsIndex();
 
         this.threads = null;
 
@@ -89,7 +94,9 @@ public class RobotDebugTarget extends RobotDebugElement implements IDebugTarget
         threads = new IThread[] { new RobotThread(this) };
         robotDebugStackFrameManager = new RobotDebugStackFrameManager(getThread());
 
-        DebugPlugin.getDefault().getBreakpointManager().addBreakpointListener(this);
+        final IBreakpointManager breakpointManager = DebugPlugin.getDefault().getBreakpointManager();
+        breakpointManager.addBreakpointListener(this);
+        breakpointsIndex.addAll(breakpointManager.getBreakpoints(RobotDebugElement.DEBUG_MODEL_ID));
 
         launch.addDebugTarget(this);
     }
@@ -266,12 +273,16 @@ public class RobotDebugTarget extends RobotDebugElement implements IDebugTarget
 
     @Override
     public void breakpointAdded(final IBreakpoint breakpoint) {
-
+        if (supportsBreakpoint(breakpoint)) {
+            breakpointsIndex.add(breakpoint);
+        }
     }
 
     @Override
     public void breakpointRemoved(final IBreakpoint breakpoint, final IMarkerDelta delta) {
-
+        if (supportsBreakpoint(breakpoint)) {
+            breakpointsIndex.remove(breakpoint);
+        }
     }
 
     @Override
@@ -365,4 +376,8 @@ public class RobotDebugTarget extends RobotDebugElement implements IDebugTarget
     public RobotDebugVariablesManager getRobotVariablesManager() {
         return robotVariablesManager;
     }
+
+    public BreakpointsIndex getBreakpointsIndex() {
+        return breakpointsIndex;
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.debug.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.model.IBreakpoint;
+
+/**
+ * Enabled breakpoints indexed by name of the file and line in which they are placed. The index is
+ * updated whenever breakpoints are added, changed or removed, so that checking if execution should
+ * be suspended at given keyword does not require iterating over all breakpoints and reading their
+ * marker attributes.
+ */
+public class BreakpointsIndex {
+
+    private final Map<Position, List<IBreakpoint>> breakpoints = new HashMap<>();
+
+    private final Map<IBreakpoint, Position> positions = new HashMap<>();
+
+    public synchronized void addAll(final IBreakpoint[] breakpoints) {
+        for (final IBreakpoint breakpoint : breakpoints) {
+            add(breakpoint);
+        }
+    }
+
+    /**
+     * Adds given breakpoint to the index or moves it, when it was already indexed at different
+     * position. Disabled breakpoints are removed from the index.
+     *
+     * @param breakpoint
+     */
+    public synchronized void add(final IBreakpoint breakpoint) {
+        remove(breakpoint);
+
+        final IMarker marker = breakpoint.getMarker();
+        if (marker == null || !marker.exists() || !isEnabled(breakpoint)) {
+            return;
+        }
+        final int line = marker.getAttribute(IMarker.LINE_NUMBER, -1);
+        if (line < 0) {
+            return;
+        }
+        final Position position = new Position(marker.getResource().getName(), line);
+        positions.put(breakpoint, position);
+        breakpoints.computeIfAbsent(position, p -> new ArrayList<>(1)).add(breakpoint);
+    }
+
+    public synchronized void remove(final IBreakpoint breakpoint) {
+        final Position position = positions.remove(breakpoint);
+        if (position != null) {
+            final List<IBreakpoint> breakpointsAtPosition = breakpoints.get(position);
+            breakpointsAtPosition.remove(breakpoint);
+            if (breakpointsAtPosition.isEmpty()) {
+                breakpoints.remove(position);
+            }
+        }
+    }
+
+    public synchronized List<IBreakpoint> getBreakpoints(final String fileName, final int line) {
+        final List<IBreakpoint> breakpointsAtPosition = breakpoints.get(new Position(fileName, line));
+        return breakpointsAtPosition == null ? Collections.<IBreakpoint> emptyList()
+                : new ArrayList<>(breakpointsAtPosition);
+    }
+
+    private static boolean isEnabled(final IBreakpoint breakpoint) {
+        try {
+            return breakpoint.isEnabled();
+        } catch (final CoreException e) {
+            return false;
+        }
+    }
+
+    private static final class Position {
+
+        private final String fileName;
+
+        private final int line;
+
+        private Position(final String fileName, final int line) {
+            this.fileName = fileName;
+            this.line = line;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            } else if (obj != null && obj.getClass() == getClass()) {
+                final Position that = (Position) obj;
+                return this.line == that.line && this.fileName.equals(that.fileName);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fileName, line);
+        }
+    }
+}
@@ -14,7 +14,6 @@ import java.util.Map;
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
-import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
@@ -23,7 +22,6 @@ import org.eclipse.core.runtime.Path;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IBreakpointManager;
 import org.eclipse.debug.core.model.IBreakpoint;
-import org.robotframework.ide.eclipse.main.plugin.debug.model.RobotDebugElement;
 import org.robotframework.ide.eclipse.main.plugin.debug.model.RobotDebugTarget;
 import org.robotframework.ide.eclipse.main.plugin.debug.model.RobotLineBreakpoint;
 
@@ -93,24 +91,19 @@ public class KeywordExecutionManager {
         }
 
         boolean hasBreakpoint = false;
-        final IBreakpoint[] currentBreakpoints = breakpointManager.getBreakpoints(RobotDebugElement.DEBUG_MODEL_ID);
+        // only enabled breakpoints placed in file of the same name and at the same line are indexed
+        final List<IBreakpoint> currentBreakpoints = target.getBreakpointsIndex().getBreakpoints(executedSuite,
+                keywordLineNumber);
         for (final IBreakpoint currentBreakpoint : currentBreakpoints) {
-            try {
-                if (currentBreakpoint.isEnabled() && isBreakpointSourceFileInCurrentExecutionContext(
-                        currentBreakpoint.getMarker().getResource(), executedSuite)) {
-                    final int breakpointLineNum = (int) currentBreakpoint.getMarker().getAttribute(IMarker.LINE_NUMBER);
-                    if (keywordLineNumber == breakpointLineNum) {
-                        final boolean hasHitCountConditionFulfilled = checkHitCountCondition(currentBreakpoint);
-                        if (hasHitCountConditionFulfilled) {
-                            breakpointCondition = currentBreakpoint.getMarker()
-                                    .getAttribute(RobotLineBreakpoint.CONDITIONAL_ATTRIBUTE, "");
-                            hasBreakpoint = true;
-                            target.breakpointHit(currentBreakpoint);
-                        }
-                    }
+            if (isBreakpointSourceFileInCurrentExecutionContext(currentBreakpoint.getMarker().getResource(),
+                    executedSuite)) {
+                final boolean hasHitCountConditionFulfilled = checkHitCountCondition(currentBreakpoint);
+                if (hasHitCountConditionFulfilled) {
+                    breakpointCondition = currentBreakpoint.getMarker()
+                            .getAttribute(RobotLineBreakpoint.CONDITIONAL_ATTRIBUTE, "");
+                    hasBreakpoint = true;
+                    target.breakpointHit(currentBreakpoint);
                 }
-            } catch (final CoreException e) {
-                e.printStackTrace();
             }
         }
         return hasBreakpoint;
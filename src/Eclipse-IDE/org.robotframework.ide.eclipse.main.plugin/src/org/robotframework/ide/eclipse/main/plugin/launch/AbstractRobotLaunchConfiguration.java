@@ -32,6 +32,8 @@ public abstract class AbstractRobotLaunchConfiguration implements IRobotLaunchCo
 
     private static final String AGENT_CONNECTION_TIMEOUT_ATTRIBUTE = "Agent connection timeout";
 
+    private static final String AGENT_CONNECTION_CLIENTS_LIMIT_ATTRIBUTE = "Agent connection clients limit";
+
     protected final ILaunchConfiguration configuration;
 
     protected AbstractRobotLaunchConfiguration(final ILaunchConfiguration config) {
@@ -132,6 +134,24 @@ public abstract class AbstractRobotLaunchConfiguration implements IRobotLaunchCo
         return AgentConnectionServer.DEFAULT_CONNECTION_TIMEOUT;
     }
 
+    @Override
+    public int getAgentConnectionClientsLimit() throws CoreException {
+        if (isUsingRemoteAgent()) {
+            final String clientsLimit = getAgentConnectionClientsLimitValue();
+            final Integer clientsLimitAsInt = Ints.tryParse(clientsLimit);
+            if (clientsLimitAsInt == null || !Range
+                    .closed(AgentConnectionServer.MIN_CLIENTS_LIMIT, AgentConnectionServer.MAX_CLIENTS_LIMIT)
+                    .contains(clientsLimitAsInt)) {
+                throw newCoreException(
+                        String.format("Parallel clients limit '%s' must be an Integer between %,d and %,d",
+                                clientsLimit, AgentConnectionServer.MIN_CLIENTS_LIMIT,
+                                AgentConnectionServer.MAX_CLIENTS_LIMIT));
+            }
+            return clientsLimitAsInt;
+        }
+        return AgentConnectionServer.DEFAULT_CLIENTS_LIMIT;
+    }
+
     @Override
     public String getAgentConnectionHostValue() throws CoreException {
         return configuration.getAttribute(AGENT_CONNECTION_HOST_ATTRIBUTE, "");
@@ -147,6 +167,12 @@ public abstract class AbstractRobotLaunchConfiguration implements IRobotLaunchCo
         return configuration.getAttribute(AGENT_CONNECTION_TIMEOUT_ATTRIBUTE, "");
     }
 
+    @Override
+    public String getAgentConnectionClientsLimitValue() throws CoreException {
+        return configuration.getAttribute(AGENT_CONNECTION_CLIENTS_LIMIT_ATTRIBUTE,
+                String.valueOf(AgentConnectionServer.DEFAULT_CLIENTS_LIMIT));
+    }
+
     @Override
     public void setUsingRemoteAgent(final boolean isRemoteAgent) throws CoreException {
         final ILaunchConfigurationWorkingCopy launchCopy = asWorkingCopy();
@@ -171,6 +197,12 @@ public abstract class AbstractRobotLaunchConfiguration implements IRobotLaunchCo
         launchCopy.setAttribute(AGENT_CONNECTION_TIMEOUT_ATTRIBUTE, timeout);
     }
 
+    @Override
+    public void setAgentConnectionClientsLimitValue(final String clientsLimit) throws CoreException {
+        final ILaunchConfigurationWorkingCopy launchCopy = asWorkingCopy();
+        launchCopy.setAttribute(AGENT_CONNECTION_CLIENTS_LIMIT_ATTRIBUTE, clientsLimit);
+    }
+
     @Override
     public void fillDefaults() throws CoreException {
         final RedPreferences preferences = RedPlugin.getDefault().getPreferences();
@@ -178,6 +210,7 @@ public abstract class AbstractRobotLaunchConfiguration implements IRobotLaunchCo
         setAgentConnectionHostValue(preferences.getLaunchAgentConnectionHost());
         setAgentConnectionPortValue(preferences.getLaunchAgentConnectionPort());
         setAgentConnectionTimeoutValue(preferences.getLaunchAgentConnectionTimeout());
+        setAgentConnectionClientsLimitValue(String.valueOf(AgentConnectionServer.DEFAULT_CLIENTS_LIMIT));
         setProjectName("");
         setProcessFactory(LaunchConfigurationsWrappers.FACTORY_ID);
     }
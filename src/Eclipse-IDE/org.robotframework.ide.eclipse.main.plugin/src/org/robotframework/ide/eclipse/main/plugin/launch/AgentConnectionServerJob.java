@@ -10,6 +10,7 @@ import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -30,15 +31,20 @@ public class AgentConnectionServerJob extends Job {
 
     private final TimeUnit timeoutUnit;
 
+    private final int clientsLimit;
+
     private final List<AgentServerStatusListener> serverListeners;
 
     private final List<RobotAgentEventListener> agentEventListeners;
 
+    private final List<Supplier<RobotAgentEventListener>> clientAgentEventListenersSuppliers;
+
     private AgentConnectionServer agentServer;
 
     private AgentConnectionServerJob(final String host, final int port, final int timeout, final TimeUnit timeoutUnit,
-            final List<AgentServerStatusListener> serverStatusListeners,
-            final List<RobotAgentEventListener> agentEventListeners) {
+            final int clientsLimit, final List<AgentServerStatusListener> serverStatusListeners,
+            final List<RobotAgentEventListener> agentEventListeners,
+            final List<Supplier<RobotAgentEventListener>> clientAgentEventListenersSuppliers) {
         super("Agent connection server");
         setSystem(true);
 
@@ -46,8 +52,10 @@ public class AgentConnectionServerJob extends Job {
         this.port = port;
         this.timeout = timeout;
         this.timeoutUnit = timeoutUnit;
+        this.clientsLimit = clientsLimit;
         this.serverListeners = serverStatusListeners;
         this.agentEventListeners = agentEventListeners;
+        this.clientAgentEventListenersSuppliers = clientAgentEventListenersSuppliers;
     }
 
     public static AgentConnectionServerJobBuilder setupServerAt(final String host, final int port) {
@@ -57,11 +65,11 @@ public class AgentConnectionServerJob extends Job {
     @Override
     protected IStatus run(final IProgressMonitor monitor) {
         try {
-            agentServer = new AgentConnectionServer(host, port, timeout, timeoutUnit);
+            agentServer = new AgentConnectionServer(host, port, timeout, timeoutUnit, clientsLimit);
             for (final AgentServerStatusListener serverStatusListener : serverListeners) {
                 agentServer.addStatusListener(serverStatusListener);
             }
-            agentServer.start(agentEventListeners.toArray(new RobotAgentEventListener[0]));
+            agentServer.start(this::createClientAgentEventListeners);
             return Status.OK_STATUS;
         } catch (final UnknownHostException e) {
             return new Status(IStatus.ERROR, RedPlugin.PLUGIN_ID,
@@ -72,6 +80,14 @@ public class AgentConnectionServerJob extends Job {
         }
     }
 
+    private RobotAgentEventListener[] createClientAgentEventListeners() {
+        final List<RobotAgentEventListener> listeners = new ArrayList<>(agentEventListeners);
+        for (final Supplier<RobotAgentEventListener> supplier : clientAgentEventListenersSuppliers) {
+            listeners.add(supplier.get());
+        }
+        return listeners.toArray(new RobotAgentEventListener[0]);
+    }
+
     public AgentConnectionServerJob waitForServer() throws InterruptedException {
         while (agentServer == null) {
             Thread.sleep(500);
@@ -100,15 +116,20 @@ public class AgentConnectionServerJob extends Job {
 
         private TimeUnit timeoutUnit;
 
+        private int clientsLimit;
+
         private final List<AgentServerStatusListener> serverListeners = new ArrayList<>();
 
         private final List<RobotAgentEventListener> agentEventListeners = new ArrayList<>();
 
+        private final List<Supplier<RobotAgentEventListener>> clientAgentEventListenersSuppliers = new ArrayList<>();
+
         public AgentConnectionServerJobBuilder(final String host, final int port) {
             this.host = host;
             this.port = port;
             this.timeout = AgentConnectionServer.DEFAULT_CONNECTION_TIMEOUT;
             this.timeoutUnit = TimeUnit.SECONDS;
+            this.clientsLimit = AgentConnectionServer.DEFAULT_CLIENTS_LIMIT;
         }
 
         public AgentConnectionServerJobBuilder withConnectionTimeout(final int timeout, final TimeUnit timeoutUnit) {
@@ -117,23 +138,56 @@ public class AgentConnectionServerJob extends Job {
             return this;
         }
 
+        public AgentConnectionServerJobBuilder withClientsLimit(final int clientsLimit) {
+            this.clientsLimit = clientsLimit;
+            return this;
+        }
+
         public AgentConnectionServerJobBuilder serverStatusHandledBy(final AgentServerStatusListener listener) {
             serverListeners.add(listener);
             return this;
         }
 
+        /**
+         * Given listener will be shared by all connected agents, so when there may be many agents
+         * connected at the same time it should not depend on the client it is given, because the
+         * client is set again for each connected agent.
+         *
+         * @param listener
+         * @return
+         */
         public AgentConnectionServerJobBuilder agentEventsListenedBy(final RobotAgentEventListener listener) {
             agentEventListeners.add(listener);
             return this;
         }
 
+        /**
+         * @see #agentEventsListenedBy(RobotAgentEventListener)
+         * @param listeners
+         * @return
+         */
         public AgentConnectionServerJobBuilder agentEventsListenedBy(final List<RobotAgentEventListener> listeners) {
             agentEventListeners.addAll(listeners);
             return this;
         }
 
+        /**
+         * Given supplier will be asked for new listener for each connected agent, so it should be
+         * used for listeners which are tracking the state of single agent when there may be many
+         * agents connected at the same time.
+         *
+         * @param listenerSupplier
+         * @return
+         */
+        public AgentConnectionServerJobBuilder clientAgentEventsListenedBy(
+                final Supplier<RobotAgentEventListener> listenerSupplier) {
+            clientAgentEventListenersSuppliers.add(listenerSupplier);
+            return this;
+        }
+
         public AgentConnectionServerJob createJob() {
-            return new AgentConnectionServerJob(host, port, timeout, timeoutUnit, serverListeners, agentEventListeners);
+            return new AgentConnectionServerJob(host, port, timeout, timeoutUnit, clientsLimit, serverListeners,
+                    agentEventListeners, clientAgentEventListenersSuppliers);
         }
 
         public AgentConnectionServerJob start() {
@@ -8,12 +8,14 @@ package org.robotframework.ide.eclipse.main.plugin.launch;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IPath;
@@ -38,7 +40,6 @@ import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
 import org.robotframework.ide.eclipse.main.plugin.debug.model.RobotDebugTarget;
 import org.robotframework.ide.eclipse.main.plugin.debug.utils.KeywordContext;
 import org.robotframework.ide.eclipse.main.plugin.debug.utils.KeywordExecutionManager;
-import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
 import org.robotframework.ide.eclipse.main.plugin.tableeditor.RobotFormEditor;
 
 public class DebugExecutionEventsListener extends RobotDefaultAgentEventListener {
@@ -51,6 +52,8 @@ public class DebugExecutionEventsListener extends RobotDefaultAgentEventListener
 
     private final KeywordExecutionManager keywordExecutionManager;
 
+    private final Map<IProject, RobotParser> robotParsers = new HashMap<>();
+
     private boolean isStopping;
 
     private boolean isBreakpointConditionFulfilled;
@@ -82,12 +85,18 @@ public class DebugExecutionEventsListener extends RobotDefaultAgentEventListener
 
         final IFile currentSuiteFile = keywordExecutionManager.extractCurrentSuite(suitePath);
         if (currentSuiteFile != null) {
-            final RobotSuiteFile robotSuiteFile = RedPlugin.getModelManager().createSuiteFile(currentSuiteFile);
-            final RobotParser robotParser = robotSuiteFile.getProject().getEagerRobotParser();
-            executionContext.startSuite(robotParser.parse(currentSuiteFile.getLocation().toFile()).get(0), robotParser);
+            startSuite(currentSuiteFile);
         }
     }
 
+    private void startSuite(final IFile suiteFile) {
+        // parser is created once per project and it takes already parsed and unchanged files from
+        // project model, so suites and resources seen earlier in this launch are not parsed again
+        final RobotParser robotParser = robotParsers.computeIfAbsent(suiteFile.getProject(),
+                project -> RedPlugin.getModelManager().createProject(project).getEagerRobotParser());
+        executionContext.startSuite(robotParser.parse(suiteFile.getLocation().toFile()).get(0), robotParser);
+    }
+
     @Override
     public void handleSuiteEnded(final String suiteName, final int elapsedTime, final Status status,
             final String errorMessage) {
@@ -197,9 +206,7 @@ public class DebugExecutionEventsListener extends RobotDefaultAgentEventListener
         keywordExecutionManager.setCurrentSuiteParent(suiteContainer);
         keywordExecutionManager.setCurrentSuiteName(suiteFile.getName());
         keywordExecutionManager.setCurrentSuiteFile(suiteFile);
-        final RobotSuiteFile robotSuiteFile = RedPlugin.getModelManager().createSuiteFile(suiteFile);
-        final RobotParser robotParser = robotSuiteFile.getProject().getEagerRobotParser();
-        executionContext.startSuite(robotParser.parse(suiteFile.getLocation().toFile()).get(0), robotParser);
+        startSuite(suiteFile);
     }
 
     private void showError(final String title, final String message) {
@@ -241,6 +248,16 @@ public class DebugExecutionEventsListener extends RobotDefaultAgentEventListener
         debugTarget.getRobotVariablesManager().setGlobalVariables(globalVars);
     }
 
+    @Override
+    public boolean isHandlingVariables() {
+        return true;
+    }
+
+    @Override
+    public boolean isHandlingKeywords() {
+        return true;
+    }
+
     @Override
     public void handleVariables(final Map<String, Object> vars) {
         debugTarget.getLastKeywordFromCurrentContext().setVariables(vars);
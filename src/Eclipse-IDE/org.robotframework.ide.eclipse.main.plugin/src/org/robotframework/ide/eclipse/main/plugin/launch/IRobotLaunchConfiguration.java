@@ -38,12 +38,16 @@ public interface IRobotLaunchConfiguration {
 
     int getAgentConnectionTimeout() throws CoreException;
 
+    int getAgentConnectionClientsLimit() throws CoreException;
+
     String getAgentConnectionHostValue() throws CoreException;
 
     String getAgentConnectionPortValue() throws CoreException;
 
     String getAgentConnectionTimeoutValue() throws CoreException;
 
+    String getAgentConnectionClientsLimitValue() throws CoreException;
+
     void setUsingRemoteAgent(boolean isRemoteAgent) throws CoreException;
 
     void setAgentConnectionHostValue(String host) throws CoreException;
@@ -52,6 +56,8 @@ public interface IRobotLaunchConfiguration {
 
     void setAgentConnectionTimeoutValue(String timeout) throws CoreException;
 
+    void setAgentConnectionClientsLimitValue(String clientsLimit) throws CoreException;
+
     static boolean lockConfigurationLaunches() {
         return IS_CONFIGURATION_RUNNING.getAndSet(true);
     }
@@ -41,25 +41,21 @@ class RemoteConnectionStatusTracker extends RobotDefaultAgentEventListener
     @Override
     public void clientConnectionClosed(final int clientId) {
         writeMessageLine("Remote connection closed (client id #" + clientId + ")");
-        endQueueing();
     }
 
     @Override
     public void clientConnectionTimedOut(final SocketTimeoutException e) {
         writeMessageLine("A timeout was reached while waiting for a remote connection");
-        endQueueing();
     }
 
     @Override
     public void clientConnectionError(final IOException e) {
         writeMessageLine("Connection error occurred:\n" + indentMessage(e.getMessage()));
-        endQueueing();
     }
 
     @Override
     public void clientEventHandlingError(final RobotAgentEventsListenerException e) {
         writeMessageLine("Error occurred when communicating with agent:\n" + indentMessage(e.getMessage()));
-        endQueueing();
     }
 
     private static String indentMessage(final String message) {
@@ -87,7 +83,11 @@ class RemoteConnectionStatusTracker extends RobotDefaultAgentEventListener
         }
     }
 
-    private void endQueueing() {
+    /**
+     * Should be called when server is stopped. Messages are written as long as the server works,
+     * since when many agents are allowed they may connect one after another.
+     */
+    void stopTracking() {
         try {
             messagesQueue.put(POISON_PILL);
         } catch (final InterruptedException e) {
@@ -7,11 +7,15 @@ package org.robotframework.ide.eclipse.main.plugin.launch.remote;
 
 import static org.robotframework.ide.eclipse.main.plugin.RedPlugin.newCoreException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
@@ -22,6 +26,7 @@ import org.rf.ide.core.execution.server.AgentServerTestsStarter;
 import org.robotframework.ide.eclipse.main.plugin.debug.model.RobotDebugTarget;
 import org.robotframework.ide.eclipse.main.plugin.launch.AbstractRobotLaunchConfigurationDelegate;
 import org.robotframework.ide.eclipse.main.plugin.launch.AgentConnectionServerJob;
+import org.robotframework.ide.eclipse.main.plugin.launch.AgentConnectionServerJob.AgentConnectionServerJobBuilder;
 import org.robotframework.ide.eclipse.main.plugin.launch.DebugExecutionEventsListener;
 import org.robotframework.ide.eclipse.main.plugin.launch.IRobotProcess;
 import org.robotframework.ide.eclipse.main.plugin.launch.RobotConsoleFacade;
@@ -40,21 +45,30 @@ public class RemoteRobotLaunchConfigurationDelegate extends AbstractRobotLaunchC
         final String host = robotConfig.getAgentConnectionHost();
         final int port = robotConfig.getAgentConnectionPort();
         final int timeout = robotConfig.getAgentConnectionTimeout();
+        final int clientsLimit = robotConfig.getAgentConnectionClientsLimit();
 
         try {
             final AgentServerTestsStarter testsStarter = new AgentServerTestsStarter(testsMode);
             final LaunchExecution launchExecution;
-            if (testsMode == TestsMode.RUN) {
-                launchExecution = doLaunch(launch, testsLaunchContext, host, port, timeout,
-                        Arrays.asList(testsStarter));
+            if (testsMode == TestsMode.RUN && clientsLimit > 1) {
+                // many agents may be connected in parallel, so each of them needs own starter
+                launchExecution = doLaunch(launch, testsLaunchContext, host, port, timeout, clientsLimit,
+                        new ArrayList<>(), () -> {
+                            final AgentServerTestsStarter clientTestsStarter = new AgentServerTestsStarter(testsMode);
+                            clientTestsStarter.allowClientTestsStart();
+                            return clientTestsStarter;
+                        });
+            } else if (testsMode == TestsMode.RUN) {
+                launchExecution = doLaunch(launch, testsLaunchContext, host, port, timeout, 1,
+                        Arrays.asList(testsStarter), null);
             } else {
                 final RobotDebugTarget debugTarget = new RobotDebugTarget("Remote Robot Test at " + host + ":" + port,
                         launch);
                 final DebugExecutionEventsListener debugListener = new DebugExecutionEventsListener(debugTarget,
                         robotConfig.getResourcesUnderDebug());
 
-                launchExecution = doLaunch(launch, testsLaunchContext, host, port, timeout,
-                        Arrays.asList(testsStarter, debugListener));
+                launchExecution = doLaunch(launch, testsLaunchContext, host, port, timeout, 1,
+                        Arrays.asList(testsStarter, debugListener), null);
 
                 if (launchExecution.getRobotProcess() != null) {
                     debugTarget.connectWith(launchExecution.getRobotProcess());
@@ -69,20 +83,35 @@ public class RemoteRobotLaunchConfigurationDelegate extends AbstractRobotLaunchC
     }
 
     private LaunchExecution doLaunch(final ILaunch launch, final RobotTestsLaunch testsLaunchContext, final String host,
-            final int port, final int timeout, final List<RobotAgentEventListener> additionalListeners)
+            final int port, final int timeout, final int clientsLimit,
+            final List<RobotAgentEventListener> additionalListeners,
+            final Supplier<RobotAgentEventListener> additionalClientListenerSupplier)
             throws InterruptedException, CoreException {
 
         final RemoteConnectionStatusTracker remoteConnectionStatusTracker = new RemoteConnectionStatusTracker();
-        final AgentConnectionServerJob serverJob = AgentConnectionServerJob.setupServerAt(host, port)
+        final AgentConnectionServerJobBuilder serverJobBuilder = AgentConnectionServerJob.setupServerAt(host, port)
                 .withConnectionTimeout(timeout, TimeUnit.SECONDS)
+                .withClientsLimit(clientsLimit)
                 .serverStatusHandledBy(remoteConnectionStatusTracker)
                 .agentEventsListenedBy(remoteConnectionStatusTracker)
-                .agentEventsListenedBy(additionalListeners)
+                .agentEventsListenedBy(additionalListeners);
+        if (additionalClientListenerSupplier != null) {
+            serverJobBuilder.clientAgentEventsListenedBy(additionalClientListenerSupplier);
+        }
+        final AgentConnectionServerJob serverJob = serverJobBuilder
                 .agentEventsListenedBy(new ExecutionMessagesTracker(testsLaunchContext))
-                .agentEventsListenedBy(new ExecutionElementsTracker(testsLaunchContext))
-                .agentEventsListenedBy(new AgentServerKeepAlive())
-                .start()
-                .waitForServer();
+                .clientAgentEventsListenedBy(() -> new ExecutionElementsTracker(testsLaunchContext))
+                .clientAgentEventsListenedBy(AgentServerKeepAlive::new)
+                .createJob();
+        serverJob.addJobChangeListener(new JobChangeAdapter() {
+
+            @Override
+            public void done(final IJobChangeEvent event) {
+                remoteConnectionStatusTracker.stopTracking();
+            }
+        });
+        serverJob.schedule();
+        serverJob.waitForServer();
 
         if (serverJob.getResult() != null && !serverJob.getResult().isOK()) {
             return new LaunchExecution(serverJob, null, null);
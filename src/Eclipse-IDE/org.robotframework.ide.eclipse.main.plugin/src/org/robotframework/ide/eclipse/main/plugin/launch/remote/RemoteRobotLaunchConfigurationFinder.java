@@ -41,6 +41,7 @@ class RemoteRobotLaunchConfigurationFinder {
         return rConfig1.getProjectName().equals(rConfig2.getProjectName())
                 && rConfig1.getAgentConnectionHost().equals(rConfig2.getAgentConnectionHost())
                 && rConfig1.getAgentConnectionPort() == rConfig2.getAgentConnectionPort()
-                && rConfig1.getAgentConnectionTimeout() == rConfig2.getAgentConnectionTimeout();
+                && rConfig1.getAgentConnectionTimeout() == rConfig2.getAgentConnectionTimeout()
+                && rConfig1.getAgentConnectionClientsLimit() == rConfig2.getAgentConnectionClientsLimit();
     }
 }
@@ -55,6 +55,8 @@ class LaunchConfigurationListenerTab extends AbstractLaunchConfigurationTab impl
 
     private Text timeoutTxt;
 
+    private Text clientsLimitTxt;
+
     private Group clientGroup;
 
     private Text commandLineArgument;
@@ -151,6 +153,11 @@ class LaunchConfigurationListenerTab extends AbstractLaunchConfigurationTab impl
         portTxt = createLabeledText(serverGroup, "Local port:");
 
         timeoutTxt = createLabeledText(serverGroup, "Connection timeout [s]:");
+
+        if (!isAgentTypeButtonSelection) {
+            // many agents may connect only to remote server, e.g. when tests are run by pabot
+            clientsLimitTxt = createLabeledText(serverGroup, "Parallel clients limit:");
+        }
     }
 
     private Text createLabeledText(final Composite parent, final String label) {
@@ -229,6 +236,9 @@ class LaunchConfigurationListenerTab extends AbstractLaunchConfigurationTab impl
             hostTxt.setText(robotConfig.getAgentConnectionHostValue());
             portTxt.setText(robotConfig.getAgentConnectionPortValue());
             timeoutTxt.setText(robotConfig.getAgentConnectionTimeoutValue());
+            if (clientsLimitTxt != null) {
+                clientsLimitTxt.setText(robotConfig.getAgentConnectionClientsLimitValue());
+            }
 
             updateCommandLineArguments();
             updateRemoteGroupState();
@@ -276,6 +286,9 @@ class LaunchConfigurationListenerTab extends AbstractLaunchConfigurationTab impl
             robotConfig.setAgentConnectionHostValue(hostTxt.getText().trim());
             robotConfig.setAgentConnectionPortValue(portTxt.getText().trim());
             robotConfig.setAgentConnectionTimeoutValue(timeoutTxt.getText().trim());
+            if (clientsLimitTxt != null) {
+                robotConfig.setAgentConnectionClientsLimitValue(clientsLimitTxt.getText().trim());
+            }
         } catch (final CoreException e) {
             DetailedErrorDialog.openErrorDialog("Problem with Launch Configuration",
                     "RED was unable to load the working copy of Launch Configuration.");
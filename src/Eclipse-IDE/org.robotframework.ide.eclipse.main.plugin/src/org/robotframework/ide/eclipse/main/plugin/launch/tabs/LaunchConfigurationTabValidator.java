@@ -84,6 +84,7 @@ class LaunchConfigurationTabValidator {
                 robotConfig.getAgentConnectionHost();
                 robotConfig.getAgentConnectionPort();
                 robotConfig.getAgentConnectionTimeout();
+                robotConfig.getAgentConnectionClientsLimit();
             }
         } catch (final CoreException e) {
             throw new LaunchConfigurationValidationFatalException(e.getStatus().getMessage());
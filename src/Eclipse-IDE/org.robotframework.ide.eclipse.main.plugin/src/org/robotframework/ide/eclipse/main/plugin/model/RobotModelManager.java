@@ -33,6 +33,9 @@ public final class RobotModelManager {
                 notifyAboutChanges(changes);
             } else if (event.getType() == IResourceChangeEvent.PRE_DELETE) {
                 RedFileWatcher.getInstance().closeWatchService();
+                InstanceHolder.INSTANCE.getModel()
+                        .createRobotProject((IProject) event.getResource())
+                        .clearParsedFilesCache();
             }
         }
 
@@ -39,6 +39,7 @@ import org.rf.ide.core.project.RobotProjectConfig.ReferencedVariableFile;
 import org.rf.ide.core.project.RobotProjectConfig.RemoteLocation;
 import org.rf.ide.core.project.RobotProjectConfig.SearchPath;
 import org.rf.ide.core.project.RobotProjectConfigReader.CannotReadProjectConfigurationException;
+import org.rf.ide.core.testdata.RobotFileOutputCache;
 import org.rf.ide.core.testdata.RobotParser;
 import org.rf.ide.core.testdata.model.RobotExpressions;
 import org.rf.ide.core.testdata.model.RobotProjectHolder;
@@ -48,6 +49,7 @@ import org.robotframework.ide.eclipse.main.plugin.project.LibrariesWatchHandler;
 import org.robotframework.ide.eclipse.main.plugin.project.RedEclipseProjectConfig;
 import org.robotframework.ide.eclipse.main.plugin.project.RedEclipseProjectConfig.PathResolvingException;
 import org.robotframework.ide.eclipse.main.plugin.project.RedEclipseProjectConfigReader;
+import org.robotframework.ide.eclipse.main.plugin.project.build.ImportDependencyGraph;
 import org.robotframework.ide.eclipse.main.plugin.project.editor.RedProjectEditor;
 import org.robotframework.ide.eclipse.main.plugin.project.editor.RedProjectEditorInput;
 import org.robotframework.ide.eclipse.main.plugin.project.library.LibrarySpecification;
@@ -75,6 +77,8 @@ public class RobotProject extends RobotContainer {
 
     private final Map<String, RobotDryRunKeywordSource> kwSources = new ConcurrentHashMap<>();
 
+    private final ImportDependencyGraph importDependencies = new ImportDependencyGraph();
+
     RobotProject(final RobotModel model, final IProject project) {
         super(model, project);
         librariesWatchHandler = new LibrariesWatchHandler(this);
@@ -83,11 +87,29 @@ public class RobotProject extends RobotContainer {
     public synchronized RobotProjectHolder getRobotProjectHolder() {
         if (projectHolder == null) {
             projectHolder = new RobotProjectHolder(getRuntimeEnvironment());
+            projectHolder.setParsedFilesCache(createParsedFilesCache());
         }
         projectHolder.configure(getRobotProjectConfig(), getProject().getLocation().toFile());
         return projectHolder;
     }
 
+    /**
+     * Removes outputs of parsed files stored for this project. Should be called when the project
+     * is cleaned or deleted.
+     */
+    public void clearParsedFilesCache() {
+        createParsedFilesCache().clear();
+    }
+
+    private RobotFileOutputCache createParsedFilesCache() {
+        return new RobotFileOutputCache(
+                getProject().getWorkingLocation(RedPlugin.PLUGIN_ID).append("parsed").toFile());
+    }
+
+    public ImportDependencyGraph getImportDependencies() {
+        return importDependencies;
+    }
+
     public RobotParser getEagerRobotParser() {
         return RobotParser.createEager(getRobotProjectHolder(), createPathsProvider());
     }
@@ -303,6 +325,7 @@ public class RobotProject extends RobotContainer {
         projectHolder = null;
         clearConfiguration();
         clearKwSources();
+        importDependencies.clear();
     }
 
     public synchronized void clearConfiguration() {
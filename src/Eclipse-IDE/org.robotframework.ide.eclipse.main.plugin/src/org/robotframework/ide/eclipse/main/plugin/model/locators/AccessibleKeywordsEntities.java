@@ -5,12 +5,15 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.model.locators;
 
+import static com.google.common.collect.Lists.newArrayList;
+
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
 
 import org.eclipse.core.runtime.IPath;
 import org.rf.ide.core.testdata.model.search.keyword.KeywordScope;
@@ -20,6 +23,7 @@ import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
 
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ListMultimap;
+import com.google.common.io.Files;
 
 /**
  * @author Michal Anglart
@@ -34,6 +38,12 @@ public class AccessibleKeywordsEntities {
 
     private Map<String, Collection<KeywordEntity>> accessibleKeywords;
 
+    private ListMultimap<KeywordScope, KeywordEntity> possibleKeywords;
+
+    private KeywordsIndex accessibleKeywordsIndex;
+
+    private KeywordsIndex possibleKeywordsIndex;
+
     public AccessibleKeywordsEntities(final IPath filepath, final AccessibleKeywordsCollector collector) {
         this.filepath = filepath;
         this.collector = collector;
@@ -59,10 +69,13 @@ public class AccessibleKeywordsEntities {
 
     public ListMultimap<String, KeywordEntity> findPossibleKeywords(final String keywordName,
             final boolean stopIfOneWasMatching) {
-        final Collection<KeywordEntity> filterAgainstDuplications = getAccessibleKeywordsDeduplicated();
+        if (accessibleKeywordsIndex == null) {
+            accessibleKeywordsIndex = new KeywordsIndex(getAccessibleKeywordsDeduplicated());
+        }
 
         ListMultimap<String, KeywordEntity> foundKeywords = keywordSearcher.findKeywords(getAccessibleKeywords(),
-                filterAgainstDuplications, new KeywordEntityExtractor(), keywordName, stopIfOneWasMatching);
+                accessibleKeywordsIndex.findCandidates(keywordName), new KeywordEntityExtractor(), keywordName,
+                stopIfOneWasMatching);
 
         return foundKeywords;
     }
@@ -77,15 +90,18 @@ public class AccessibleKeywordsEntities {
     }
 
     public ListMultimap<KeywordScope, KeywordEntity> getPossibleKeywords() {
-        final Map<String, Collection<KeywordEntity>> allKeywords = getAccessibleKeywords();
-        final ListMultimap<KeywordScope, KeywordEntity> scopedKeywords = ArrayListMultimap.create();
-
-        for (final Collection<KeywordEntity> entities : allKeywords.values()) {
-            for (final KeywordEntity entity : filterDuplicates(entities)) {
-                scopedKeywords.put(entity.getScope(getFilepath()), entity);
+        if (possibleKeywords == null) {
+            final Map<String, Collection<KeywordEntity>> allKeywords = getAccessibleKeywords();
+            final ListMultimap<KeywordScope, KeywordEntity> scopedKeywords = ArrayListMultimap.create();
+
+            for (final Collection<KeywordEntity> entities : allKeywords.values()) {
+                for (final KeywordEntity entity : filterDuplicates(entities)) {
+                    scopedKeywords.put(entity.getScope(getFilepath()), entity);
+                }
             }
+            possibleKeywords = scopedKeywords;
         }
-        return scopedKeywords;
+        return possibleKeywords;
     }
 
     public ListMultimap<KeywordScope, KeywordEntity> getPossibleKeywords(
@@ -105,11 +121,15 @@ public class AccessibleKeywordsEntities {
     public ListMultimap<KeywordScope, KeywordEntity> getPossibleKeywords(final String keywordName,
             final boolean stopIfOneWasMatching) {
 
-        List<KeywordEntity> hereKeywords = new ArrayList<>();
-        hereKeywords.addAll(getPossibleKeywords().values());
+        if (possibleKeywordsIndex == null) {
+            final List<KeywordEntity> hereKeywords = new ArrayList<>();
+            hereKeywords.addAll(getPossibleKeywords().values());
+            possibleKeywordsIndex = new KeywordsIndex(filterDuplicates(hereKeywords));
+        }
 
         ListMultimap<String, KeywordEntity> foundKeywords = keywordSearcher.findKeywords(getAccessibleKeywords(),
-                filterDuplicates(hereKeywords), new KeywordEntityExtractor(), keywordName, stopIfOneWasMatching);
+                possibleKeywordsIndex.findCandidates(keywordName), new KeywordEntityExtractor(), keywordName,
+                stopIfOneWasMatching);
 
         return getPossibleKeywords(foundKeywords, keywordName);
     }
@@ -167,6 +187,71 @@ public class AccessibleKeywordsEntities {
         }
     }
 
+    /**
+     * Keywords indexed by unified names under which they can be called, with and without library or
+     * resource prefix. Only keywords found for given name and keywords with embedded arguments
+     * are passed to keyword searcher, so that it does not have to match every accessible keyword
+     * each time. Candidates are returned in the original order, so the search result is the same
+     * as for all keywords.
+     */
+    private final class KeywordsIndex {
+
+        private final List<KeywordEntity> keywords;
+
+        private final ListMultimap<String, Integer> positionsByName = ArrayListMultimap.create();
+
+        private final List<Integer> alwaysMatchedPositions = new ArrayList<>();
+
+        private KeywordsIndex(final Collection<KeywordEntity> keywords) {
+            this.keywords = new ArrayList<>(keywords);
+
+            final KeywordEntityExtractor extractor = new KeywordEntityExtractor();
+            for (int i = 0; i < this.keywords.size(); i++) {
+                final KeywordEntity keyword = this.keywords.get(i);
+                final String keywordName = QualifiedKeywordName.unifyDefinition(extractor.keywordName(keyword))
+                        .toLowerCase();
+                final List<String> names = new ArrayList<>();
+                names.add(keywordName);
+                for (final String prefix : newArrayList(extractor.alias(keyword), extractor.sourceName(keyword),
+                        Files.getNameWithoutExtension(extractor.path(keyword).getFileName().toString()))) {
+                    if (!prefix.isEmpty()) {
+                        names.add(QualifiedKeywordName.unifyDefinition(prefix.toLowerCase() + "." + keywordName));
+                    }
+                }
+
+                if (containsVariable(names)) {
+                    // names with variables may match by pattern, so searcher has to check them
+                    alwaysMatchedPositions.add(i);
+                } else {
+                    for (final String name : names) {
+                        positionsByName.put(name, i);
+                    }
+                }
+            }
+        }
+
+        private boolean containsVariable(final List<String> names) {
+            for (final String name : names) {
+                if (name.indexOf('$') != -1) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private List<KeywordEntity> findCandidates(final String usageName) {
+            final TreeSet<Integer> positions = new TreeSet<>(alwaysMatchedPositions);
+            for (final String name : keywordSearcher.getNamesToCheck(usageName)) {
+                positions.addAll(positionsByName.get(QualifiedKeywordName.unifyDefinition(name)));
+            }
+            final List<KeywordEntity> candidates = new ArrayList<>(positions.size());
+            for (final Integer position : positions) {
+                candidates.add(keywords.get(position));
+            }
+            return candidates;
+        }
+    }
+
     public interface AccessibleKeywordsCollector {
 
         Map<String, Collection<KeywordEntity>> collect();
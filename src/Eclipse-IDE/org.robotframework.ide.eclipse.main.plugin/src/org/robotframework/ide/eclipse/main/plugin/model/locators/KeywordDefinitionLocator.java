@@ -8,6 +8,7 @@ package org.robotframework.ide.eclipse.main.plugin.model.locators;
 import static com.google.common.collect.Iterables.filter;
 import static com.google.common.collect.Sets.newHashSet;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -73,7 +74,7 @@ public class KeywordDefinitionLocator {
         if (shouldContinue == ContinueDecision.STOP) {
             return;
         }
-        final List<IPath> resources = ResourceImportsPathsResolver.getWorkspaceRelativeResourceFilesPaths(startingFile);
+        final List<IFile> resources = getImportedResourceFiles(startingFile);
         shouldContinue = locateInResourceFiles(resources, newHashSet(startingFile.getFile()), startingFile, detector);
         if (shouldContinue == ContinueDecision.STOP) {
             return;
@@ -95,19 +96,16 @@ public class KeywordDefinitionLocator {
         return ContinueDecision.CONTINUE;
     }
 
-    private ContinueDecision locateInResourceFiles(final List<IPath> resources, final Set<IFile> alreadyVisited,
+    private ContinueDecision locateInResourceFiles(final List<IFile> resources, final Set<IFile> alreadyVisited,
             final RobotSuiteFile startingFile, final KeywordDetector detector) {
-        for (final IPath path : resources) {
-            final IResource resourceFile = file.getWorkspace().getRoot().findMember(path);
-            if (resourceFile == null || !resourceFile.exists() || resourceFile.getType() != IResource.FILE
-                    || alreadyVisited.contains(resourceFile)) {
+        for (final IFile resourceFile : resources) {
+            if (alreadyVisited.contains(resourceFile)) {
                 continue;
             }
-            alreadyVisited.add((IFile) resourceFile);
+            alreadyVisited.add(resourceFile);
 
-            final RobotSuiteFile resourceSuiteFile = model.createSuiteFile((IFile) resourceFile);
-            final List<IPath> nestedResources = ResourceImportsPathsResolver
-                    .getWorkspaceRelativeResourceFilesPaths(resourceSuiteFile);
+            final RobotSuiteFile resourceSuiteFile = model.createSuiteFile(resourceFile);
+            final List<IFile> nestedResources = getImportedResourceFiles(resourceSuiteFile);
             ContinueDecision shouldContinue = locateInResourceFiles(nestedResources, alreadyVisited, startingFile,
                     detector);
             if (shouldContinue == ContinueDecision.STOP) {
@@ -125,6 +123,23 @@ public class KeywordDefinitionLocator {
         return ContinueDecision.CONTINUE;
     }
 
+    /**
+     * Returns existing resource files imported by given file in order of imports.
+     *
+     * @param file
+     * @return
+     */
+    public static List<IFile> getImportedResourceFiles(final RobotSuiteFile file) {
+        final List<IFile> resourceFiles = new ArrayList<>();
+        for (final IPath path : ResourceImportsPathsResolver.getWorkspaceRelativeResourceFilesPaths(file)) {
+            final IResource resourceFile = file.getFile().getWorkspace().getRoot().findMember(path);
+            if (resourceFile != null && resourceFile.exists() && resourceFile.getType() == IResource.FILE) {
+                resourceFiles.add((IFile) resourceFile);
+            }
+        }
+        return resourceFiles;
+    }
+
     private ContinueDecision locateInLibraries(final RobotSuiteFile file, final KeywordDetector detector) {
         final SetMultimap<LibrarySpecification, String> librariesMap = file.getImportedLibraries();
         for (final LibrarySpecification libSpec : librariesMap.keySet()) {
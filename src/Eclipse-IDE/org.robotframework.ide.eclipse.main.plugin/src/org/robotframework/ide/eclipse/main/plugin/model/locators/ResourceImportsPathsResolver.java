@@ -26,12 +26,16 @@ import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
  * @author Michal Anglart
  *
  */
-class ResourceImportsPathsResolver {
+public class ResourceImportsPathsResolver {
 
-    static List<IPath> getWorkspaceRelativeResourceFilesPaths(final RobotSuiteFile file) {
+    public static List<IPath> getWorkspaceRelativeResourceFilesPaths(final RobotSuiteFile file) {
         return getWorkspaceRelativePaths(file.getResourcesPaths(), file);
     }
 
+    public static List<IPath> getWorkspaceRelativeVariablesFilesPaths(final RobotSuiteFile file) {
+        return getWorkspaceRelativePaths(file.getVariablesPaths(), file);
+    }
+
     private static List<IPath> getWorkspaceRelativePaths(final List<String> paths, final RobotSuiteFile file) {
         final List<IPath> resultPaths = newArrayList();
 
@@ -26,6 +26,7 @@ import org.rf.ide.core.execution.server.AgentConnectionServer;
 import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
 import org.robotframework.ide.eclipse.main.plugin.RedPreferences;
 import org.robotframework.ide.eclipse.main.plugin.launch.local.RobotLaunchConfiguration;
+import org.robotframework.ide.eclipse.main.plugin.views.message.ExecutionMessagesStore;
 import org.robotframework.red.jface.dialogs.ScriptExportDialog;
 
 public class DefaultLaunchConfigurationPreferencePage extends FieldEditorPreferencePage
@@ -55,6 +56,7 @@ public class DefaultLaunchConfigurationPreferencePage extends FieldEditorPrefere
         createRobotLaunchConfigurationPreferences(parent);
         createListenerLaunchConfigurationPreferences(parent);
         createExecutorLaunchConfigurationPreferences(parent);
+        createMessageLogPreferences(parent);
     }
 
     private void createRobotLaunchConfigurationPreferences(final Composite parent) {
@@ -134,4 +136,18 @@ public class DefaultLaunchConfigurationPreferencePage extends FieldEditorPrefere
         GridDataFactory.fillDefaults().span(2, 1).applyTo(scriptPathEditor.getLabelControl(group));
     }
 
+    private void createMessageLogPreferences(final Composite parent) {
+        final Group group = new Group(parent, SWT.NONE);
+        group.setText("Message Log view");
+        GridLayoutFactory.fillDefaults().applyTo(group);
+        GridDataFactory.fillDefaults().grab(true, false).indent(0, 10).span(2, 1).applyTo(group);
+
+        final IntegerFieldEditor inMemoryLimit = new IntegerFieldEditor(
+                RedPreferences.LAUNCH_MESSAGE_LOG_IN_MEMORY_LIMIT, "Messages kept in memory [characters]:", group);
+        inMemoryLimit.setValidRange(ExecutionMessagesStore.MIN_IN_MEMORY_LIMIT,
+                ExecutionMessagesStore.MAX_IN_MEMORY_LIMIT);
+        inMemoryLimit.load();
+        addField(inMemoryLimit);
+    }
+
 }
@@ -24,6 +24,7 @@ import org.robotframework.ide.eclipse.main.plugin.RedPreferences.ColoringPrefere
 import org.robotframework.ide.eclipse.main.plugin.RedPreferences.SeparatorsMode;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotFileInternalElement.ElementOpenMode;
 import org.robotframework.ide.eclipse.main.plugin.project.build.causes.ProblemCategory;
+import org.robotframework.ide.eclipse.main.plugin.views.message.ExecutionMessagesStore;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Function;
@@ -130,6 +131,8 @@ public class RedPreferencesInitializer extends AbstractPreferenceInitializer {
         preferences.putInt(RedPreferences.LAUNCH_AGENT_CONNECTION_PORT, AgentConnectionServer.DEFAULT_CONNECTION_PORT);
         preferences.putInt(RedPreferences.LAUNCH_AGENT_CONNECTION_TIMEOUT,
                 AgentConnectionServer.DEFAULT_CONNECTION_TIMEOUT);
+        preferences.putInt(RedPreferences.LAUNCH_MESSAGE_LOG_IN_MEMORY_LIMIT,
+                ExecutionMessagesStore.DEFAULT_IN_MEMORY_LIMIT);
     }
 
     static String getFontStyleIdentifierFor(final SyntaxHighlightingCategory category) {
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.rf.ide.core.project.ImportPath;
+import org.rf.ide.core.project.ResolvedImportPath;
+import org.rf.ide.core.project.ResolvedImportPath.MalformedPathImportException;
+import org.rf.ide.core.project.RobotProjectConfig.ReferencedLibrary;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotKeywordDefinition;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotKeywordsSection;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSettingsSection;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotVariable;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotVariablesSection;
+import org.robotframework.ide.eclipse.main.plugin.model.locators.ResourceImportsPathsResolver;
+import org.robotframework.ide.eclipse.main.plugin.project.library.LibrarySpecification;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.SetMultimap;
+
+/**
+ * Resource, variables and library imports between files of single project, recorded when files
+ * are validated. Together with signatures of validated files (keywords and variables visible for
+ * importers) it is used during incremental builds to revalidate files which import changed files
+ * directly or transitively, but only when visible signature of changed file was actually changed.
+ * Imports which cannot be resolved are recorded with path relative to importing file, so that
+ * importers are revalidated when missing file is added.
+ */
+public class ImportDependencyGraph {
+
+    private final Map<IPath, Set<IPath>> imports = new HashMap<>();
+
+    private final SetMultimap<IPath, IPath> importers = HashMultimap.create();
+
+    private final Map<IPath, List<String>> signatures = new HashMap<>();
+
+    private boolean isInitialized = false;
+
+    public synchronized boolean isInitialized() {
+        return isInitialized;
+    }
+
+    public synchronized void setInitialized() {
+        isInitialized = true;
+    }
+
+    public synchronized void clear() {
+        imports.clear();
+        importers.clear();
+        signatures.clear();
+        isInitialized = false;
+    }
+
+    public void record(final RobotSuiteFile suiteFile) {
+        record(suiteFile.getFile().getFullPath(), collectImports(suiteFile), collectSignature(suiteFile));
+    }
+
+    @VisibleForTesting
+    synchronized void record(final IPath file, final Collection<IPath> importedPaths, final List<String> signature) {
+        removeImports(file);
+        imports.put(file, new LinkedHashSet<>(importedPaths));
+        for (final IPath importedPath : importedPaths) {
+            importers.put(importedPath, file);
+        }
+        signatures.put(file, signature);
+    }
+
+    public synchronized void remove(final IPath file) {
+        removeImports(file);
+        signatures.remove(file);
+    }
+
+    private void removeImports(final IPath file) {
+        final Set<IPath> previousImports = imports.remove(file);
+        if (previousImports != null) {
+            for (final IPath importedPath : previousImports) {
+                importers.remove(importedPath, file);
+            }
+        }
+    }
+
+    public boolean hasSignatureChanged(final RobotSuiteFile suiteFile) {
+        return hasSignatureChanged(suiteFile.getFile().getFullPath(), collectSignature(suiteFile));
+    }
+
+    @VisibleForTesting
+    synchronized boolean hasSignatureChanged(final IPath file, final List<String> signature) {
+        return !signature.equals(signatures.get(file));
+    }
+
+    /**
+     * Returns files which import any of given files directly or through other files. Library is
+     * treated as imported also when one of files inside library module was given.
+     *
+     * @param changedFiles
+     * @return
+     */
+    public synchronized Set<IPath> getTransitiveImporters(final Collection<IPath> changedFiles) {
+        final Set<IPath> transitiveImporters = new LinkedHashSet<>();
+        final Queue<IPath> toVisit = new ArrayDeque<>(changedFiles);
+        while (!toVisit.isEmpty()) {
+            final IPath current = toVisit.poll();
+            for (final IPath importer : getDirectImporters(current)) {
+                if (!changedFiles.contains(importer) && transitiveImporters.add(importer)) {
+                    toVisit.add(importer);
+                }
+            }
+        }
+        return transitiveImporters;
+    }
+
+    private Set<IPath> getDirectImporters(final IPath file) {
+        final Set<IPath> directImporters = new LinkedHashSet<>(importers.get(file));
+        for (IPath path = file.removeFileExtension(); path.segmentCount() > 1; path = path.removeLastSegments(1)) {
+            directImporters.addAll(importers.get(path));
+        }
+        return directImporters;
+    }
+
+    private static Set<IPath> collectImports(final RobotSuiteFile suiteFile) {
+        final Set<IPath> importedPaths = new LinkedHashSet<>();
+        importedPaths.addAll(ResourceImportsPathsResolver.getWorkspaceRelativeResourceFilesPaths(suiteFile));
+        importedPaths.addAll(ResourceImportsPathsResolver.getWorkspaceRelativeVariablesFilesPaths(suiteFile));
+        importedPaths.addAll(collectLocallyResolvedPaths(suiteFile, suiteFile.getResourcesPaths()));
+        importedPaths.addAll(collectLocallyResolvedPaths(suiteFile, suiteFile.getVariablesPaths()));
+
+        final Set<LibrarySpecification> importedLibraries = suiteFile.getImportedLibraries().keySet();
+        for (final Entry<ReferencedLibrary, LibrarySpecification> entry : suiteFile.getProject()
+                .getReferencedLibraries()
+                .entrySet()) {
+            if (entry.getValue() != null && importedLibraries.contains(entry.getValue())) {
+                importedPaths.add(new Path(entry.getKey().getFilepath().getPath()).makeAbsolute());
+            }
+        }
+        return importedPaths;
+    }
+
+    private static Set<IPath> collectLocallyResolvedPaths(final RobotSuiteFile suiteFile, final List<String> paths) {
+        final Set<IPath> importedPaths = new LinkedHashSet<>();
+        final IFile file = suiteFile.getFile();
+        final URI fileUri = file.getLocationURI();
+        if (fileUri == null) {
+            return importedPaths;
+        }
+        final Map<String, String> variableMappings = suiteFile.getProject()
+                .getRobotProjectHolder()
+                .getVariableMappings();
+        for (final String path : paths) {
+            try {
+                final Optional<ResolvedImportPath> resolvedPath = ResolvedImportPath.from(ImportPath.from(path),
+                        variableMappings);
+                if (resolvedPath.isPresent()) {
+                    // handles of files are returned also when files do not exist
+                    for (final IFile importedFile : file.getWorkspace()
+                            .getRoot()
+                            .findFilesForLocationURI(resolvedPath.get().resolveInRespectTo(fileUri))) {
+                        importedPaths.add(importedFile.getFullPath());
+                    }
+                }
+            } catch (final MalformedPathImportException e) {
+                // such import does not point to any file
+            }
+        }
+        return importedPaths;
+    }
+
+    private static List<String> collectSignature(final RobotSuiteFile suiteFile) {
+        final List<String> signature = new ArrayList<>();
+        final Optional<RobotSettingsSection> settings = suiteFile.findSection(RobotSettingsSection.class);
+        if (settings.isPresent()) {
+            signature.add("resources " + settings.get().getResourcesPaths());
+            signature.add("variables " + settings.get().getVariablesPaths());
+            signature.add("libraries " + settings.get().getLibrariesPathsOrNamesWithAliases());
+        }
+        final Optional<RobotKeywordsSection> keywords = suiteFile.findSection(RobotKeywordsSection.class);
+        if (keywords.isPresent()) {
+            for (final RobotKeywordDefinition keyword : keywords.get().getChildren()) {
+                signature.add("keyword " + keyword.getName() + " " + keyword.createArgumentsDescriptor().getDescription()
+                        + (keyword.isDeprecated() ? " deprecated" : ""));
+            }
+        }
+        final Optional<RobotVariablesSection> variables = suiteFile.findSection(RobotVariablesSection.class);
+        if (variables.isPresent()) {
+            for (final RobotVariable variable : variables.get().getChildren()) {
+                signature.add("variable " + variable.getPrefix() + variable.getName() + variable.getSuffix());
+            }
+        }
+        return signature;
+    }
+}
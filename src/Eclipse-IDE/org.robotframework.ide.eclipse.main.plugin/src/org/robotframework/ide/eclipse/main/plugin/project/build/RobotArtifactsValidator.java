@@ -7,13 +7,18 @@ package org.robotframework.ide.eclipse.main.plugin.project.build;
 
 import static com.google.common.collect.Lists.newArrayList;
 
+import java.io.File;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.resources.IFile;
@@ -22,6 +27,7 @@ import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IResourceDeltaVisitor;
 import org.eclipse.core.resources.IResourceVisitor;
+import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.resources.WorkspaceJob;
 import org.eclipse.core.runtime.CoreException;
@@ -231,6 +237,9 @@ public class RobotArtifactsValidator {
 
     public static class ModelUnitValidatorConfigFactory {
 
+        // shared by all the builds; idle worker threads are ended by the pool itself
+        private static final ForkJoinPool PARSING_POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
         public static ModelUnitValidatorConfig create(final IProject project) {
             return createForWholeProject(project, ProblemsReportingStrategy.reportOnly());
         }
@@ -278,6 +287,8 @@ public class RobotArtifactsValidator {
                 @Override
                 public List<ModelUnitValidator> createValidators(final ValidationContext context) throws CoreException {
                     final List<ModelUnitValidator> validators = newArrayList();
+                    final List<IFile> filesToParse = newArrayList();
+                    context.getImportDependencies().clear();
                     project.accept(new IResourceVisitor() {
 
                         @Override
@@ -285,47 +296,150 @@ public class RobotArtifactsValidator {
                             final Optional<? extends ModelUnitValidator> validator = createValidator(context, resource,
                                     reporter, false);
                             if (validator.isPresent()) {
-                                validators.add(validator.get());
+                                validators.add(createDependenciesRecordingValidator(context, (IFile) resource,
+                                        validator.get()));
+                                if (isRobotFile((IFile) resource)) {
+                                    filesToParse.add((IFile) resource);
+                                }
                             }
                             return true;
                         }
                     });
+                    parseInParallel(context, project, filesToParse);
+                    context.getImportDependencies().setInitialized();
                     project.deleteMarkers(RobotProblem.TYPE_ID, true, IResource.DEPTH_INFINITE);
                     return validators;
                 }
             };
         }
 
+        private static void parseInParallel(final ValidationContext context, final IProject project,
+                final List<IFile> filesToParse) {
+            // all validated files are parsed at once, so that validated models only take already parsed
+            // outputs from project holder instead of parsing files and their imports one by one
+            final List<File> files = newArrayList();
+            for (final IFile file : filesToParse) {
+                final IPath location = file.getLocation();
+                if (location != null) {
+                    files.add(location.toFile());
+                }
+            }
+            context.getModel().createRobotProject(project).getEagerRobotParser().parseInParallel(files, PARSING_POOL);
+        }
+
         private static ModelUnitValidatorConfig createForChangedFiles(final IResourceDelta delta,
                 final ProblemsReportingStrategy reporter) {
             return new ModelUnitValidatorConfig() {
 
                 @Override
                 public List<ModelUnitValidator> createValidators(final ValidationContext context) throws CoreException {
+                    final ImportDependencyGraph dependencies = context.getImportDependencies();
+                    final boolean dependenciesWereRecorded = dependencies.isInitialized();
+                    if (!dependenciesWereRecorded) {
+                        recordDependencies(context, delta.getResource().getProject());
+                    }
+
                     final List<ModelUnitValidator> validators = newArrayList();
+                    final Set<IPath> validatedFiles = new HashSet<>();
+                    final Set<IPath> filesChangedForImporters = new LinkedHashSet<>();
                     delta.accept(new IResourceDeltaVisitor() {
 
                         @Override
                         public boolean visit(final IResourceDelta delta) throws CoreException {
-                            if (delta.getKind() != IResourceDelta.REMOVED
-                                    && (delta.getFlags() & IResourceDelta.CONTENT) != 0) {
+                            final IResource resource = delta.getResource();
+                            if (delta.getKind() == IResourceDelta.REMOVED) {
+                                if (resource.getType() == IResource.FILE) {
+                                    filesChangedForImporters.add(resource.getFullPath());
+                                    dependencies.remove(resource.getFullPath());
+                                }
+                                return true;
+                            }
+                            if (delta.getKind() == IResourceDelta.ADDED && resource.getType() == IResource.FILE) {
+                                // files which were not able to import added file have to be validated again
+                                filesChangedForImporters.add(resource.getFullPath());
+                            }
+                            if ((delta.getFlags() & IResourceDelta.CONTENT) != 0) {
                                 context.setIsValidatingChangedFiles(true);
 
-                                final IResource resource = delta.getResource();
                                 final Optional<? extends ModelUnitValidator> validator = createValidator(context,
                                         resource, reporter, false);
                                 if (validator.isPresent()) {
-                                    validators.add(createSynchronizedValidator(resource, validator.get()));
+                                    validators.add(createSynchronizedValidator(resource,
+                                            createDependenciesRecordingValidator(context, (IFile) resource,
+                                                    validator.get())));
+                                    validatedFiles.add(resource.getFullPath());
+                                }
+                                if (resource.getType() == IResource.FILE && (!dependenciesWereRecorded
+                                        || hasChangedForImporters(context, (IFile) resource))) {
+                                    filesChangedForImporters.add(resource.getFullPath());
                                 }
                             }
                             return true;
                         }
                     });
+
+                    final IWorkspaceRoot root = delta.getResource().getWorkspace().getRoot();
+                    for (final IPath importerPath : dependencies.getTransitiveImporters(filesChangedForImporters)) {
+                        final IResource importer = root.findMember(importerPath);
+                        if (importer == null || !validatedFiles.add(importerPath)) {
+                            continue;
+                        }
+                        final Optional<? extends ModelUnitValidator> validator = createValidator(context, importer,
+                                reporter, false);
+                        if (validator.isPresent()) {
+                            validators.add(createSynchronizedValidator(importer,
+                                    createDependenciesRecordingValidator(context, (IFile) importer,
+                                            validator.get())));
+                        }
+                    }
                     return validators;
                 }
             };
         }
 
+        private static boolean hasChangedForImporters(final ValidationContext context, final IFile file) {
+            // keywords and variables are compared only for robot files, other files (libraries,
+            // variable files) are always treated as changed
+            return !isRobotFile(file)
+                    || context.getImportDependencies().hasSignatureChanged(context.getModel().createSuiteFile(file));
+        }
+
+        private static void recordDependencies(final ValidationContext context, final IProject project)
+                throws CoreException {
+            project.accept(new IResourceVisitor() {
+
+                @Override
+                public boolean visit(final IResource resource) throws CoreException {
+                    if (resource.getType() == IResource.FILE && isRobotFile((IFile) resource)
+                            && shouldValidate(context.getProjectConfiguration(), resource, false)) {
+                        context.getImportDependencies().record(context.getModel().createSuiteFile((IFile) resource));
+                    }
+                    return true;
+                }
+            });
+            context.getImportDependencies().setInitialized();
+        }
+
+        private static ModelUnitValidator createDependenciesRecordingValidator(final ValidationContext context,
+                final IFile file, final ModelUnitValidator validator) {
+            if (!isRobotFile(file)) {
+                return validator;
+            }
+            return new ModelUnitValidator() {
+
+                @Override
+                public void validate(final IProgressMonitor monitor) throws CoreException {
+                    validator.validate(monitor);
+                    context.getImportDependencies().record(context.getModel().createSuiteFile(file));
+                }
+            };
+        }
+
+        private static boolean isRobotFile(final IFile file) {
+            return ASuiteFileDescriber.isSuiteFile(file) || ASuiteFileDescriber.isResourceFile(file)
+                    || ASuiteFileDescriber.isInitializationFile(file);
+        }
+
         private static Optional<? extends ModelUnitValidator> createValidator(final ValidationContext context,
                 final IResource resource, final ProblemsReportingStrategy reporter, final boolean isRevalidating)
                 throws CoreException {
@@ -8,7 +8,17 @@ package org.robotframework.ide.eclipse.main.plugin.project.build.libs;
 import static com.google.common.collect.Lists.newArrayList;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -18,6 +28,7 @@ import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.SubMonitor;
 import org.rf.ide.core.executor.RobotRuntimeEnvironment;
 import org.rf.ide.core.executor.RobotRuntimeEnvironment.RobotEnvironmentException;
+import org.rf.ide.core.executor.RedSystemProperties;
 import org.rf.ide.core.executor.SuiteExecutor;
 import org.rf.ide.core.project.RobotProjectConfig;
 import org.rf.ide.core.project.RobotProjectConfig.LibraryType;
@@ -63,26 +74,30 @@ public class LibrariesBuilder {
             final RobotProject robotProject = RedPlugin.getModelManager().createProject(project);
             final RobotRuntimeEnvironment runtimeEnvironment = robotProject.getRuntimeEnvironment();
 
+            final Map<ILibdocGenerator, IFile> sourceLibdocFiles = new LinkedHashMap<>();
             for (final GeneratorWithSource generatorWithSource : groupedGenerators.get(project)) {
-                monitor.subTask(generatorWithSource.generator.getMessage());
+                sourceLibdocFiles.put(generatorWithSource.generator, generatorWithSource.sourceLibdocFile);
+            }
+            final List<ILibdocGenerator> generators = newArrayList(sourceLibdocFiles.keySet());
+
+            runGenerators(generators, getGenerationThreads(generators), monitor, generator -> {
                 try {
                     if (project.exists()) {
-                        generatorWithSource.generator.generateLibdocForcibly(runtimeEnvironment,
+                        generator.generateLibdocForcibly(runtimeEnvironment,
                                 new RedEclipseProjectConfig(robotProject.getRobotProjectConfig())
                                         .createEnvironmentSearchPaths(project));
                     }
                 } catch (final RobotEnvironmentException e) {
-                    final IPath libspecFileLocation = generatorWithSource.sourceLibdocFile.getLocation();
+                    final IPath libspecFileLocation = sourceLibdocFiles.get(generator).getLocation();
                     if (libspecFileLocation != null) {
                         libspecFileLocation.toFile().delete();
                     }
                     throw e;
                 }
-                monitor.worked(1);
-            }
+            });
         }
         monitor.done();
-    }
+    }
 
     private ILibdocGenerator provideGenerator(final LibrarySpecification specification) {
         final IFile libspecSourceFile = specification.getSourceFile();
@@ -119,39 +134,103 @@ public class LibrariesBuilder {
         logger.log("BUILDING: generating library docs");
         monitor.subTask("generating libdocs");
 
-        final List<ILibdocGenerator> libdocGenerators = newArrayList();
-
         final LibspecsFolder libspecsFolder = LibspecsFolder.get(robotProject.getProject());
-        libdocGenerators.addAll(getStandardLibrariesToRecreate(runtimeEnvironment, libspecsFolder));
-        libdocGenerators.addAll(getReferencedVirtualLibrariesToRecreate(configuration, libspecsFolder));
-        libdocGenerators.addAll(getReferencedPythonLibrariesToRecreate(configuration, libspecsFolder));
-        if (runtimeEnvironment.getInterpreter() == SuiteExecutor.Jython) {
-            libdocGenerators.addAll(getReferencedJavaLibrariesToRecreate(configuration, libspecsFolder));
+        final List<ILibdocGenerator> linkingGenerators = getReferencedVirtualLibrariesToRecreate(configuration,
+                libspecsFolder);
+
+        final List<ILibdocGenerator> libdocGenerators = newArrayList();
+        libdocGenerators.addAll(getStandardLibrariesToRecreate(runtimeEnvironment, libspecsFolder));
+        libdocGenerators.addAll(getReferencedPythonLibrariesToRecreate(configuration, libspecsFolder));
+        if (runtimeEnvironment.getInterpreter() == SuiteExecutor.Jython) {
+            libdocGenerators.addAll(getReferencedJavaLibrariesToRecreate(configuration, libspecsFolder));
         }
         libdocGenerators.addAll(getRemoteLibrariesToRecreate(configuration, libspecsFolder));
 
-        monitor.setWorkRemaining(libdocGenerators.size());
-        
-        for (final ILibdocGenerator generator : libdocGenerators) {
-            if (monitor.isCanceled()) {
-                return;
-            }
-
-            logger.log("BUILDING: " + generator.getMessage());
-            monitor.subTask(generator.getMessage());
-            try {
-                generator.generateLibdoc(runtimeEnvironment, new RedEclipseProjectConfig(configuration)
-                        .createEnvironmentSearchPaths(robotProject.getProject()));
-            } catch (final RobotEnvironmentException e) {
-                final RobotProblem problem = RobotProblem.causedBy(
-                        ProjectConfigurationProblem.LIBRARY_SPEC_CANNOT_BE_GENERATED).formatMessageWith(e.getMessage());
-                reporter.handleProblem(problem, robotProject.getFile(".project"), 1);
-            }
-            monitor.worked(1);
-        }
+        monitor.setWorkRemaining(linkingGenerators.size() + libdocGenerators.size());
+
+        runGenerators(linkingGenerators, 1, monitor,
+                generator -> generateLibdoc(generator, robotProject, runtimeEnvironment, configuration, reporter));
+
+        // concurrent generations are handled by separate session servers of the interpreter
+        runGenerators(libdocGenerators, getGenerationThreads(libdocGenerators), monitor,
+                generator -> generateLibdoc(generator, robotProject, runtimeEnvironment, configuration, reporter));
 
         monitor.done();
-    }
+    }
+
+    private void generateLibdoc(final ILibdocGenerator generator, final RobotProject robotProject,
+            final RobotRuntimeEnvironment runtimeEnvironment, final RobotProjectConfig configuration,
+            final ProblemsReportingStrategy reporter) {
+        try {
+            generator.generateLibdoc(runtimeEnvironment,
+                    new RedEclipseProjectConfig(configuration).createEnvironmentSearchPaths(robotProject.getProject()));
+        } catch (final RobotEnvironmentException e) {
+            final RobotProblem problem = RobotProblem.causedBy(
+                    ProjectConfigurationProblem.LIBRARY_SPEC_CANNOT_BE_GENERATED).formatMessageWith(e.getMessage());
+            reporter.handleProblem(problem, robotProject.getFile(".project"), 1);
+        }
+    }
+
+    private static int getGenerationThreads(final List<ILibdocGenerator> generators) {
+        if (RedSystemProperties.shouldConnectToRunningServer()) {
+            return 1;
+        }
+        return Math.min(generators.size(), RedSystemProperties.getLibdocGenerationThreads());
+    }
+
+    /**
+     * Runs given generators using at most given number of threads. Progress is reported and
+     * cancellation is checked in calling thread only, as the monitor is not thread-safe. Exception
+     * thrown by any generation is rethrown in calling thread and stops remaining generations.
+     */
+    private void runGenerators(final List<ILibdocGenerator> generators, final int threads,
+            final SubMonitor monitor, final Consumer<ILibdocGenerator> generation) {
+        if (threads <= 1) {
+            for (final ILibdocGenerator generator : generators) {
+                if (monitor.isCanceled()) {
+                    return;
+                }
+                logger.log("BUILDING: " + generator.getMessage());
+                monitor.subTask(generator.getMessage());
+                generation.accept(generator);
+                monitor.worked(1);
+            }
+            return;
+        }
+
+        logger.log("BUILDING: " + threads + " threads will be used to generate library docs");
+        final ExecutorService threadPool = Executors.newFixedThreadPool(threads);
+        try {
+            final CompletionService<ILibdocGenerator> completionService = new ExecutorCompletionService<>(
+                    threadPool);
+            for (final ILibdocGenerator generator : generators) {
+                completionService.submit(() -> {
+                    logger.log("BUILDING: " + generator.getMessage());
+                    generation.accept(generator);
+                    return generator;
+                });
+            }
+
+            int remaining = generators.size();
+            while (remaining > 0 && !monitor.isCanceled()) {
+                final Future<ILibdocGenerator> generated = completionService.poll(100, TimeUnit.MILLISECONDS);
+                if (generated != null) {
+                    monitor.subTask(generated.get().getMessage());
+                    monitor.worked(1);
+                    remaining--;
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            threadPool.shutdownNow();
+        }
+    }
 
     private List<ILibdocGenerator> getStandardLibrariesToRecreate(final RobotRuntimeEnvironment runtimeEnvironment,
             final LibspecsFolder libspecsFolder) {
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build.validation;
+
+import static com.google.common.collect.Sets.newHashSet;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.core.resources.IFile;
+import org.rf.ide.core.testdata.model.search.keyword.KeywordScope;
+import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotKeywordDefinition;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotKeywordsSection;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+import org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordDefinitionLocator;
+import org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordEntity;
+import org.robotframework.ide.eclipse.main.plugin.project.build.validation.FileValidationContext.ValidationKeywordEntity;
+import org.robotframework.ide.eclipse.main.plugin.project.library.KeywordSpecification;
+import org.robotframework.ide.eclipse.main.plugin.project.library.LibrarySpecification;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.SetMultimap;
+import com.google.common.io.Files;
+
+/**
+ * Keywords accessible in files of validated project. Keywords of every file (defined in it and
+ * provided by libraries imported in it) are collected only once during whole validation and are
+ * shared by all the files importing it, so accessible keywords of single file are just a view over
+ * keywords of files visible from it. Keywords are visited in the same order as in
+ * {@link KeywordDefinitionLocator}. Index may be queried concurrently from many validating threads.
+ */
+class AccessibleKeywordsIndex {
+
+    private final RobotModel model;
+
+    private final ConcurrentMap<IFile, FileKeywords> filesKeywords = new ConcurrentHashMap<>();
+
+    AccessibleKeywordsIndex(final RobotModel model) {
+        this.model = model;
+    }
+
+    Map<String, Collection<KeywordEntity>> getAccessibleKeywords(final IFile file) {
+        final FileKeywords startingFileKeywords = getFileKeywords(file);
+
+        final List<ImmutableListMultimap<String, KeywordEntity>> visibleKeywords = new ArrayList<>();
+        visibleKeywords.add(startingFileKeywords.ownKeywords);
+        collectResourcesKeywords(startingFileKeywords.resources, newHashSet(file), visibleKeywords);
+        visibleKeywords.add(startingFileKeywords.librariesKeywords);
+        return new AccessibleKeywordsView(visibleKeywords);
+    }
+
+    private void collectResourcesKeywords(final List<IFile> resources, final Set<IFile> alreadyVisited,
+            final List<ImmutableListMultimap<String, KeywordEntity>> visibleKeywords) {
+        for (final IFile resource : resources) {
+            if (!alreadyVisited.add(resource)) {
+                continue;
+            }
+            final FileKeywords resourceKeywords = getFileKeywords(resource);
+            collectResourcesKeywords(resourceKeywords.resources, alreadyVisited, visibleKeywords);
+            visibleKeywords.add(resourceKeywords.librariesKeywords);
+            visibleKeywords.add(resourceKeywords.ownKeywords);
+        }
+    }
+
+    private FileKeywords getFileKeywords(final IFile file) {
+        final FileKeywords keywords = filesKeywords.get(file);
+        if (keywords != null) {
+            return keywords;
+        }
+        // collected outside of map locking; in case of race the first collected keywords are used
+        final FileKeywords collectedKeywords = FileKeywords.collect(model.createSuiteFile(file));
+        final FileKeywords previousKeywords = filesKeywords.putIfAbsent(file, collectedKeywords);
+        return previousKeywords == null ? collectedKeywords : previousKeywords;
+    }
+
+    private static final class FileKeywords {
+
+        private final ImmutableList<IFile> resources;
+
+        private final ImmutableListMultimap<String, KeywordEntity> ownKeywords;
+
+        private final ImmutableListMultimap<String, KeywordEntity> librariesKeywords;
+
+        private FileKeywords(final ImmutableList<IFile> resources,
+                final ImmutableListMultimap<String, KeywordEntity> ownKeywords,
+                final ImmutableListMultimap<String, KeywordEntity> librariesKeywords) {
+            this.resources = resources;
+            this.ownKeywords = ownKeywords;
+            this.librariesKeywords = librariesKeywords;
+        }
+
+        private static FileKeywords collect(final RobotSuiteFile suiteFile) {
+            return new FileKeywords(ImmutableList.copyOf(KeywordDefinitionLocator.getImportedResourceFiles(suiteFile)),
+                    collectOwnKeywords(suiteFile), collectLibrariesKeywords(suiteFile));
+        }
+
+        private static ImmutableListMultimap<String, KeywordEntity> collectOwnKeywords(
+                final RobotSuiteFile suiteFile) {
+            final ImmutableListMultimap.Builder<String, KeywordEntity> keywords = ImmutableListMultimap.builder();
+            final Optional<RobotKeywordsSection> section = suiteFile.findSection(RobotKeywordsSection.class);
+            if (section.isPresent()) {
+                for (final RobotKeywordDefinition kwDefinition : section.get().getChildren()) {
+                    final ValidationKeywordEntity keyword = new ValidationKeywordEntity(null,
+                            Files.getNameWithoutExtension(suiteFile.getName()), kwDefinition.getName(), "",
+                            kwDefinition.isDeprecated(), suiteFile.getFile().getFullPath(),
+                            kwDefinition.getDefinitionPosition().getOffset(),
+                            kwDefinition.createArgumentsDescriptor());
+                    keywords.put(QualifiedKeywordName.unifyDefinition(kwDefinition.getName()), keyword);
+                }
+            }
+            return keywords.build();
+        }
+
+        private static ImmutableListMultimap<String, KeywordEntity> collectLibrariesKeywords(
+                final RobotSuiteFile suiteFile) {
+            final ImmutableListMultimap.Builder<String, KeywordEntity> keywords = ImmutableListMultimap.builder();
+            final SetMultimap<LibrarySpecification, String> librariesMap = suiteFile.getImportedLibraries();
+            for (final LibrarySpecification libSpec : librariesMap.keySet()) {
+                final KeywordScope scope = libSpec.isReferenced() ? KeywordScope.REF_LIBRARY : KeywordScope.STD_LIBRARY;
+                for (final KeywordSpecification kwSpec : libSpec.getKeywords()) {
+                    for (final String libraryAlias : librariesMap.get(libSpec)) {
+                        final ValidationKeywordEntity keyword = new ValidationKeywordEntity(scope, libSpec.getName(),
+                                kwSpec.getName(), libraryAlias, kwSpec.isDeprecated(),
+                                suiteFile.getFile().getFullPath(), 0, kwSpec.createArgumentsDescriptor());
+                        keywords.put(QualifiedKeywordName.unifyDefinition(kwSpec.getName()), keyword);
+                    }
+                }
+            }
+            return keywords.build();
+        }
+    }
+
+    /**
+     * Read-only map of accessible keywords grouped by unified name. Single names are looked up
+     * directly in keywords of visible files, while whole map is merged only when it is iterated.
+     */
+    private static final class AccessibleKeywordsView extends AbstractMap<String, Collection<KeywordEntity>> {
+
+        private final List<ImmutableListMultimap<String, KeywordEntity>> visibleKeywords;
+
+        private Map<String, Collection<KeywordEntity>> mergedKeywords;
+
+        private AccessibleKeywordsView(final List<ImmutableListMultimap<String, KeywordEntity>> visibleKeywords) {
+            this.visibleKeywords = visibleKeywords;
+        }
+
+        @Override
+        public Collection<KeywordEntity> get(final Object unifiedName) {
+            if (mergedKeywords != null) {
+                return mergedKeywords.get(unifiedName);
+            } else if (!(unifiedName instanceof String)) {
+                return null;
+            }
+            Collection<KeywordEntity> keywords = null;
+            for (final ImmutableListMultimap<String, KeywordEntity> fileKeywords : visibleKeywords) {
+                final List<KeywordEntity> found = fileKeywords.get((String) unifiedName);
+                if (!found.isEmpty()) {
+                    if (keywords == null) {
+                        keywords = new LinkedHashSet<>();
+                    }
+                    keywords.addAll(found);
+                }
+            }
+            return keywords;
+        }
+
+        @Override
+        public boolean containsKey(final Object unifiedName) {
+            return get(unifiedName) != null;
+        }
+
+        @Override
+        public Set<Entry<String, Collection<KeywordEntity>>> entrySet() {
+            if (mergedKeywords == null) {
+                final Map<String, Collection<KeywordEntity>> keywords = new HashMap<>();
+                for (final ImmutableListMultimap<String, KeywordEntity> fileKeywords : visibleKeywords) {
+                    for (final Entry<String, KeywordEntity> entry : fileKeywords.entries()) {
+                        Collection<KeywordEntity> keywordsWithName = keywords.get(entry.getKey());
+                        if (keywordsWithName == null) {
+                            keywordsWithName = new LinkedHashSet<>();
+                            keywords.put(entry.getKey(), keywordsWithName);
+                        }
+                        keywordsWithName.add(entry.getValue());
+                    }
+                }
+                mergedKeywords = keywords;
+            }
+            return mergedKeywords.entrySet();
+        }
+    }
+}
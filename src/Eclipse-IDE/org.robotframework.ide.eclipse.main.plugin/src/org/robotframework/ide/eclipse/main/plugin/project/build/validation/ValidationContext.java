@@ -8,10 +8,8 @@ package org.robotframework.ide.eclipse.main.plugin.project.build.validation;
 import static com.google.common.collect.Maps.newHashMap;
 import static com.google.common.collect.Maps.newLinkedHashMap;
 import static com.google.common.collect.Sets.newHashSet;
-import static com.google.common.collect.Sets.newLinkedHashSet;
 
 import java.util.Collection;
-import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -24,29 +22,21 @@ import org.rf.ide.core.project.RobotProjectConfig.LibraryType;
 import org.rf.ide.core.project.RobotProjectConfig.ReferencedLibrary;
 import org.rf.ide.core.project.RobotProjectConfig.ReferencedVariableFile;
 import org.rf.ide.core.testdata.model.RobotVersion;
-import org.rf.ide.core.testdata.model.search.keyword.KeywordScope;
-import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
 import org.rf.ide.core.testdata.model.table.variables.names.VariableNamesSupport;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotFileInternalElement;
-import org.robotframework.ide.eclipse.main.plugin.model.RobotKeywordDefinition;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
-import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotVariable;
 import org.robotframework.ide.eclipse.main.plugin.model.locators.ContinueDecision;
-import org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordDefinitionLocator;
-import org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordDefinitionLocator.KeywordDetector;
 import org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordEntity;
 import org.robotframework.ide.eclipse.main.plugin.model.locators.VariableDefinitionLocator;
 import org.robotframework.ide.eclipse.main.plugin.model.locators.VariableDefinitionLocator.VariableDetector;
 import org.robotframework.ide.eclipse.main.plugin.project.build.BuildLogger;
-import org.robotframework.ide.eclipse.main.plugin.project.build.validation.FileValidationContext.ValidationKeywordEntity;
-import org.robotframework.ide.eclipse.main.plugin.project.library.KeywordSpecification;
+import org.robotframework.ide.eclipse.main.plugin.project.build.ImportDependencyGraph;
 import org.robotframework.ide.eclipse.main.plugin.project.library.LibrarySpecification;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.io.Files;
 
 /**
  * @author Michal Anglart
@@ -69,6 +59,10 @@ public class ValidationContext {
 
     private boolean isValidatingChangedFiles;
 
+    private final AccessibleKeywordsIndex keywordsIndex;
+
+    private final ImportDependencyGraph importDependencies;
+
     public ValidationContext(final RobotProject robotProject, final BuildLogger logger) {
         this.model = (RobotModel) robotProject.getParent();
         this.logger = logger;
@@ -81,6 +75,8 @@ public class ValidationContext {
 
         this.accessibleLibraries = collectLibraries(robotProject);
         this.referencedAccessibleLibraries = newHashMap(robotProject.getReferencedLibraries());
+        this.keywordsIndex = new AccessibleKeywordsIndex(model);
+        this.importDependencies = robotProject.getImportDependencies();
     }
 
     @VisibleForTesting
@@ -91,6 +87,8 @@ public class ValidationContext {
         this.executorInUse = executor;
         this.accessibleLibraries = libs;
         this.referencedAccessibleLibraries = refLibs;
+        this.keywordsIndex = new AccessibleKeywordsIndex(model);
+        this.importDependencies = new ImportDependencyGraph();
     }
 
     private static Map<String, LibrarySpecification> collectLibraries(final RobotProject robotProject) {
@@ -136,6 +134,10 @@ public class ValidationContext {
         return referencedAccessibleLibraries;
     }
 
+    public ImportDependencyGraph getImportDependencies() {
+        return importDependencies;
+    }
+
     public boolean isValidatingChangedFiles() {
         return isValidatingChangedFiles;
     }
@@ -184,48 +186,6 @@ public class ValidationContext {
     }
 
     public Map<String, Collection<KeywordEntity>> collectAccessibleKeywordNames(final IFile file) {
-        final Map<String, Collection<KeywordEntity>> accessibleKeywords = newHashMap();
-        new KeywordDefinitionLocator(file, model).locateKeywordDefinition(new KeywordDetector() {
-
-            @Override
-            public ContinueDecision libraryKeywordDetected(final LibrarySpecification libSpec,
-                    final KeywordSpecification kwSpec, final Set<String> libraryAliases,
-                    final RobotSuiteFile exposingFile) {
-
-                final KeywordScope scope = libSpec.isReferenced() ? KeywordScope.REF_LIBRARY : KeywordScope.STD_LIBRARY;
-                for (final String libraryAlias : libraryAliases) {
-                    final ValidationKeywordEntity keyword = new ValidationKeywordEntity(scope, libSpec.getName(),
-                            kwSpec.getName(), libraryAlias, kwSpec.isDeprecated(), exposingFile.getFile().getFullPath(),
-                            0, kwSpec.createArgumentsDescriptor());
-
-                    addAccessibleKeyword(kwSpec.getName(), keyword);
-                }
-                return ContinueDecision.CONTINUE;
-            }
-
-            @Override
-            public ContinueDecision keywordDetected(final RobotSuiteFile suiteFile,
-                    final RobotKeywordDefinition kwDefinition) {
-                final ValidationKeywordEntity keyword = new ValidationKeywordEntity(null,
-                        Files.getNameWithoutExtension(suiteFile.getName()), kwDefinition.getName(), "",
-                        kwDefinition.isDeprecated(), suiteFile.getFile().getFullPath(),
-                        kwDefinition.getDefinitionPosition().getOffset(), kwDefinition.createArgumentsDescriptor());
-
-                addAccessibleKeyword(kwDefinition.getName(), keyword);
-                return ContinueDecision.CONTINUE;
-            }
-
-            private void addAccessibleKeyword(final String keywordName, final ValidationKeywordEntity keyword) {
-                final String unifiedName = QualifiedKeywordName.unifyDefinition(keywordName);
-                if (accessibleKeywords.containsKey(unifiedName)) {
-                    accessibleKeywords.get(unifiedName).add(keyword);
-                } else {
-                    final LinkedHashSet<KeywordEntity> setOfKeywords = newLinkedHashSet();
-                    setOfKeywords.add(keyword);
-                    accessibleKeywords.put(unifiedName, setOfKeywords);
-                }
-            }
-        });
-        return accessibleKeywords;
+        return keywordsIndex.getAccessibleKeywords(file);
     }
 }
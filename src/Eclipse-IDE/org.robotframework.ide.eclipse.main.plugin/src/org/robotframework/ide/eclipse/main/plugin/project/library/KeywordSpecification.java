@@ -18,6 +18,8 @@ import com.google.common.base.Objects;
 @XmlRootElement(namespace = "org.robotframework.ide.eclipse.main.plugin.project.library.LibrarySpecification")
 public class KeywordSpecification {
 
+    private static final Pattern DEPRECATION_PATTERN = Pattern.compile("^\\*deprecated[^\\n\\r]*\\*.*");
+
     private String name;
     private String format;
     private String documentation;
@@ -26,6 +28,10 @@ public class KeywordSpecification {
 
     private Boolean isDeprecated;
 
+    private LazyLibraryDocumentation lazyDocumentation;
+
+    private int documentationIndex;
+
     public String getName() {
         return name;
     }
@@ -40,6 +46,9 @@ public class KeywordSpecification {
     }
 
     public String getDocumentation() {
+        if (documentation == null && lazyDocumentation != null) {
+            return lazyDocumentation.getKeywordDocumentation(documentationIndex, name);
+        }
         return documentation;
     }
 
@@ -62,9 +71,14 @@ public class KeywordSpecification {
         return "ROBOT".equals(format);
     }
 
+    void setLazyDocumentation(final LazyLibraryDocumentation documentation, final int index) {
+        this.lazyDocumentation = documentation;
+        this.documentationIndex = index;
+    }
+
     public String getDocumentationAsHtml() {
         if ("ROBOT".equals(format)) {
-            return new RobotToHtmlConverter().convert(documentation);
+            return new RobotToHtmlConverter().convert(getDocumentation());
         }
         throw new IllegalArgumentException("Only ROBOT format can be converted to HTML");
     }
@@ -75,12 +89,19 @@ public class KeywordSpecification {
 
     public boolean isDeprecated() {
         if (isDeprecated == null) {
-            isDeprecated = Boolean.valueOf(documentation != null
-                    && Pattern.compile("^\\*deprecated[^\\n\\r]*\\*.*").matcher(documentation.toLowerCase()).find());
+            isDeprecated = Boolean.valueOf(isDeprecated(getDocumentation()));
         }
         return isDeprecated.booleanValue();
     }
 
+    void setDeprecated(final boolean isDeprecated) {
+        this.isDeprecated = Boolean.valueOf(isDeprecated);
+    }
+
+    static boolean isDeprecated(final String documentation) {
+        return documentation != null && DEPRECATION_PATTERN.matcher(documentation.toLowerCase()).find();
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (obj == null) {
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.library;
+
+import java.io.File;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.robotframework.ide.eclipse.main.plugin.project.library.LibrarySpecificationReader.CannotReadLibrarySpecificationException;
+
+/**
+ * Documentation of library and its keywords which is read from specification file only when it is
+ * requested for the first time. Documentation of whole library is read at once and it may be
+ * collected when memory is low, in which case it will be read again when needed. Keywords are
+ * identified by position and name, so no documentation is returned for keyword which was moved or
+ * removed when specification file was regenerated in the meantime.
+ */
+class LazyLibraryDocumentation {
+
+    private final File specificationFile;
+
+    private SoftReference<LoadedDocumentation> loaded = new SoftReference<>(null);
+
+    LazyLibraryDocumentation(final File specificationFile) {
+        this.specificationFile = specificationFile;
+    }
+
+    synchronized String getLibraryDocumentation() {
+        return load().libraryDocumentation;
+    }
+
+    synchronized String getKeywordDocumentation(final int index, final String name) {
+        final LoadedDocumentation documentation = load();
+        return index < documentation.keywordsNames.size() && documentation.keywordsNames.get(index).equals(name)
+                ? documentation.keywordsDocumentation.get(index)
+                : null;
+    }
+
+    private LoadedDocumentation load() {
+        LoadedDocumentation documentation = loaded.get();
+        if (documentation == null) {
+            documentation = new LoadedDocumentation();
+            try {
+                final LibrarySpecification specification = LibrarySpecificationReader
+                        .readSpecification(specificationFile, null);
+                documentation.libraryDocumentation = specification.getDocumentation();
+                for (final KeywordSpecification keyword : specification.getKeywords()) {
+                    documentation.keywordsNames.add(keyword.getName());
+                    documentation.keywordsDocumentation.add(keyword.getDocumentation());
+                }
+            } catch (final CannotReadLibrarySpecificationException e) {
+                // the file was removed or regenerated in the meantime, so there is no documentation
+            }
+            loaded = new SoftReference<>(documentation);
+        }
+        return documentation;
+    }
+
+    private static class LoadedDocumentation {
+
+        private String libraryDocumentation;
+
+        private final List<String> keywordsNames = new ArrayList<>();
+
+        private final List<String> keywordsDocumentation = new ArrayList<>();
+    }
+}
@@ -55,6 +55,8 @@ public class LibrarySpecification {
 
     private String secondaryKey = "";
 
+    private LazyLibraryDocumentation lazyDocumentation;
+
     public String getName() {
         return name;
     }
@@ -92,6 +94,9 @@ public class LibrarySpecification {
     }
 
     public String getDocumentation() {
+        if (documentation == null && lazyDocumentation != null) {
+            return lazyDocumentation.getLibraryDocumentation();
+        }
         return documentation;
     }
 
@@ -100,6 +105,10 @@ public class LibrarySpecification {
         this.documentation = documentation;
     }
 
+    void setLazyDocumentation(final LazyLibraryDocumentation documentation) {
+        this.lazyDocumentation = documentation;
+    }
+
     public List<KeywordSpecification> getKeywords() {
         return keywords;
     }
@@ -148,7 +157,7 @@ public class LibrarySpecification {
 
     public String getDocumentationAsHtml() {
         if ("ROBOT".equals(format)) {
-            return new RobotToHtmlConverter().convert(documentation);
+            return new RobotToHtmlConverter().convert(getDocumentation());
         }
         throw new IllegalArgumentException("Only ROBOT format can be converted to HTML");
     }
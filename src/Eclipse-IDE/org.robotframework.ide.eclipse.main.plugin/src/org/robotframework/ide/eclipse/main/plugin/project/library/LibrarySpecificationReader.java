@@ -3,60 +3,202 @@
  * Licensed under the Apache License, Version 2.0,
  * see license.txt file for details.
  */
-package org.robotframework.ide.eclipse.main.plugin.project.library;
-
+package org.robotframework.ide.eclipse.main.plugin.project.library;
+
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
-import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.eclipse.core.resources.IFile;
 import org.rf.ide.core.project.RobotProjectConfig.ReferencedLibrary;
 import org.rf.ide.core.project.RobotProjectConfig.RemoteLocation;
-
-public class LibrarySpecificationReader {
-
-    static LibrarySpecification readSpecification(final IFile libraryFile) {
-        try {
-            final JAXBContext jaxbContext = JAXBContext.newInstance(LibrarySpecification.class);
-            final Unmarshaller jaxbUnmarshaller = jaxbContext.createUnmarshaller();
-            final LibrarySpecification specification = (LibrarySpecification) jaxbUnmarshaller.unmarshal(new File(libraryFile.getLocationURI()));
-            specification.propagateFormat();
-            specification.setSourceFile(libraryFile);
-
-            return specification;
-
-        } catch (final JAXBException e) {
-            throw new CannotReadLibrarySpecificationException("Unable to read library specification file", e);
-        }
+
+/**
+ * Reads library specifications with streaming parser. Names and arguments of keywords are read at
+ * once, while documentation, which makes the biggest part of specification, is read from the file
+ * when it is requested for the first time.
+ */
+public class LibrarySpecificationReader {
+
+    private static final XMLInputFactory XML_FACTORY = XMLInputFactory.newFactory();
+
+    static LibrarySpecification readSpecification(final IFile libraryFile) {
+        final File file = new File(libraryFile.getLocationURI());
+        final LibrarySpecification specification = readSpecification(file, new LazyLibraryDocumentation(file));
+        specification.setSourceFile(libraryFile);
+        return specification;
+    }
+
+    /**
+     * Reads specification from given file. When lazy documentation is not given, documentation is
+     * read together with other data.
+     *
+     * @param file
+     * @param lazyDocumentation
+     * @return
+     */
+    static LibrarySpecification readSpecification(final File file, final LazyLibraryDocumentation lazyDocumentation) {
+        try (InputStream stream = new BufferedInputStream(new FileInputStream(file))) {
+            final XMLStreamReader reader = XML_FACTORY.createXMLStreamReader(stream);
+            try {
+                return readSpecification(reader, lazyDocumentation);
+            } finally {
+                reader.close();
+            }
+        } catch (final IOException | XMLStreamException e) {
+            throw new CannotReadLibrarySpecificationException("Unable to read library specification file", e);
+        }
+    }
+
+    private static LibrarySpecification readSpecification(final XMLStreamReader reader,
+            final LazyLibraryDocumentation lazyDocumentation) throws XMLStreamException {
+        reader.nextTag();
+        if (!"keywordspec".equals(reader.getLocalName())) {
+            throw new XMLStreamException("Unexpected root element '" + reader.getLocalName() + "'",
+                    reader.getLocation());
+        }
+        final LibrarySpecification specification = new LibrarySpecification();
+        specification.setName(reader.getAttributeValue(null, "name"));
+        specification.setFormat(reader.getAttributeValue(null, "format"));
+        specification.setLazyDocumentation(lazyDocumentation);
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+                case "version":
+                    specification.setVersion(reader.getElementText());
+                    break;
+                case "scope":
+                    specification.setScope(reader.getElementText());
+                    break;
+                case "doc":
+                    if (lazyDocumentation == null) {
+                        specification.setDocumentation(reader.getElementText());
+                    } else {
+                        skipElement(reader);
+                    }
+                    break;
+                case "init":
+                    specification.setConstructor(readConstructor(reader));
+                    break;
+                case "kw":
+                    final int index = specification.getKeywords().size();
+                    specification.getKeywords().add(
+                            readKeyword(reader, specification.getFormat(), lazyDocumentation, index));
+                    break;
+                default:
+                    skipElement(reader);
+                    break;
+            }
+        }
+        return specification;
+    }
+
+    private static LibraryConstructor readConstructor(final XMLStreamReader reader) throws XMLStreamException {
+        final LibraryConstructor constructor = new LibraryConstructor();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+                case "arguments":
+                    constructor.setArguments(readArguments(reader));
+                    break;
+                case "doc":
+                    constructor.setDocumentation(reader.getElementText());
+                    break;
+                default:
+                    skipElement(reader);
+                    break;
+            }
+        }
+        return constructor;
+    }
+
+    private static KeywordSpecification readKeyword(final XMLStreamReader reader, final String format,
+            final LazyLibraryDocumentation lazyDocumentation, final int index) throws XMLStreamException {
+        final KeywordSpecification keyword = new KeywordSpecification();
+        keyword.setName(reader.getAttributeValue(null, "name"));
+        keyword.setFormat(format);
+        keyword.setDeprecated(false);
+        keyword.setLazyDocumentation(lazyDocumentation, index);
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+                case "arguments":
+                    keyword.setArguments(readArguments(reader));
+                    break;
+                case "doc":
+                    final String documentation = reader.getElementText();
+                    // deprecation is checked for many keywords at once, so it has to be known
+                    // without reading documentation again
+                    keyword.setDeprecated(KeywordSpecification.isDeprecated(documentation));
+                    if (lazyDocumentation == null) {
+                        keyword.setDocumentation(documentation);
+                    }
+                    break;
+                default:
+                    skipElement(reader);
+                    break;
+            }
+        }
+        return keyword;
+    }
+
+    private static List<String> readArguments(final XMLStreamReader reader) throws XMLStreamException {
+        final List<String> arguments = new ArrayList<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if ("arg".equals(reader.getLocalName())) {
+                arguments.add(reader.getElementText());
+            } else {
+                skipElement(reader);
+            }
+        }
+        return arguments;
+    }
+
+    private static void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
     }
 
     public static LibrarySpecification readStandardLibrarySpecification(final IFile libraryFile,
             final String libraryName) {
         return readSpecification(libraryFile);
     }
-
-    public static LibrarySpecification readRemoteSpecification(final IFile libraryFile,
-            final RemoteLocation remoteLocation) {
-        final LibrarySpecification spec = readSpecification(libraryFile);
-        spec.setRemoteLocation(remoteLocation);
-        spec.setSecondaryKey(remoteLocation.getUri());
-        return spec;
-    }
-    
+
+    public static LibrarySpecification readRemoteSpecification(final IFile libraryFile,
+            final RemoteLocation remoteLocation) {
+        final LibrarySpecification spec = readSpecification(libraryFile);
+        spec.setRemoteLocation(remoteLocation);
+        spec.setSecondaryKey(remoteLocation.getUri());
+        return spec;
+    }
+
     public static LibrarySpecification readReferencedSpecification(final IFile libraryFile,
             final ReferencedLibrary library) {
         final LibrarySpecification spec = readSpecification(libraryFile);
         spec.setReferenced(library);
         spec.setSecondaryKey(library.getPath());
         return spec;
-    }
-
-    public static class CannotReadLibrarySpecificationException extends RuntimeException {
-
-        public CannotReadLibrarySpecificationException(final String message, final Throwable cause) {
-            super(message, cause);
-        }
-    }
-}
+    }
+
+    public static class CannotReadLibrarySpecificationException extends RuntimeException {
+
+        public CannotReadLibrarySpecificationException(final String message, final Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
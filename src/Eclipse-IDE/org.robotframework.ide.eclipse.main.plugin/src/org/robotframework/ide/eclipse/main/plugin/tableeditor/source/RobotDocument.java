@@ -11,6 +11,9 @@ import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.jface.text.Document;
@@ -43,7 +46,21 @@ public class RobotDocument extends Document {
     private RobotParser parser;
     private File file;
 
-    private RobotFileOutput output;
+    // reparsed in place when possible, so it has to be read under the read lock of outputLock
+    private volatile RobotFileOutput output;
+
+    private final ReadWriteLock outputLock = new ReentrantReadWriteLock(true);
+
+    // incremented under the write lock of outputLock whenever output is parsed again, also when
+    // it was reparsed in place and the output object stayed the same
+    private volatile int outputRevision = 0;
+
+    private final Object changesLock = new Object();
+
+    // region of document changed since last parsing; offset is -1 when nothing has changed
+    private int changeOffset = -1;
+    private int changeRemovedLength;
+    private int changeInsertedLength;
 
     private final List<IRobotDocumentParsingListener> parseListeners = new ArrayList<>();
     private ScheduledFuture<?> scheduledOperation;
@@ -87,6 +104,18 @@ public class RobotDocument extends Document {
         parseListeners.remove(listener);
     }
 
+    /**
+     * Gets revision of parsed output. It changes each time the document is reparsed, so models
+     * built from output should be linked again when revision differs from the one they were built
+     * for. Should be called from the reader given to {@link #readNewestFileOutput(Function)}, so
+     * that the revision matches the output being read.
+     * 
+     * @return
+     */
+    public int getOutputRevision() {
+        return outputRevision;
+    }
+
     public boolean hasNewestModel() {
         return hasNewestVersion.get();
     }
@@ -118,6 +147,7 @@ public class RobotDocument extends Document {
 
     @Override
     protected void fireDocumentChanged(final DocumentEvent event) {
+        registerChange(event);
         if (reparseInSameThread) {
             // short documents can be reparsed in the same thread as this does not
             // affect performance too much
@@ -128,14 +158,71 @@ public class RobotDocument extends Document {
         super.fireDocumentChanged(event);
     }
 
+    private void registerChange(final DocumentEvent event) {
+        final int insertedLength = event.getText() == null ? 0 : event.getText().length();
+        synchronized (changesLock) {
+            if (changeOffset < 0) {
+                changeOffset = event.getOffset();
+                changeRemovedLength = event.getLength();
+                changeInsertedLength = insertedLength;
+            } else {
+                // merge with the region changed previously; the end is translated back into
+                // the coordinates of content which was parsed last time
+                final int start = Math.min(changeOffset, event.getOffset());
+                final int end = Math.max(changeOffset + changeInsertedLength, event.getOffset() + event.getLength());
+                changeRemovedLength = end - changeInsertedLength + changeRemovedLength - start;
+                changeInsertedLength = end + insertedLength - event.getLength() - start;
+                changeOffset = start;
+            }
+        }
+    }
+
     private synchronized void reparse() {
-        output = parser.parseEditorContent(get(), file);
-        for (final IRobotDocumentParsingListener listener : parseListeners) {
-            listener.reparsingFinished(output);
+        final int offset;
+        final int removedLength;
+        final int insertedLength;
+        synchronized (changesLock) {
+            offset = changeOffset;
+            removedLength = changeRemovedLength;
+            insertedLength = changeInsertedLength;
+            changeOffset = -1;
+        }
+        final String content = get();
+        // only the changed test case or keyword is parsed when possible, so the time needed
+        // depends on the size of the block rather than the size of whole document
+        final boolean reparsedInPlace = output != null && offset >= 0
+                && reparseInPlace(content, offset, removedLength, insertedLength);
+        final RobotFileOutput newOutput = reparsedInPlace ? output : parser.parseEditorContent(content, file);
+
+        outputLock.writeLock().lock();
+        try {
+            output = newOutput;
+            outputRevision++;
+            // downgraded, so that listeners are notified before the output is modified again
+            outputLock.readLock().lock();
+        } finally {
+            outputLock.writeLock().unlock();
+        }
+        try {
+            for (final IRobotDocumentParsingListener listener : parseListeners) {
+                listener.reparsingFinished(newOutput);
+            }
+        } finally {
+            outputLock.readLock().unlock();
         }
         hasNewestVersion.set(true);
     }
 
+    private boolean reparseInPlace(final String content, final int offset, final int removedLength,
+            final int insertedLength) {
+        outputLock.writeLock().lock();
+        try {
+            return parser.reparseEditorContent(output, content, file, offset, removedLength, insertedLength);
+        } finally {
+            outputLock.writeLock().unlock();
+        }
+    }
+
     private void reparseInSeparateThread() {
         if (scheduledOperation != null) {
             scheduledOperation.cancel(true);
@@ -192,30 +279,40 @@ public class RobotDocument extends Document {
     }
 
     /**
-     * Gets newest parsed model. Waits for reparsing end if needed. IllegalStateException is thrown
-     * when waiting has been interrupted.
+     * Reads newest parsed model. Waits for reparsing end if needed. The model is modified in place
+     * by following reparsings, so it should not be used outside of given reader.
+     * IllegalStateException is thrown when waiting has been interrupted.
      * 
+     * @param reader
      * @return
      * @throws InterruptedException
      */
-    public RobotFile getNewestModel() throws InterruptedException {
-        final RobotFileOutput newestFileOutput = getNewestFileOutput();
-        return newestFileOutput == null ? new RobotFile(null) : newestFileOutput.getFileModel();
+    public <T> T readNewestModel(final Function<RobotFile, T> reader) throws InterruptedException {
+        return readNewestFileOutput(newestFileOutput -> reader
+                .apply(newestFileOutput == null ? new RobotFile(null) : newestFileOutput.getFileModel()));
     }
 
     /**
-     * Gets newest parsed file output. Waits for reparsing end if needed. IllegalStateException is
-     * thrown when waiting has been interrupted.
+     * Reads newest parsed file output. Waits for reparsing end if needed. The output is modified in
+     * place by following reparsings, so it should not be used outside of given reader.
+     * IllegalStateException is thrown when waiting has been interrupted.
      * 
+     * @param reader
      * @return
      * @throws InterruptedException
      */
-    public RobotFileOutput getNewestFileOutput() throws InterruptedException {
+    public <T> T readNewestFileOutput(final Function<RobotFileOutput, T> reader) throws InterruptedException {
         try {
-            return getNewestOutput().get();
+            getNewestOutput().get();
         } catch (final ExecutionException e) {
             throw new IllegalStateException("Parsing the file coulnd't be finished", e.getCause());
         }
+        outputLock.readLock().lock();
+        try {
+            return reader.apply(output);
+        } finally {
+            outputLock.readLock().unlock();
+        }
     }
 
     private static RobotParser createParser(final RobotSuiteFile model) {
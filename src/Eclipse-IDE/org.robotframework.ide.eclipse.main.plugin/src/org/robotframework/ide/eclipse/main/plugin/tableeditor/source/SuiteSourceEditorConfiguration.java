@@ -45,7 +45,6 @@ import org.eclipse.swt.events.DisposeEvent;
 import org.eclipse.swt.events.DisposeListener;
 import org.eclipse.swt.graphics.RGB;
 import org.eclipse.swt.widgets.Shell;
-import org.rf.ide.core.testdata.model.RobotFileOutput;
 import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
 import org.robotframework.ide.eclipse.main.plugin.RedPreferences;
 import org.robotframework.ide.eclipse.main.plugin.RedPreferences.ColoringPreference;
@@ -186,17 +185,32 @@ class SuiteSourceEditorConfiguration extends SourceViewerConfiguration {
         };
         final Supplier<RobotSuiteFile> modelSupplier = new Supplier<RobotSuiteFile>() {
 
+            // revision of document output which was linked to the model most recently, so that all
+            // the processors share the same model until document is reparsed
+            private int linkedRevision = -1;
+
             @Override
-            public RobotSuiteFile get() {
+            public synchronized RobotSuiteFile get() {
                 final RobotSuiteFile suiteModel = editor.getFileModel();
-                suiteModel.dispose();
+                final RobotDocument document = (RobotDocument) editor.getDocument();
 
                 try {
-                    final RobotDocument document = (RobotDocument) editor.getDocument();
-                    final RobotFileOutput fileOutput = document.getNewestFileOutput();
-                    suiteModel.link(fileOutput);
+                    document.readNewestFileOutput(fileOutput -> {
+                        // revision is taken together with the output it describes; the output object
+                        // may stay the same when reparsed in place, so only revision tells it changed
+                        final int revision = document.getOutputRevision();
+                        if (revision != linkedRevision || fileOutput == null
+                                || suiteModel.getLinkedElement() != fileOutput.getFileModel()) {
+                            suiteModel.dispose();
+                            suiteModel.link(fileOutput);
+                            linkedRevision = revision;
+                        }
+                        return suiteModel;
+                    });
                 } catch (final InterruptedException e) {
                     // ok we'll return not-yet-parsed version
+                    suiteModel.dispose();
+                    linkedRevision = -1;
                 }
                 return suiteModel;
             }
@@ -17,7 +17,6 @@ import org.eclipse.jface.text.reconciler.IReconcilingStrategy;
 import org.eclipse.jface.text.reconciler.IReconcilingStrategyExtension;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.PlatformUI;
-import org.rf.ide.core.testdata.model.RobotFileOutput;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotModelEvents;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
 import org.robotframework.ide.eclipse.main.plugin.project.build.RobotArtifactsValidator;
@@ -76,10 +75,12 @@ public class SuiteSourceReconcilingStrategy implements IReconcilingStrategy, IRe
 
     private void reparseModel() {
         try {
-            final RobotFileOutput fileOutput = document.getNewestFileOutput();
-            final RobotSuiteFile suiteModel = getSuiteModel();
-            suiteModel.dispose();
-            suiteModel.link(fileOutput);
+            final RobotSuiteFile suiteModel = document.readNewestFileOutput(fileOutput -> {
+                final RobotSuiteFile model = getSuiteModel();
+                model.dispose();
+                model.link(fileOutput);
+                return model;
+            });
 
             final IEventBroker eventBroker = (IEventBroker) PlatformUI.getWorkbench().getService(IEventBroker.class);
             eventBroker.post(RobotModelEvents.REPARSING_DONE, suiteModel);
@@ -89,7 +90,15 @@ public class SuiteSourceReconcilingStrategy implements IReconcilingStrategy, IRe
     }
 
     private void updateFoldingStructure() {
-        final Collection<Position> positions = getFoldingSupport().calculateFoldingPositions(getSuiteModel(), document);
+        final Collection<Position> positions;
+        try {
+            // linked model is built from document output, which may be reparsed at the same time
+            positions = document.readNewestFileOutput(
+                    fileOutput -> getFoldingSupport().calculateFoldingPositions(getSuiteModel(), document));
+        } catch (final InterruptedException e) {
+            // ok so the folding will be updated later
+            return;
+        }
         Display.getDefault().asyncExec(new Runnable() {
 
             @Override
@@ -12,7 +12,6 @@ import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.rules.IToken;
 import org.eclipse.jface.text.rules.Token;
 import org.rf.ide.core.testdata.text.read.IRobotLineElement;
-import org.rf.ide.core.testdata.text.read.RobotLine;
 import org.robotframework.ide.eclipse.main.plugin.tableeditor.source.DocumentUtilities;
 import org.robotframework.ide.eclipse.main.plugin.tableeditor.source.RobotDocument;
 import org.robotframework.ide.eclipse.main.plugin.tableeditor.source.colouring.ISyntaxColouringRule.PositionedTextToken;
@@ -69,8 +68,8 @@ public class RedTokenScanner implements IRedTokenScanner {
             @Override
             public Deque<IRobotLineElement> get() {
                 try {
-                    final List<RobotLine> lines = document.getNewestModel().getFileContent();
-                    return new RedTokensQueueBuilder().buildQueue(rangeOffset, rangeLength, lines, rangeLine);
+                    return document.readNewestModel(model -> new RedTokensQueueBuilder().buildQueue(rangeOffset,
+                            rangeLength, model.getFileContent(), rangeLine));
                 } catch (final InterruptedException e) {
                     throw new UnableToScanTokensException("Unable to build tokens queue", e);
                 }
@@ -68,16 +68,8 @@ public class SourceDocumentationSelectionChangedListener {
 
         @Override
         protected IStatus run(final IProgressMonitor monitor) {
-            RobotFile linkedFile = suiteFile.getLinkedElement();
-            if (linkedFile == null && document != null) {
-                try {
-                    linkedFile = ((RobotDocument) document).getNewestModel();
-                } catch (final InterruptedException e) {
-                    // linked file will be null then
-                }
-            }
-
-            if (linkedFile != null) {
+            final RobotFile linkedFile = suiteFile.getLinkedElement();
+            if (linkedFile != null || document != null) {
                 final int lineSelected;
                 try {
                     lineSelected = (document.getLineOfOffset(currentRegion.getOffset()) + 1);
@@ -87,8 +79,12 @@ public class SourceDocumentationSelectionChangedListener {
                     return Status.OK_STATUS;
                 }
 
-                final Optional<IDocumentationHolder> docSettingToShow = linkedFile.getParent()
-                        .findDocumentation(currentRegion.getOffset(), lineSelected);
+                final Optional<IDocumentationHolder> docSettingToShow;
+                try {
+                    docSettingToShow = findDocumentation(linkedFile, lineSelected);
+                } catch (final InterruptedException e) {
+                    return Status.OK_STATUS;
+                }
 
                 if (docSettingToShow.isPresent()) {
                     if (isEditing.get()) {
@@ -112,6 +108,20 @@ public class SourceDocumentationSelectionChangedListener {
             return Status.OK_STATUS;
         }
 
+        private Optional<IDocumentationHolder> findDocumentation(final RobotFile linkedFile, final int line)
+                throws InterruptedException {
+            if (document instanceof RobotDocument) {
+                // linked file is built from document output, which is modified in place when reparsed
+                return ((RobotDocument) document).readNewestModel(model -> findDocumentationIn(model, line));
+            }
+            return findDocumentationIn(linkedFile, line);
+        }
+
+        private Optional<IDocumentationHolder> findDocumentationIn(final RobotFile model, final int line) {
+            return model == null || model.getParent() == null ? Optional.empty()
+                    : model.getParent().findDocumentation(currentRegion.getOffset(), line);
+        }
+
         private boolean shouldTryToFindKeywordDoc() {
             return currentRegion != null && view.hasShowLibdocEnabled() && !isEditing.get();
         }
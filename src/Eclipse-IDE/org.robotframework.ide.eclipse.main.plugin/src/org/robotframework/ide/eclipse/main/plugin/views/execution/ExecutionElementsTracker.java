@@ -11,6 +11,7 @@ import org.rf.ide.core.execution.ExecutionElement;
 import org.rf.ide.core.execution.ExecutionElementsFactory;
 import org.rf.ide.core.execution.RobotDefaultAgentEventListener;
 import org.rf.ide.core.execution.Status;
+import org.rf.ide.core.execution.server.AgentClient;
 import org.robotframework.ide.eclipse.main.plugin.launch.RobotTestExecutionService.RobotTestsLaunch;
 
 
@@ -18,10 +19,17 @@ public class ExecutionElementsTracker extends RobotDefaultAgentEventListener {
 
     private final RobotTestsLaunch testsLaunchContext;
 
+    private int clientId;
+
     public ExecutionElementsTracker(final RobotTestsLaunch testsLaunchContext) {
         this.testsLaunchContext = testsLaunchContext;
     }
 
+    @Override
+    public void setClient(final AgentClient client) {
+        this.clientId = client.getId();
+    }
+
     @Override
     public void handleAgentInitializing() {
         testsLaunchContext.getExecutionData(ExecutionElementsStore.class, ExecutionElementsStore::new);
@@ -57,6 +65,7 @@ public class ExecutionElementsTracker extends RobotDefaultAgentEventListener {
     }
 
     private void addExecutionElement(final ExecutionElement element) {
-        testsLaunchContext.performOnExecutionData(ExecutionElementsStore.class, store -> store.addElement(element));
+        testsLaunchContext.performOnExecutionData(ExecutionElementsStore.class,
+                store -> store.addElement(element.forClient(clientId)));
     }
 }
@@ -6,8 +6,10 @@
 package org.robotframework.ide.eclipse.main.plugin.views.execution;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.annotation.PostConstruct;
@@ -71,6 +73,7 @@ import org.robotframework.ide.eclipse.main.plugin.views.execution.ExecutionEleme
 import org.robotframework.red.actions.CollapseAllAction;
 import org.robotframework.red.actions.ExpandAllAction;
 import org.robotframework.red.graphics.ImagesManager;
+import org.robotframework.red.swt.SwtBatchingQueue;
 import org.robotframework.red.swt.SwtThread;
 import org.robotframework.red.viewers.Selections;
 
@@ -85,6 +88,8 @@ import com.google.common.base.Strings;
 public class ExecutionView {
     
     public static final String ID = "org.robotframework.ide.ExecutionView";
+
+    private static final int UPDATE_INTERVAL_IN_MS = 100;
 
     @Inject
     protected IEventBroker eventBroker;
@@ -111,12 +116,15 @@ public class ExecutionView {
 
     private final List<ExecutionStatus> executionViewerInput = new ArrayList<>();
 
-    private final LinkedList<ExecutionStatus> suitesStack = new LinkedList<>();
+    // suites stacks are kept separately for each agent, as many agents may execute tests in parallel
+    private final Map<Integer, LinkedList<ExecutionStatus>> suitesStacks = new HashMap<>();
 
     private RobotTestExecutionListener executionListener;
     
-    private final ExecutionElementsStoreListener storeListener =
-            (store, elem) -> SwtThread.syncExec(() -> executionEvent(elem));
+    private final SwtBatchingQueue<ExecutionElement> elementsQueue = new SwtBatchingQueue<>(UPDATE_INTERVAL_IN_MS,
+            this::executionEvents);
+
+    private final ExecutionElementsStoreListener storeListener = (store, elem) -> elementsQueue.add(elem);
 
     public ExecutionView() {
         this(RedPlugin.getTestExecutionService());
@@ -217,12 +225,14 @@ public class ExecutionView {
             executionService.forEachLaunch(launch -> launch.getExecutionData(ExecutionElementsStore.class)
                     .ifPresent(store -> store.removeStoreListener(storeListener)));
         }
+        elementsQueue.dispose();
     }
 
     private void executionEvents(final List<ExecutionElement> executionElements) {
         for (final ExecutionElement executionElement : executionElements) {
             executionEvent(executionElement);
         }
+        refreshView();
     }
 
     private void executionEvent(final ExecutionElement executionElement) {
@@ -237,11 +247,10 @@ public class ExecutionView {
         } else if (isOutputFileEvent(executionElement)) {
             handleOutputFileEvent(executionElement);
         }
-        refreshView();
     }
 
     private void clearView() {
-        suitesStack.clear();
+        suitesStacks.clear();
         executionViewerInput.clear();
         setViewerInput();
         passCounter = 0;
@@ -391,6 +400,7 @@ public class ExecutionView {
     private void handleSuiteStartEvent(final ExecutionElement executionElement) {
         final ExecutionStatus newSuiteExecutionStatus = new ExecutionStatus(executionElement.getName(), Status.RUNNING,
                 executionElement.getType(), new ArrayList<ExecutionStatus>());
+        final LinkedList<ExecutionStatus> suitesStack = getSuitesStack(executionElement);
         if (suitesStack.isEmpty()) {
             suitesStack.add(newSuiteExecutionStatus);
             executionViewerInput.add(newSuiteExecutionStatus);
@@ -408,6 +418,7 @@ public class ExecutionView {
     private void handleTestStartEvent(final ExecutionElement executionElement) {
         final ExecutionStatus newTestExecutionStatus = new ExecutionStatus(executionElement.getName(), Status.RUNNING,
                 executionElement.getType(), new ArrayList<ExecutionStatus>());
+        final LinkedList<ExecutionStatus> suitesStack = getSuitesStack(executionElement);
         if (!suitesStack.isEmpty()) {
             final ExecutionStatus lastSuite = suitesStack.getLast();
             newTestExecutionStatus.setParent(lastSuite);
@@ -418,6 +429,7 @@ public class ExecutionView {
     }
     
     private void handleSuiteEndEvent(final ExecutionElement executionElement) {
+        final LinkedList<ExecutionStatus> suitesStack = getSuitesStack(executionElement);
         if (!suitesStack.isEmpty()) {
             final ExecutionStatus lastSuite = suitesStack.getLast();
             final int elapsedTime = executionElement.getElapsedTime();
@@ -434,6 +446,7 @@ public class ExecutionView {
     }
     
     private void handleTestEndEvent(final ExecutionElement executionElement) {
+        final LinkedList<ExecutionStatus> suitesStack = getSuitesStack(executionElement);
         if (!suitesStack.isEmpty()) {
             final ExecutionStatus lastSuite = suitesStack.getLast();
             final List<ExecutionStatus> lastSuiteChildren = lastSuite.getChildren();
@@ -460,6 +473,10 @@ public class ExecutionView {
         }
     }
     
+    private LinkedList<ExecutionStatus> getSuitesStack(final ExecutionElement executionElement) {
+        return suitesStacks.computeIfAbsent(executionElement.getClientId(), clientId -> new LinkedList<>());
+    }
+
     private void handleOutputFileEvent(final ExecutionElement executionElement) {
         rerunFailedOnlyAction.setOutputFilePath(executionElement.getName());
     }
@@ -478,7 +495,10 @@ public class ExecutionView {
 
         @Override
         public void executionStarting(final RobotTestsLaunch launch) {
-            SwtThread.syncExec(() -> clearView());
+            SwtThread.syncExec(() -> {
+                elementsQueue.clear();
+                clearView();
+            });
 
             launch.getExecutionData(ExecutionElementsStore.class, ExecutionElementsStore::new)
                     .addStoreListener(storeListener);
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.views.message;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.swt.custom.StyledTextContent;
+import org.eclipse.swt.custom.TextChangeListener;
+import org.eclipse.swt.custom.TextChangedEvent;
+import org.eclipse.swt.custom.TextChangingEvent;
+
+/**
+ * Read-only content of styled text which shows the prefix of messages store. Text is never copied
+ * as a whole; only requested lines are read from the store, while offsets of lines are indexed
+ * here as the visible part of the store grows. Has to be accessed in UI thread only.
+ */
+class ExecutionMessagesContent implements StyledTextContent {
+
+    private static final int INDEXING_CHUNK_SIZE = 64 * 1024;
+
+    private final ExecutionMessagesStore store;
+
+    private final List<TextChangeListener> listeners = new ArrayList<>();
+
+    private int charCount = 0;
+
+    private int[] lineOffsets = new int[64];
+
+    private int lineCount = 1;
+
+    ExecutionMessagesContent(final ExecutionMessagesStore store, final int initialLength) {
+        this.store = store;
+        for (int offset = 0; offset < initialLength; offset += INDEXING_CHUNK_SIZE) {
+            final String chunk = store.getText(offset,
+                    Math.min(INDEXING_CHUNK_SIZE, initialLength - offset));
+            indexLines(chunk);
+            charCount += chunk.length();
+        }
+    }
+
+    /**
+     * Makes given text, which was already appended to the store, visible.
+     *
+     * @param text
+     */
+    void append(final String text) {
+        final TextChangingEvent changingEvent = new TextChangingEvent(this);
+        changingEvent.start = charCount;
+        changingEvent.newText = text;
+        changingEvent.newCharCount = text.length();
+        changingEvent.newLineCount = countLineDelimiters(text);
+        listeners.forEach(listener -> listener.textChanging(changingEvent));
+
+        indexLines(text);
+        charCount += text.length();
+
+        final TextChangedEvent changedEvent = new TextChangedEvent(this);
+        listeners.forEach(listener -> listener.textChanged(changedEvent));
+    }
+
+    private void indexLines(final String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                if (lineCount == lineOffsets.length) {
+                    lineOffsets = Arrays.copyOf(lineOffsets, 2 * lineOffsets.length);
+                }
+                lineOffsets[lineCount++] = charCount + i + 1;
+            }
+        }
+    }
+
+    private static int countLineDelimiters(final String text) {
+        int count = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void addTextChangeListener(final TextChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeTextChangeListener(final TextChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public int getCharCount() {
+        return charCount;
+    }
+
+    @Override
+    public String getLine(final int lineIndex) {
+        final int lineOffset = getOffsetAtLine(lineIndex);
+        final int lineEnd = lineIndex + 1 < lineCount ? lineOffsets[lineIndex + 1] - 1 : charCount;
+        return getTextRange(lineOffset, lineEnd - lineOffset);
+    }
+
+    @Override
+    public int getLineAtOffset(final int offset) {
+        if (offset < 0 || offset > charCount) {
+            throw new IllegalArgumentException("Offset " + offset + " is out of content range");
+        }
+        final int index = Arrays.binarySearch(lineOffsets, 0, lineCount, offset);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    @Override
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    @Override
+    public String getLineDelimiter() {
+        return "\n";
+    }
+
+    @Override
+    public int getOffsetAtLine(final int lineIndex) {
+        if (lineIndex < 0 || lineIndex >= lineCount) {
+            throw new IllegalArgumentException("Line " + lineIndex + " is out of content range");
+        }
+        return lineOffsets[lineIndex];
+    }
+
+    @Override
+    public String getTextRange(final int start, final int length) {
+        return store.getText(start, length);
+    }
+
+    @Override
+    public void replaceTextRange(final int start, final int replaceLength, final String text) {
+        // content is read-only, it only grows when messages are appended to the store
+    }
+
+    @Override
+    public void setText(final String text) {
+        // content is read-only, it only grows when messages are appended to the store
+    }
+}
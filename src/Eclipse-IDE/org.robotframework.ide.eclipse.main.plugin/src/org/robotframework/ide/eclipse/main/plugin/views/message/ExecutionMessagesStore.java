@@ -5,38 +5,168 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.views.message;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.ui.services.IDisposable;
+import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
 
-class ExecutionMessagesStore implements IDisposable {
+import com.google.common.annotations.VisibleForTesting;
 
-    private final StringBuilder message = new StringBuilder();
+/**
+ * Append-only storage of execution messages. Only the most recent characters are kept in memory;
+ * whenever in-memory tail grows over given limit by whole segment, the oldest segment is written
+ * to temporary file and is read back through memory mapping, so long executions do not keep whole
+ * log on the heap.
+ */
+public class ExecutionMessagesStore implements IDisposable {
+
+    public static final int DEFAULT_IN_MEMORY_LIMIT = 1_000_000;
+
+    public static final int MIN_IN_MEMORY_LIMIT = 10_000;
+
+    public static final int MAX_IN_MEMORY_LIMIT = 100_000_000;
+
+    private static final int SEGMENT_SIZE = 256 * 1024;
+
+    private final int inMemoryLimit;
+
+    private final int segmentSize;
+
+    private final StringBuilder tail = new StringBuilder();
+
+    private final List<CharBuffer> segments = new ArrayList<>();
+
+    private int spilledLength = 0;
+
+    private FileChannel spillChannel;
+
+    private ByteBuffer spillBuffer;
+
+    private boolean spillingFailed = false;
 
     private final List<ExecutionMessagesStoreListener> listeners = new ArrayList<>();
 
-    void addStoreListener(final ExecutionMessagesStoreListener listener) {
+    ExecutionMessagesStore() {
+        this(RedPlugin.getDefault().getPreferences().getLaunchMessageLogInMemoryLimit(), SEGMENT_SIZE);
+    }
+
+    @VisibleForTesting
+    ExecutionMessagesStore(final int inMemoryLimit, final int segmentSize) {
+        this.inMemoryLimit = inMemoryLimit;
+        this.segmentSize = segmentSize;
+    }
+
+    synchronized void addStoreListener(final ExecutionMessagesStoreListener listener) {
         listeners.add(listener);
     }
 
-    void removeStoreListener(final ExecutionMessagesStoreListener listener) {
+    synchronized void removeStoreListener(final ExecutionMessagesStoreListener listener) {
         listeners.remove(listener);
     }
 
     @Override
-    public void dispose() {
-        message.setLength(0);
+    public synchronized void dispose() {
+        tail.setLength(0);
+        segments.clear();
+        spilledLength = 0;
+        spillBuffer = null;
+        closeSpillChannel();
         listeners.clear();
     }
 
-    void append(final String msg) {
-        message.append(msg);
+    synchronized void append(final String msg) {
+        tail.append(msg);
+        while (!spillingFailed && tail.length() >= inMemoryLimit + segmentSize) {
+            spillOldestSegment();
+        }
         listeners.forEach(listener -> listener.storeAppended(this, msg));
     }
 
-    String getMessage() {
-        return message.toString();
+    private void spillOldestSegment() {
+        try {
+            if (spillChannel == null) {
+                spillChannel = FileChannel.open(Files.createTempFile("red_execution_messages", ".log"),
+                        StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+                spillBuffer = ByteBuffer.allocate(2 * segmentSize);
+            }
+            spillBuffer.clear();
+            for (int i = 0; i < segmentSize; i++) {
+                spillBuffer.putChar(tail.charAt(i));
+            }
+            spillBuffer.flip();
+
+            final long position = 2L * spilledLength;
+            while (spillBuffer.hasRemaining()) {
+                spillChannel.write(spillBuffer, position + spillBuffer.position());
+            }
+            segments.add(spillChannel.map(MapMode.READ_ONLY, position, 2L * segmentSize).asCharBuffer());
+            tail.delete(0, segmentSize);
+            spilledLength += segmentSize;
+
+        } catch (final IOException e) {
+            RedPlugin.logError("Unable to store execution messages in temporary file, "
+                    + "all further messages will be kept in memory", e);
+            spillingFailed = true;
+            spillBuffer = null;
+        }
+    }
+
+    private void closeSpillChannel() {
+        if (spillChannel != null) {
+            try {
+                spillChannel.close();
+            } catch (final IOException e) {
+                // nothing to do, file will not be used anymore
+            }
+            spillChannel = null;
+        }
+    }
+
+    synchronized int getLength() {
+        return spilledLength + tail.length();
+    }
+
+    /**
+     * Returns stored text from given range. The range is clipped to currently stored text.
+     *
+     * @param start
+     * @param length
+     * @return
+     */
+    synchronized String getText(final int start, final int length) {
+        final int end = Math.min(start + length, getLength());
+        final StringBuilder text = new StringBuilder(Math.max(end - start, 0));
+
+        int offset = start;
+        while (offset < end && offset < spilledLength) {
+            final int segmentStart = offset - offset % segmentSize;
+            final CharBuffer segment = segments.get(offset / segmentSize).duplicate();
+            segment.limit(Math.min(end, segmentStart + segmentSize) - segmentStart);
+            segment.position(offset - segmentStart);
+            text.append(segment);
+            offset += segment.remaining();
+        }
+        if (offset < end) {
+            text.append(tail, offset - spilledLength, end - spilledLength);
+        }
+        return text.toString();
+    }
+
+    synchronized String getMessage() {
+        return getText(0, getLength());
+    }
+
+    @VisibleForTesting
+    synchronized int getInMemoryLength() {
+        return tail.length();
     }
 
     @FunctionalInterface
@@ -45,4 +175,4 @@ class ExecutionMessagesStore implements IDisposable {
         void storeAppended(ExecutionMessagesStore store, String appendedMsg);
     }
 
-}
\ No newline at end of file
+}
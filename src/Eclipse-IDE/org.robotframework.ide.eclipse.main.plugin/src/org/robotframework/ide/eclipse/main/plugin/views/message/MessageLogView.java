@@ -21,6 +21,7 @@ import org.robotframework.ide.eclipse.main.plugin.launch.RobotTestExecutionServi
 import org.robotframework.ide.eclipse.main.plugin.launch.RobotTestExecutionService.RobotTestExecutionListener;
 import org.robotframework.ide.eclipse.main.plugin.launch.RobotTestExecutionService.RobotTestsLaunch;
 import org.robotframework.ide.eclipse.main.plugin.views.message.ExecutionMessagesStore.ExecutionMessagesStoreListener;
+import org.robotframework.red.swt.SwtBatchingQueue;
 import org.robotframework.red.swt.SwtThread;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -32,14 +33,23 @@ import com.google.common.annotations.VisibleForTesting;
 public class MessageLogView {
     
     public static final String ID = "org.robotframework.ide.MessageLogView";
+
+    private static final int UPDATE_INTERVAL_IN_MS = 100;
     
     private final RobotTestExecutionService executionService;
 
     private StyledText styledText;
 
+    private ExecutionMessagesContent content;
+
+    private ExecutionMessagesStore displayedStore;
+
     private RobotTestExecutionListener executionListener;
 
-    private final ExecutionMessagesStoreListener storeListener = (store, msg) -> SwtThread.syncExec(() -> append(msg));
+    private final SwtBatchingQueue<String> messagesQueue = new SwtBatchingQueue<>(UPDATE_INTERVAL_IN_MS,
+            messages -> append(String.join("", messages)));
+
+    private final ExecutionMessagesStoreListener storeListener = (store, msg) -> messagesQueue.add(msg);
     
     public MessageLogView() {
         this(RedPlugin.getTestExecutionService());
@@ -74,29 +84,43 @@ public class MessageLogView {
         // synchronize on service, so that any thread which would like to start another launch
         // will have to wait
         synchronized (executionService) {
-            executionListener = new ExecutionListener(storeListener);
+            executionListener = new ExecutionListener();
             executionService.addExecutionListener(executionListener);
 
             final Optional<RobotTestsLaunch> lastLaunch = executionService.getLastLaunch();
             if (lastLaunch.isPresent()) {
-                final RobotTestsLaunch launch = lastLaunch.get();
-
-                // this launch may be currently running, so we have to synchronize in order
-                // to get proper state of messages, as other threads may change it in the meantime
-                synchronized (launch) {
-                    final ExecutionMessagesStore messagesStore = launch.getExecutionData(ExecutionMessagesStore.class,
-                            ExecutionMessagesStore::new);
-                    messagesStore.addStoreListener(storeListener);
-
-                    final String currentMessages = messagesStore.getMessage();
-                    SwtThread.syncExec(() -> append(currentMessages));
-                }
+                showMessagesOf(lastLaunch.get());
             }
         }
     }
 
+    private void showMessagesOf(final RobotTestsLaunch launch) {
+        // content indexes only messages of displayed store, so messages of previous one
+        // cannot be queued anymore
+        if (displayedStore != null) {
+            displayedStore.removeStoreListener(storeListener);
+        }
+
+        // this launch may be currently running, so we have to synchronize in order
+        // to get proper state of messages, as other threads may change it in the meantime
+        synchronized (launch) {
+            final ExecutionMessagesStore messagesStore = launch.getExecutionData(ExecutionMessagesStore.class,
+                    ExecutionMessagesStore::new);
+            messagesStore.addStoreListener(storeListener);
+            displayedStore = messagesStore;
+
+            final int currentLength = messagesStore.getLength();
+            SwtThread.syncExec(() -> {
+                messagesQueue.clear();
+                content = new ExecutionMessagesContent(messagesStore, currentLength);
+                styledText.setContent(content);
+                styledText.setTopIndex(styledText.getLineCount() - 1);
+            });
+        }
+    }
+
     private void append(final String msg) {
-        styledText.append(msg);
+        content.append(msg);
         styledText.setTopIndex(styledText.getLineCount() - 1);
     }
 
@@ -112,22 +136,14 @@ public class MessageLogView {
             executionService.forEachLaunch(launch -> launch.getExecutionData(ExecutionMessagesStore.class)
                     .ifPresent(store -> store.removeStoreListener(storeListener)));
         }
+        messagesQueue.dispose();
     }
 
     private class ExecutionListener implements RobotTestExecutionListener {
 
-        private final ExecutionMessagesStoreListener storeListener;
-
-        ExecutionListener(final ExecutionMessagesStoreListener storeListener) {
-            this.storeListener = storeListener;
-        }
-
         @Override
         public void executionStarting(final RobotTestsLaunch launch) {
-            SwtThread.syncExec(() -> styledText.setText(""));
-
-            launch.getExecutionData(ExecutionMessagesStore.class, ExecutionMessagesStore::new)
-                    .addStoreListener(storeListener);
+            showMessagesOf(launch);
         }
 
         @Override
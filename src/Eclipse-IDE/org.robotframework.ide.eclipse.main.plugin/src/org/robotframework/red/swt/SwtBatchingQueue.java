@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.red.swt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Queue of elements produced by non-UI threads which are handed over to UI thread in batches.
+ * Producers never wait for UI thread: elements are added to lock-free queue and single draining of
+ * the queue is scheduled at most once per given interval, so all the elements produced in the
+ * meantime are consumed by single UI update.
+ *
+ * @param <T>
+ *            Type of queued elements
+ */
+public class SwtBatchingQueue<T> {
+
+    private final Display display;
+
+    private final int intervalInMs;
+
+    private final Consumer<List<T>> batchConsumer;
+
+    private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean isDrainScheduled = new AtomicBoolean(false);
+
+    private volatile boolean isDisposed = false;
+
+    public SwtBatchingQueue(final int intervalInMs, final Consumer<List<T>> batchConsumer) {
+        this(Display.getDefault(), intervalInMs, batchConsumer);
+    }
+
+    public SwtBatchingQueue(final Display display, final int intervalInMs, final Consumer<List<T>> batchConsumer) {
+        this.display = display;
+        this.intervalInMs = intervalInMs;
+        this.batchConsumer = batchConsumer;
+    }
+
+    /**
+     * Adds element to the queue. May be called from any thread and returns immediately.
+     *
+     * @param element
+     */
+    public void add(final T element) {
+        if (isDisposed) {
+            return;
+        }
+        queue.add(element);
+        if (isDrainScheduled.compareAndSet(false, true) && !display.isDisposed()) {
+            SwtThread.asyncExec(display, () -> display.timerExec(intervalInMs, this::flush));
+        }
+    }
+
+    /**
+     * Consumes all currently queued elements. Has to be called in UI thread.
+     */
+    public void flush() {
+        isDrainScheduled.set(false);
+
+        final List<T> batch = new ArrayList<>();
+        T element;
+        while ((element = queue.poll()) != null) {
+            batch.add(element);
+        }
+        if (!batch.isEmpty() && !isDisposed) {
+            batchConsumer.accept(batch);
+        }
+    }
+
+    /**
+     * Removes all queued elements without consuming them.
+     */
+    public void clear() {
+        queue.clear();
+    }
+
+    public void dispose() {
+        isDisposed = true;
+        queue.clear();
+    }
+}
@@ -30,14 +30,33 @@ public class ExecutionElement {
 
     private final String message;
 
+    private final int clientId;
+
     ExecutionElement(final String name, final ExecutionElementType type, final File source, final int elapsedTime,
             final Status status, final String message) {
+        this(name, type, source, elapsedTime, status, message, 0);
+    }
+
+    private ExecutionElement(final String name, final ExecutionElementType type, final File source,
+            final int elapsedTime, final Status status, final String message, final int clientId) {
         this.name = name;
         this.type = type;
         this.source = source;
         this.elapsedTime = elapsedTime;
         this.status = status;
         this.message = message;
+        this.clientId = clientId;
+    }
+
+    /**
+     * Returns copy of this element reported by agent client of given id. It allows to separate
+     * elements coming from agents which are executing tests in parallel.
+     *
+     * @param clientId
+     * @return
+     */
+    public ExecutionElement forClient(final int clientId) {
+        return new ExecutionElement(name, type, source, elapsedTime, status, message, clientId);
     }
 
     public String getName() {
@@ -63,4 +82,8 @@ public class ExecutionElement {
     public Status getStatus() {
         return status;
     }
+
+    public int getClientId() {
+        return clientId;
+    }
 }
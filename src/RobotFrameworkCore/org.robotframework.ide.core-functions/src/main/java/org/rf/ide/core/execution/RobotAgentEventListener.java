@@ -17,6 +17,23 @@ public interface RobotAgentEventListener {
 
     boolean isHandlingEvents();
 
+    /**
+     * Variables events may carry huge payloads, so they are decoded and passed to listeners only
+     * when at least one listener is handling them.
+     *
+     * @return true if listener needs {@link #handleVariables(Map)} to be called
+     */
+    boolean isHandlingVariables();
+
+    /**
+     * Keyword events are the most frequent ones, so agent is asked not to send them at all when
+     * none of listeners is handling them.
+     *
+     * @return true if listener needs {@link #handleKeywordStarted(String, String, List)} and
+     *         {@link #handleKeywordEnded(String, String)} to be called
+     */
+    boolean isHandlingKeywords();
+
     void handleAgentInitializing();
 
     void handleAgentIsReadyToStart();
@@ -23,6 +23,16 @@ public abstract class RobotDefaultAgentEventListener implements RobotAgentEventL
         return false;
     }
 
+    @Override
+    public boolean isHandlingVariables() {
+        return false;
+    }
+
+    @Override
+    public boolean isHandlingKeywords() {
+        return false;
+    }
+
     @Override
     public void handleAgentInitializing() {
         // implement in subclasses
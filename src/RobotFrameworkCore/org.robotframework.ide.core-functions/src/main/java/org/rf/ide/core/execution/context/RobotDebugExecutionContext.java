@@ -7,7 +7,9 @@ package org.rf.ide.core.execution.context;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.rf.ide.core.testdata.RobotParser;
 import org.rf.ide.core.testdata.importer.ResourceImporter;
@@ -27,6 +29,8 @@ public class RobotDebugExecutionContext {
 
     private RobotFile currentModel;
 
+    private final Map<String, TestCase> currentTestCases;
+
     private RobotParser robotParser;
 
     private final List<File> resourceImportPaths;
@@ -48,6 +52,7 @@ public class RobotDebugExecutionContext {
         testCaseExecutionRowCounter = new TestCaseExecutionRowCounter();
         executableRowFindersManager = new ExecutableRowFindersManager();
         resourceImportPaths = new ArrayList<>();
+        currentTestCases = new HashMap<>();
     }
 
     public void resourceImport(final File path) {
@@ -64,6 +69,14 @@ public class RobotDebugExecutionContext {
         this.currentModel = robotFileOutput.getFileModel();
         this.robotParser = robotParser;
 
+        // tests are indexed once, so that starting a test does not require iterating over all
+        // tests of the suite
+        currentTestCases.clear();
+        final TestCaseTable testCaseTable = currentModel.getTestCaseTable();
+        for (final TestCase testCase : testCaseTable.getTestCases()) {
+            currentTestCases.putIfAbsent(testCase.getTestName().getText().toLowerCase(), testCase);
+        }
+
         for (final File path : resourceImportPaths) {
             new ResourceImporter(robotParser).importDebugResource(robotFileOutput, path);
         }
@@ -75,13 +88,10 @@ public class RobotDebugExecutionContext {
 
     public boolean startTest(final String testName) {
         if (isInSuite()) {
-            final TestCaseTable testCaseTable = currentModel.getTestCaseTable();
-            final List<TestCase> testCases = testCaseTable.getTestCases();
-            for (final TestCase testCase : testCases) {
-                if (testCase.getTestName().getText().toString().equalsIgnoreCase(testName)) {
-                    executableRowFindersManager.initFindersAtTestCaseStart(testCase);
-                    return true;
-                }
+            final TestCase testCase = currentTestCases.get(testName.toLowerCase());
+            if (testCase != null) {
+                executableRowFindersManager.initFindersAtTestCaseStart(testCase);
+                return true;
             }
         }
         return false;
@@ -104,6 +114,7 @@ public class RobotDebugExecutionContext {
 
     public void endSuite() {
         this.currentModel = null;
+        this.currentTestCases.clear();
     }
 
     public KeywordPosition findKeywordPosition() {
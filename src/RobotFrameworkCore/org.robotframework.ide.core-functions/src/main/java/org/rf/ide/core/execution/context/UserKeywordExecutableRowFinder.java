@@ -9,8 +9,10 @@ import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.rf.ide.core.testdata.RobotParser;
@@ -35,8 +37,19 @@ public class UserKeywordExecutableRowFinder implements IRobotExecutableRowFinder
 
     private final List<ResourceImportReference> resourceImportReferences = new ArrayList<>();
 
+    // references are collected for whole execution, so resources imported by many suites are
+    // added only once and their keywords are not put into accessible keywords again
+    private final Map<Path, RobotFileOutput> collectedReferences = new HashMap<>();
+
+    private int referencesWithAccessibleKeywords = 0;
+
     private final ListMultimap<String, UserKeyword> accessibleKeywords = ArrayListMultimap.create();
 
+    private final Map<UserKeyword, ResourceImportReference> referencesOfKeywords = new HashMap<>();
+
+    // keywords found for names used in executed calls; cleared whenever accessible keywords change
+    private final Map<String, UserKeyword> foundKeywordsByName = new HashMap<>();
+
     private final KeywordSearcher keywordSearcher = new KeywordSearcher();
 
     private final UserKeywordExtractor userKeywordExtractor = new UserKeywordExtractor();
@@ -55,23 +68,7 @@ public class UserKeywordExecutableRowFinder implements IRobotExecutableRowFinder
         UserKeyword newUserKeyword = parentKeywordContext.getUserKeyword();
 
         if (newUserKeyword == null) {
-            final String keywordName = extractIfNameIsFromVariableDeclaration(parentKeywordContext.getName());
-            final ListMultimap<String, UserKeyword> foundKeywords = keywordSearcher.findKeywords(
-                    accessibleKeywords.asMap(), accessibleKeywords.values(), userKeywordExtractor, keywordName, true);
-            final List<UserKeyword> bestMatchingKeywords = keywordSearcher.getBestMatchingKeyword(foundKeywords,
-                    userKeywordExtractor, keywordName);
-
-            if (bestMatchingKeywords.size() == 1) {
-                newUserKeyword = bestMatchingKeywords.get(0);
-            } else if (bestMatchingKeywords.size() > 1) {
-                // find local
-                for (final UserKeyword currentUserKeyword : bestMatchingKeywords) {
-                    if (userKeywordExtractor.scope(currentUserKeyword) == KeywordScope.LOCAL) {
-                        newUserKeyword = currentUserKeyword;
-                        break;
-                    }
-                }
-            }
+            newUserKeyword = findKeyword(parentKeywordContext.getName());
         }
 
         if (newUserKeyword != null) {
@@ -90,18 +87,39 @@ public class UserKeywordExecutableRowFinder implements IRobotExecutableRowFinder
         return executionRow;
     }
 
+    private UserKeyword findKeyword(final String name) {
+        if (foundKeywordsByName.containsKey(name)) {
+            return foundKeywordsByName.get(name);
+        }
+        UserKeyword newUserKeyword = null;
+        final String keywordName = extractIfNameIsFromVariableDeclaration(name);
+        final ListMultimap<String, UserKeyword> foundKeywords = keywordSearcher.findKeywords(
+                accessibleKeywords.asMap(), accessibleKeywords.values(), userKeywordExtractor, keywordName, true);
+        final List<UserKeyword> bestMatchingKeywords = keywordSearcher.getBestMatchingKeyword(foundKeywords,
+                userKeywordExtractor, keywordName);
+
+        if (bestMatchingKeywords.size() == 1) {
+            newUserKeyword = bestMatchingKeywords.get(0);
+        } else if (bestMatchingKeywords.size() > 1) {
+            // find local
+            for (final UserKeyword currentUserKeyword : bestMatchingKeywords) {
+                if (userKeywordExtractor.scope(currentUserKeyword) == KeywordScope.LOCAL) {
+                    newUserKeyword = currentUserKeyword;
+                    break;
+                }
+            }
+        }
+        foundKeywordsByName.put(name, newUserKeyword);
+        return newUserKeyword;
+    }
+
     private ResourceImportReference findResource(final KeywordContext parentKeywordContext,
             final UserKeyword newUserKeyword) {
         ResourceImportReference reference = null;
         if (parentKeywordContext.getResourceImportReference() != null) {
             reference = parentKeywordContext.getResourceImportReference();
         } else {
-            for (final ResourceImportReference refImp : resourceImportReferences) {
-                if (refImp.getReference().getFileModel().getKeywordTable().getKeywords().contains(newUserKeyword)) {
-                    reference = refImp;
-                    break;
-                }
-            }
+            reference = referencesOfKeywords.get(newUserKeyword);
         }
         return reference;
     }
@@ -146,7 +164,6 @@ public class UserKeywordExecutableRowFinder implements IRobotExecutableRowFinder
             final Path referencePath = processedFile.toPath().toAbsolutePath();
             if (!visitedPaths.contains(referencePath)) {
                 visitedPaths.add(referencePath);
-                resourceImportReferences.add(ref);
                 if (robotParser != null
                         && processedFile.lastModified() != ref.getReference().getLastModificationEpochTime()) {
                     final List<RobotFileOutput> parse = robotParser.parse(processedFile);
@@ -154,6 +171,9 @@ public class UserKeywordExecutableRowFinder implements IRobotExecutableRowFinder
                         ref.updateReference(parse.get(0));
                     }
                 }
+                if (collectedReferences.put(referencePath, ref.getReference()) != ref.getReference()) {
+                    resourceImportReferences.add(ref);
+                }
                 final List<ResourceImportReference> referencesOfReference = ref.getReference()
                         .getResourceImportReferences();
                 if (!referencesOfReference.isEmpty()) {
@@ -166,6 +186,7 @@ public class UserKeywordExecutableRowFinder implements IRobotExecutableRowFinder
     public void updateAccessibleKeywords(final List<UserKeyword> userKeywords) {
         addKeywordsFromTestSuite(userKeywords);
         addKeywordsFromReferences();
+        foundKeywordsByName.clear();
     }
 
     private void addKeywordsFromTestSuite(final List<UserKeyword> userKeywords) {
@@ -173,10 +194,16 @@ public class UserKeywordExecutableRowFinder implements IRobotExecutableRowFinder
     }
 
     private void addKeywordsFromReferences() {
-        for (final ResourceImportReference refImport : resourceImportReferences) {
+        final List<ResourceImportReference> newReferences = resourceImportReferences
+                .subList(referencesWithAccessibleKeywords, resourceImportReferences.size());
+        referencesWithAccessibleKeywords = resourceImportReferences.size();
+        for (final ResourceImportReference refImport : newReferences) {
             final String fullFileName = refImport.getReference().getProcessedFile().getName();
-            fillAllKeywordsMap(Files.getNameWithoutExtension(fullFileName).toLowerCase(),
-                    refImport.getReference().getFileModel().getKeywordTable().getKeywords());
+            final List<UserKeyword> keywords = refImport.getReference().getFileModel().getKeywordTable().getKeywords();
+            fillAllKeywordsMap(Files.getNameWithoutExtension(fullFileName).toLowerCase(), keywords);
+            for (final UserKeyword keyword : keywords) {
+                referencesOfKeywords.putIfAbsent(keyword, refImport);
+            }
         }
     }
 
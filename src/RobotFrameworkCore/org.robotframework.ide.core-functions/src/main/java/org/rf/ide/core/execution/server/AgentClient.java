@@ -7,6 +7,8 @@ package org.rf.ide.core.execution.server;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.rf.ide.core.execution.server.response.ServerResponse;
 import org.rf.ide.core.execution.server.response.ServerResponse.ResponseException;
@@ -16,6 +18,8 @@ public class AgentClient {
     private final int clientId;
     private final PrintWriter writer;
 
+    private volatile List<String> excludedEvents = new ArrayList<>();
+
     // FIXME : this should not be public - only server should create those objects
     public AgentClient(final int clientId, final PrintWriter writer) {
         this.clientId = clientId;
@@ -26,6 +30,20 @@ public class AgentClient {
         return clientId;
     }
 
+    /**
+     * Returns names of events which client should not send, because none of server listeners is
+     * handling them.
+     *
+     * @return
+     */
+    public List<String> getExcludedEvents() {
+        return excludedEvents;
+    }
+
+    void setExcludedEvents(final List<String> excludedEvents) {
+        this.excludedEvents = excludedEvents;
+    }
+
     public synchronized void send(final ServerResponse response) throws IOException, ResponseException {
         writer.print(response.toMessage() + '\n');
         writer.flush();
@@ -15,8 +15,12 @@ import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.rf.ide.core.execution.RobotAgentEventListener;
 import org.rf.ide.core.execution.RobotAgentEventListener.RobotAgentEventsListenerException;
@@ -39,6 +43,12 @@ public class AgentConnectionServer {
 
     public static final int MAX_CONNECTION_TIMEOUT = 3_600;
 
+    public static final int DEFAULT_CLIENTS_LIMIT = 1;
+
+    public static final int MIN_CLIENTS_LIMIT = 1;
+
+    public static final int MAX_CLIENTS_LIMIT = 64;
+
     public static final int findFreePort() {
         try (ServerSocket socket = new ServerSocket(0)) {
             return socket.getLocalPort();
@@ -53,10 +63,16 @@ public class AgentConnectionServer {
 
     private final int timeoutInMillis;
 
+    private final int clientsLimit;
+
     private final List<AgentServerStatusListener> listeners = new ArrayList<>();
 
     private final Semaphore serverSetupSemaphore = new Semaphore(0);
 
+    // ids are used to tell apart events of clients connected at the same time, so they have to be
+    // unique unlike socket hash codes
+    private final AtomicInteger clientsCounter = new AtomicInteger(0);
+
     private ServerSocket serverSocket;
 
     public AgentConnectionServer(final String host, final int port) {
@@ -64,9 +80,25 @@ public class AgentConnectionServer {
     }
 
     public AgentConnectionServer(final String host, final int port, final int timeout, final TimeUnit timeoutUnit) {
+        this(host, port, timeout, timeoutUnit, DEFAULT_CLIENTS_LIMIT);
+    }
+
+    /**
+     * Creates server which is able to track at most given number of simultaneously connected
+     * agents, e.g. when tests are executed in parallel by pabot.
+     *
+     * @param host
+     * @param port
+     * @param timeout
+     * @param timeoutUnit
+     * @param clientsLimit
+     */
+    public AgentConnectionServer(final String host, final int port, final int timeout, final TimeUnit timeoutUnit,
+            final int clientsLimit) {
         this.host = host;
         this.port = port;
         this.timeoutInMillis = (int) timeoutUnit.toMillis(timeout);
+        this.clientsLimit = clientsLimit;
     }
 
     public void addStatusListener(final AgentServerStatusListener listener) {
@@ -78,6 +110,21 @@ public class AgentConnectionServer {
     }
 
     public void start(final RobotAgentEventListener... eventsListeners) throws IOException {
+        start(() -> eventsListeners);
+    }
+
+    /**
+     * Starts the server. Given supplier is asked for new listeners for each connected client, so
+     * that when more than one client is allowed the events of each client are handled by its own
+     * listeners in separate thread. In such case the server accepts new clients until connection
+     * timeout passes with no client being connected. Listeners which are shared between clients
+     * (returned by supplier for each of them) should not depend on the client they are given, as
+     * it is set again for each connected client.
+     *
+     * @param clientEventsListenersSupplier
+     * @throws IOException
+     */
+    public void start(final Supplier<RobotAgentEventListener[]> clientEventsListenersSupplier) throws IOException {
         try {
             serverSetupSemaphore.release();
 
@@ -86,30 +133,93 @@ public class AgentConnectionServer {
             serverSocket.setSoTimeout(timeoutInMillis);
 
             listeners.forEach(listener -> listener.serverEstablished(host, port));
-            try (Socket clientSocket = serverSocket.accept()) {
+            if (clientsLimit > 1) {
+                acceptClients(clientEventsListenersSupplier);
+            } else {
+                acceptClient(clientEventsListenersSupplier);
+            }
+        } finally {
+            stop();
+        }
+    }
+
+    private void acceptClient(final Supplier<RobotAgentEventListener[]> clientEventsListenersSupplier) {
+        try {
+            handleClient(serverSocket.accept(), clientEventsListenersSupplier.get());
+        } catch (final SocketTimeoutException e) {
+            listeners.forEach(listener -> listener.clientConnectionTimedOut(e));
+        } catch (final IOException e) {
+            listeners.forEach(listener -> listener.clientConnectionError(e));
+        }
+    }
 
-                final int clientId = clientSocket.hashCode();
+    private void acceptClients(final Supplier<RobotAgentEventListener[]> clientEventsListenersSupplier) {
+        final ExecutorService clientsExecutor = Executors.newFixedThreadPool(clientsLimit);
+        final AtomicInteger activeClients = new AtomicInteger(0);
+        boolean anyClientConnected = false;
+        try {
+            while (true) {
+                final Socket clientSocket;
+                try {
+                    clientSocket = serverSocket.accept();
+                } catch (final SocketTimeoutException e) {
+                    if (activeClients.get() > 0) {
+                        continue;
+                    } else if (!anyClientConnected) {
+                        listeners.forEach(listener -> listener.clientConnectionTimedOut(e));
+                    }
+                    break;
+                } catch (final IOException e) {
+                    // server was stopped
+                    if (!anyClientConnected) {
+                        listeners.forEach(listener -> listener.clientConnectionError(e));
+                    }
+                    break;
+                }
+                anyClientConnected = true;
+                activeClients.incrementAndGet();
+                clientsExecutor.execute(() -> {
+                    try {
+                        handleClient(clientSocket, clientEventsListenersSupplier.get());
+                    } finally {
+                        activeClients.decrementAndGet();
+                    }
+                });
+            }
+        } finally {
+            clientsExecutor.shutdown();
+            awaitClientsTermination(clientsExecutor);
+        }
+    }
 
-                final BufferedReader eventsReader = new BufferedReader(
-                        new InputStreamReader(clientSocket.getInputStream()));
-                final PrintWriter eventsWriter = new PrintWriter(clientSocket.getOutputStream());
+    private static void awaitClientsTermination(final ExecutorService clientsExecutor) {
+        try {
+            clientsExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-                final RobotAgentEventDispatcher eventsDispatcher = new RobotAgentEventDispatcher(
-                        new AgentClient(clientId, eventsWriter), eventsListeners);
+    private void handleClient(final Socket socket, final RobotAgentEventListener[] eventsListeners) {
+        try (Socket clientSocket = socket) {
 
-                listeners.forEach(listener -> listener.clientConnected(clientId));
-                eventsDispatcher.runEventsLoop(eventsReader);
-                listeners.forEach(listener -> listener.clientConnectionClosed(clientId));
+            final int clientId = clientsCounter.incrementAndGet();
 
-            } catch (final RobotAgentEventsListenerException e) {
-                listeners.forEach(listener -> listener.clientEventHandlingError(e));
-            } catch (final SocketTimeoutException e) {
-                listeners.forEach(listener -> listener.clientConnectionTimedOut(e));
-            } catch (final IOException e) {
-                listeners.forEach(listener -> listener.clientConnectionError(e));
-            }
-        } finally {
-            stop();
+            final BufferedReader eventsReader = new BufferedReader(
+                    new InputStreamReader(clientSocket.getInputStream()));
+            final PrintWriter eventsWriter = new PrintWriter(clientSocket.getOutputStream());
+
+            final RobotAgentEventDispatcher eventsDispatcher = new RobotAgentEventDispatcher(
+                    new AgentClient(clientId, eventsWriter), eventsListeners);
+
+            listeners.forEach(listener -> listener.clientConnected(clientId));
+            eventsDispatcher.runEventsLoop(eventsReader);
+            listeners.forEach(listener -> listener.clientConnectionClosed(clientId));
+
+        } catch (final RobotAgentEventsListenerException e) {
+            listeners.forEach(listener -> listener.clientEventHandlingError(e));
+        } catch (final IOException e) {
+            listeners.forEach(listener -> listener.clientConnectionError(e));
         }
     }
 
@@ -35,7 +35,7 @@ public class AgentServerTestsStarter extends RobotDefaultAgentEventListener {
     @Override
     public void handleAgentInitializing() {
         try {
-            client.send(new InitializeAgent(mode, true));
+            client.send(new InitializeAgent(mode, true, client.getExcludedEvents()));
         } catch (ResponseException | IOException e) {
             throw new RobotAgentEventsListenerException("Unable to send response to client", e);
         }
@@ -11,26 +11,40 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
-import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.JsonFactory;
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonToken;
+import org.codehaus.jackson.map.MappingJsonFactory;
 import org.codehaus.jackson.type.TypeReference;
 import org.rf.ide.core.execution.LogLevel;
 import org.rf.ide.core.execution.RobotAgentEventListener;
 import org.rf.ide.core.execution.RobotAgentEventListener.RobotAgentEventsListenerException;
 import org.rf.ide.core.execution.Status;
 
-import com.google.common.collect.Iterables;
-
 class RobotAgentEventDispatcher {
 
+    private static final TypeReference<Map<String, Object>> STRING_TO_OBJECT_MAP_TYPE =
+            new TypeReference<Map<String, Object>>() {
+            };
+
+    private static final TypeReference<Map<String, String>> STRING_TO_STRING_MAP_TYPE =
+            new TypeReference<Map<String, String>>() {
+            };
+
+    private final JsonFactory jsonFactory = new MappingJsonFactory();
+
+    private final AgentClient client;
+
     private final List<RobotAgentEventListener> eventsListeners;
 
     RobotAgentEventDispatcher(final AgentClient client, final RobotAgentEventListener... eventsListeners) {
+        this.client = client;
         final List<RobotAgentEventListener> listeners = newArrayList(eventsListeners);
         listeners.add(0, new AgentServerProtocolVersionChecker());
         this.eventsListeners = Collections.synchronizedList(listeners);
@@ -50,83 +64,90 @@ class RobotAgentEventDispatcher {
 
     void runEventsLoop(final BufferedReader eventReader) throws IOException, RobotAgentEventsListenerException {
         String event = eventReader.readLine();
-        final ObjectMapper mapper = new ObjectMapper();
         while (event != null && anyListenerIsHandlingEvents()) {
-
-            final TypeReference<Map<String, Object>> stringToObjectMapType = new TypeReference<Map<String, Object>>() {
-            };
-            final Map<String, Object> eventMap = mapper.readValue(event, stringToObjectMapType);
-            final String eventType = getEventType(eventMap);
-            if (eventType == null) {
-                continue;
+            try (final JsonParser parser = jsonFactory.createJsonParser(event)) {
+                final String eventType = readEventType(parser);
+                if (eventType != null) {
+                    dispatchEvent(eventType, new EventArguments(parser));
+                }
             }
+            event = eventReader.readLine();
+        }
+    }
 
-            switch (eventType) {
-                case "ready_to_start":
-                    handleReadyToStart();
-                    break;
-                case "agent_initializing":
-                    handleAgentInitializing();
-                    break;
-                case "version":
-                    handleVersion(eventMap);
-                    break;
-                case "resource_import":
-                    handleResourceImport(eventMap);
-                    break;
-                case "start_suite":
-                    handleStartSuite(eventMap);
-                    break;
-                case "end_suite":
-                    handleEndSuite(eventMap);
-                    break;
-                case "start_test":
-                    handleStartTest(eventMap);
-                    break;
-                case "end_test":
-                    handleEndTest(eventMap);
-                    break;
-                case "start_keyword":
-                    handleStartKeyword(eventMap);
-                    break;
-                case "end_keyword":
-                    handleEndKeyword(eventMap);
-                    break;
-                case "vars":
-                    handleVariables(eventMap);
-                    break;
-                case "global_vars":
-                    handleGlobalVariables(eventMap);
-                    break;
-                case "check_condition":
-                    handleCheckCondition();
-                    break;
-                case "condition_result":
-                    handleConditionResult(eventMap);
-                    break;
-                case "condition_error":
-                    handleConditionError(eventMap);
-                    break;
-                case "condition_checked":
-                    handleConditionChecked();
-                    break;
-                case "paused":
-                    handlePause();
-                    break;
-                case "close":
-                    handleClose();
-                    break;
-                case "log_message":
-                    handleLogMessage(eventMap);
-                    break;
-                case "output_file":
-                    handleOutputFile(eventMap);
-                    break;
-                default:
-                    break;
-            }
+    private static String readEventType(final JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT || parser.nextToken() != JsonToken.FIELD_NAME) {
+            return null;
+        }
+        final String eventType = parser.getCurrentName();
+        parser.nextToken();
+        return eventType;
+    }
 
-            event = eventReader.readLine();
+    private void dispatchEvent(final String eventType, final EventArguments arguments) throws IOException {
+        switch (eventType) {
+            case "ready_to_start":
+                handleReadyToStart();
+                break;
+            case "agent_initializing":
+                handleAgentInitializing();
+                break;
+            case "version":
+                handleVersion(arguments);
+                break;
+            case "resource_import":
+                handleResourceImport(arguments);
+                break;
+            case "start_suite":
+                handleStartSuite(arguments);
+                break;
+            case "end_suite":
+                handleEndSuite(arguments);
+                break;
+            case "start_test":
+                handleStartTest(arguments);
+                break;
+            case "end_test":
+                handleEndTest(arguments);
+                break;
+            case "start_keyword":
+                handleStartKeyword(arguments);
+                break;
+            case "end_keyword":
+                handleEndKeyword(arguments);
+                break;
+            case "vars":
+                handleVariables(arguments);
+                break;
+            case "global_vars":
+                handleGlobalVariables(arguments);
+                break;
+            case "check_condition":
+                handleCheckCondition();
+                break;
+            case "condition_result":
+                handleConditionResult(arguments);
+                break;
+            case "condition_error":
+                handleConditionError(arguments);
+                break;
+            case "condition_checked":
+                handleConditionChecked();
+                break;
+            case "paused":
+                handlePause();
+                break;
+            case "close":
+                handleClose();
+                break;
+            case "log_message":
+                handleLogMessage(arguments);
+                break;
+            case "output_file":
+                handleOutputFile(arguments);
+                break;
+            default:
+                break;
         }
     }
 
@@ -137,14 +158,15 @@ class RobotAgentEventDispatcher {
     }
 
     private void handleAgentInitializing() {
+        // agent is told about excluded events in response to this event
+        client.setExcludedEvents(collectExcludedEvents());
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleAgentInitializing();
         }
     }
 
-    private void handleVersion(final Map<String, Object> eventMap) {
-        final List<?> arguments = (List<?>) eventMap.get("version");
-        final Map<?, ?> attributes = (Map<?, ?>) arguments.get(0);
+    private void handleVersion(final EventArguments arguments) throws IOException {
+        final Map<String, Object> attributes = arguments.nextAttributes("python", "robot", "protocol");
         final String pythonVersion = (String) attributes.get("python");
         final String robotVersion = (String) attributes.get("robot");
         final int protocolVersion = (Integer) attributes.get("protocol");
@@ -154,9 +176,9 @@ class RobotAgentEventDispatcher {
         }
     }
 
-    private void handleResourceImport(final Map<String, Object> eventMap) {
-        final List<?> arguments = (List<?>) eventMap.get("resource_import");
-        final Map<?, ?> attributes = (Map<?, ?>) arguments.get(1);
+    private void handleResourceImport(final EventArguments arguments) throws IOException {
+        arguments.skip();
+        final Map<String, Object> attributes = arguments.nextAttributes("source");
         final File resourceFilePath = new File((String) attributes.get("source"));
 
         for (final RobotAgentEventListener listener : eventsListeners) {
@@ -164,10 +186,9 @@ class RobotAgentEventDispatcher {
         }
     }
 
-    private void handleStartSuite(final Map<String, Object> eventMap) {
-        final List<?> arguments = (List<?>) eventMap.get("start_suite");
-        final String name = (String) arguments.get(0);
-        final Map<?, ?> attributes = (Map<?, ?>) arguments.get(1);
+    private void handleStartSuite(final EventArguments arguments) throws IOException {
+        final String name = arguments.nextString();
+        final Map<String, Object> attributes = arguments.nextAttributes("source");
         final File suiteFilePath = new File((String) attributes.get("source"));
         
         for (final RobotAgentEventListener listener : eventsListeners) {
@@ -175,10 +196,9 @@ class RobotAgentEventDispatcher {
         }
     }
 
-    private void handleEndSuite(final Map<String, Object> eventMap) {
-        final List<?> arguments = (List<?>) eventMap.get("end_suite");
-        final String name = (String) arguments.get(0);
-        final Map<?, ?> attributes = (Map<?, ?>) arguments.get(1);
+    private void handleEndSuite(final EventArguments arguments) throws IOException {
+        final String name = arguments.nextString();
+        final Map<String, Object> attributes = arguments.nextAttributes("elapsedtime", "message", "status");
         final int elapsedTime = (Integer) attributes.get("elapsedtime");
         final String errorMessage = (String) attributes.get("message");
         final Status suiteStatus = Status.valueOf((String) attributes.get("status"));
@@ -188,10 +208,9 @@ class RobotAgentEventDispatcher {
         }
     }
 
-    private void handleStartTest(final Map<String, Object> eventMap) {
-        final List<?> arguments = (List<?>) eventMap.get("start_test");
-        final String name = (String) arguments.get(0);
-        final Map<?, ?> attributes = (Map<?, ?>) arguments.get(1);
+    private void handleStartTest(final EventArguments arguments) throws IOException {
+        final String name = arguments.nextString();
+        final Map<String, Object> attributes = arguments.nextAttributes("longname");
         final String longName = (String) attributes.get("longname");
 
         for (final RobotAgentEventListener listener : eventsListeners) {
@@ -199,10 +218,10 @@ class RobotAgentEventDispatcher {
         }
     }
 
-    private void handleEndTest(final Map<String, Object> eventMap) {
-        final List<?> arguments = (List<?>) eventMap.get("end_test");
-        final String name = (String) arguments.get(0);
-        final Map<?, ?> attributes = (Map<?, ?>) arguments.get(1);
+    private void handleEndTest(final EventArguments arguments) throws IOException {
+        final String name = arguments.nextString();
+        final Map<String, Object> attributes = arguments.nextAttributes("longname", "elapsedtime", "message",
+                "status");
         final String longName = (String) attributes.get("longname");
         final int elapsedTime = (Integer) attributes.get("elapsedtime");
         final String errorMessage = (String) attributes.get("message");
@@ -213,10 +232,9 @@ class RobotAgentEventDispatcher {
         }
     }
 
-    private void handleStartKeyword(final Map<String, Object> eventMap) {
-        final List<?> arguments = (List<?>) eventMap.get("start_keyword");
-        final String name = (String) arguments.get(0);
-        final Map<?, ?> attributes = (Map<?, ?>) arguments.get(1);
+    private void handleStartKeyword(final EventArguments arguments) throws IOException {
+        final String name = arguments.nextString();
+        final Map<String, Object> attributes = arguments.nextAttributes("type", "args");
         final String keywordType = (String) attributes.get("type");
         final List<String> keywordArgs = ensureListOfStrings((List<?>) attributes.get("args"));
 
@@ -233,10 +251,9 @@ class RobotAgentEventDispatcher {
         return elements;
     }
 
-    private void handleEndKeyword(final Map<String, Object> eventMap) {
-        final List<?> arguments = (List<?>) eventMap.get("end_keyword");
-        final String name = (String) arguments.get(0);
-        final Map<?, ?> attributes = (Map<?, ?>) arguments.get(1);
+    private void handleEndKeyword(final EventArguments arguments) throws IOException {
+        final String name = arguments.nextString();
+        final Map<String, Object> attributes = arguments.nextAttributes("type");
         final String keywordType = (String) attributes.get("type");
 
         for (final RobotAgentEventListener listener : eventsListeners) {
@@ -244,58 +261,44 @@ class RobotAgentEventDispatcher {
         }
     }
 
-    private void handleVariables(final Map<String, Object> eventMap) {
-        final List<?> arguments = (List<?>) eventMap.get("vars");
-        final Map<String, Object> vars = ensureMapOfStringsToObjects((Map<?, ?>) arguments.get(1));
+    private void handleVariables(final EventArguments arguments) throws IOException {
+        if (!anyListenerIsHandlingVariables()) {
+            // variables may be huge, so they are not even decoded when nobody needs them
+            return;
+        }
+        arguments.skip();
+        final Map<String, Object> vars = arguments.nextObject(STRING_TO_OBJECT_MAP_TYPE);
 
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleVariables(vars);
         }
     }
 
-    private Map<String, Object> ensureMapOfStringsToObjects(final Map<?, ?> map) {
-        final Map<String, Object> mapping = new LinkedHashMap<>();
-        for (final Entry<?, ?> entry : map.entrySet()) {
-            mapping.put((String) entry.getKey(), entry.getValue());
-        }
-        return mapping;
-    }
-
-    private void handleGlobalVariables(final Map<String, Object> eventMap) {
-        final List<?> arguments = (List<?>) eventMap.get("global_vars");
-        final Map<String, String> globalVars = ensureMapOfStringsToStrings((Map<?, ?>) arguments.get(1));
+    private void handleGlobalVariables(final EventArguments arguments) throws IOException {
+        arguments.skip();
+        final Map<String, String> globalVars = arguments.nextObject(STRING_TO_STRING_MAP_TYPE);
 
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleGlobalVariables(globalVars);
         }
     }
 
-    private Map<String, String> ensureMapOfStringsToStrings(final Map<?, ?> map) {
-        final Map<String, String> mapping = new LinkedHashMap<>();
-        for (final Entry<?, ?> entry : map.entrySet()) {
-            mapping.put((String) entry.getKey(), (String) entry.getValue());
-        }
-        return mapping;
-    }
-
     private void handleCheckCondition() {
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleCheckCondition();
         }
     }
 
-    private void handleConditionResult(final Map<String, Object> eventMap) {
-        final List<?> arguments = (List<?>) eventMap.get("condition_result");
-        final boolean result = (Boolean) arguments.get(0);
+    private void handleConditionResult(final EventArguments arguments) throws IOException {
+        final boolean result = arguments.nextBoolean();
 
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleConditionResult(result);
         }
     }
 
-    private void handleConditionError(final Map<String, Object> eventMap) {
-        final List<?> arguments = (List<?>) eventMap.get("condition_error");
-        final String error = (String) arguments.get(0);
+    private void handleConditionError(final EventArguments arguments) throws IOException {
+        final String error = arguments.nextString();
 
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleConditionError(error);
@@ -320,9 +323,8 @@ class RobotAgentEventDispatcher {
         }
     }
 
-    private void handleLogMessage(final Map<String, Object> eventMap) {
-        final List<?> arguments = (List<?>) eventMap.get("log_message");
-        final Map<?, ?> message = (Map<?, ?>) arguments.get(0);
+    private void handleLogMessage(final EventArguments arguments) throws IOException {
+        final Map<String, Object> message = arguments.nextAttributes("message", "timestamp", "level");
         final String msg = (String) message.get("message");
         final String timestamp = (String) message.get("timestamp");
         final LogLevel level = LogLevel.valueOf(((String) message.get("level")).toUpperCase());
@@ -332,9 +334,8 @@ class RobotAgentEventDispatcher {
         }
     }
 
-    private void handleOutputFile(final Map<String, Object> eventMap) {
-        final List<?> arguments = (List<?>) eventMap.get("output_file");
-        final String filepath = (String) arguments.get(0);
+    private void handleOutputFile(final EventArguments arguments) throws IOException {
+        final String filepath = arguments.nextString();
         final File path = filepath == null ? null : new File(filepath);
 
         for (final RobotAgentEventListener listener : eventsListeners) {
@@ -342,19 +343,105 @@ class RobotAgentEventDispatcher {
         }
     }
 
-    private String getEventType(final Map<String, ?> eventMap) {
-        if (eventMap == null) {
-            return null;
+    private boolean anyListenerIsHandlingEvents() {
+        for (final RobotAgentEventListener listener : eventsListeners) {
+            if (listener.isHandlingEvents()) {
+                return true;
+            }
         }
-        return Iterables.getFirst(eventMap.keySet(), null);
+        return false;
     }
 
-    private boolean anyListenerIsHandlingEvents() {
+    private boolean anyListenerIsHandlingVariables() {
         for (final RobotAgentEventListener listener : eventsListeners) {
-            if (listener.isHandlingEvents()) {
+            if (listener.isHandlingVariables()) {
                 return true;
             }
         }
         return false;
     }
+
+    private boolean anyListenerIsHandlingKeywords() {
+        for (final RobotAgentEventListener listener : eventsListeners) {
+            if (listener.isHandlingKeywords()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<String> collectExcludedEvents() {
+        final List<String> excludedEvents = new ArrayList<>();
+        // library imports are not dispatched to listeners at all
+        excludedEvents.add("library_import");
+        if (!anyListenerIsHandlingKeywords()) {
+            excludedEvents.add("start_keyword");
+            excludedEvents.add("end_keyword");
+        }
+        if (!anyListenerIsHandlingVariables()) {
+            excludedEvents.add("vars");
+        }
+        return excludedEvents;
+    }
+
+    /**
+     * Positional arguments of single event read directly from JSON parser. After reading each
+     * argument the parser is moved to the beginning of the next one.
+     */
+    private static final class EventArguments {
+
+        private final JsonParser parser;
+
+        private EventArguments(final JsonParser parser) throws IOException {
+            this.parser = parser;
+            if (parser.getCurrentToken() == JsonToken.START_ARRAY) {
+                parser.nextToken();
+            }
+        }
+
+        private String nextString() throws IOException {
+            final String value = parser.getCurrentToken() == JsonToken.VALUE_NULL ? null : parser.getText();
+            parser.nextToken();
+            return value;
+        }
+
+        private boolean nextBoolean() throws IOException {
+            final boolean value = parser.getBooleanValue();
+            parser.nextToken();
+            return value;
+        }
+
+        private <T> T nextObject(final TypeReference<T> type) throws IOException {
+            final T value = parser.readValueAs(type);
+            parser.nextToken();
+            return value;
+        }
+
+        /**
+         * Reads attributes object binding values of given attributes only, other attributes are
+         * skipped without decoding.
+         */
+        private Map<String, Object> nextAttributes(final String... names) throws IOException {
+            final Map<String, Object> attributes = new HashMap<>();
+            if (parser.getCurrentToken() == JsonToken.START_OBJECT) {
+                final List<String> wantedNames = Arrays.asList(names);
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String name = parser.getCurrentName();
+                    parser.nextToken();
+                    if (wantedNames.contains(name)) {
+                        attributes.put(name, parser.readValueAs(Object.class));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+            parser.nextToken();
+            return attributes;
+        }
+
+        private void skip() throws IOException {
+            parser.skipChildren();
+            parser.nextToken();
+        }
+    }
 }
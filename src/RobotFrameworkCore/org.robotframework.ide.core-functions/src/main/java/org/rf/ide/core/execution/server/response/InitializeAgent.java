@@ -6,6 +6,9 @@
 package org.rf.ide.core.execution.server.response;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.codehaus.jackson.map.ObjectMapper;
@@ -19,16 +22,28 @@ public final class InitializeAgent implements ServerResponse {
 
     private final boolean agentShouldWaitForSignal;
 
+    private final List<String> excludedEvents;
+
     public InitializeAgent(final TestsMode mode, final boolean agentShouldWaitForSignal) {
+        this(mode, agentShouldWaitForSignal, new ArrayList<>());
+    }
+
+    public InitializeAgent(final TestsMode mode, final boolean agentShouldWaitForSignal,
+            final List<String> excludedEvents) {
         this.mode = mode;
         this.agentShouldWaitForSignal = agentShouldWaitForSignal;
+        this.excludedEvents = excludedEvents;
     }
 
     @Override
     public String toMessage() throws ResponseException {
         try {
-            final Map<String, ? extends Object> arguments = ImmutableMap.of("mode", mode.name(),
-                    "wait_for_start_allowance", agentShouldWaitForSignal);
+            final Map<String, Object> arguments = new LinkedHashMap<>();
+            arguments.put("mode", mode.name());
+            arguments.put("wait_for_start_allowance", agentShouldWaitForSignal);
+            if (!excludedEvents.isEmpty()) {
+                arguments.put("excluded_events", excludedEvents);
+            }
             final Map<String, Object> value = ImmutableMap.of("operating_mode", arguments);
 
             return new ObjectMapper().writeValueAsString(value);
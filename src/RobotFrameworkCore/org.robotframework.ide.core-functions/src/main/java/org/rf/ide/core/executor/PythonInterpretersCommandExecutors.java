@@ -29,7 +29,7 @@ class PythonInterpretersCommandExecutors {
         return InstanceHolder.INSTANCE;
     }
 
-    private final Map<String, RobotCommandRcpExecutor> executors = new HashMap<>();
+    private final Map<String, RobotCommandRcpExecutorsPool> executors = new HashMap<>();
 
     private final List<PythonProcessListener> processListeners = new ArrayList<>(0);
 
@@ -65,9 +65,9 @@ class PythonInterpretersCommandExecutors {
                 .resolve(interpreterPath.getInterpreter().executableName())
                 .toAbsolutePath()
                 .toString();
-        final RobotCommandRcpExecutor executor = executors.remove(pathAsName);
-        if (executor != null) {
-            executor.kill();
+        final RobotCommandRcpExecutorsPool executorsPool = executors.remove(pathAsName);
+        if (executorsPool != null) {
+            executorsPool.shutdown();
         }
     }
 
@@ -86,19 +86,18 @@ class PythonInterpretersCommandExecutors {
             return new RobotCommandDirectExecutor(pathAsName, interpreter);
         }
 
-        RobotCommandRcpExecutor executor = executors.get(pathAsName);
-        if (executor != null && (executor.isAlive() || executor.isExternal())) {
-            return executor;
-        } else if (executor != null) {
-            //executor.kill();
-            executors.remove(pathAsName);
+        final RobotCommandRcpExecutorsPool executorsPool = executors.get(pathAsName);
+        if (executorsPool != null) {
+            return executorsPool;
         }
         try {
-            executor = new RobotCommandRcpExecutor(pathAsName, interpreter, xmlRpcServerScriptFile);
-            executor.waitForEstablishedConnection();
+            final RobotCommandRcpExecutor executor = startExecutor(pathAsName, interpreter);
             if (executor.isAlive() || executor.isExternal()) {
-                executors.put(pathAsName, executor);
-                return executor;
+                final RobotCommandRcpExecutorsPool newExecutorsPool = new RobotCommandRcpExecutorsPool(executor,
+                        RedSystemProperties.getSessionServersLimit(), () -> startExecutor(pathAsName, interpreter),
+                        () -> new RobotCommandDirectExecutor(pathAsName, interpreter));
+                executors.put(pathAsName, newExecutorsPool);
+                return newExecutorsPool;
             } else {
                 return new RobotCommandDirectExecutor(pathAsName, interpreter);
             }
@@ -107,6 +106,13 @@ class PythonInterpretersCommandExecutors {
         }
     }
 
+    private RobotCommandRcpExecutor startExecutor(final String pathAsName, final SuiteExecutor interpreter) {
+        final RobotCommandRcpExecutor executor = new RobotCommandRcpExecutor(pathAsName, interpreter,
+                xmlRpcServerScriptFile);
+        executor.waitForEstablishedConnection();
+        return executor;
+    }
+
     RobotCommandExecutor getDirectRobotCommandExecutor(final PythonInstallationDirectory interpreterPath) {
         final String pathAsName = interpreterPath.toPath()
                 .resolve(interpreterPath.getInterpreter().executableName())
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.executor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.type.TypeReference;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Strings;
+
+/**
+ * Cache of answers given by python interpreters about themselves (robot version, standard
+ * libraries, module search paths, global variables). Answers are remembered per interpreter
+ * executable together with the fingerprint of files describing the installation; whenever the
+ * fingerprint changes, e.g. after robot upgrade, the answers are dropped. When the cache is backed
+ * by a file it survives restarts, so python does not have to be started only to ask the same
+ * questions again.
+ */
+class PythonInterpretersIntrospectionCache {
+
+    private static final TypeReference<Map<String, CachedIntrospection>> CACHE_TYPE =
+            new TypeReference<Map<String, CachedIntrospection>>() { };
+
+    private static class InstanceHolder {
+
+        private static final PythonInterpretersIntrospectionCache INSTANCE = new PythonInterpretersIntrospectionCache();
+    }
+
+    static PythonInterpretersIntrospectionCache getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final Map<String, CachedIntrospection> cache = new HashMap<>();
+
+    private File cacheFile;
+
+    @VisibleForTesting
+    PythonInterpretersIntrospectionCache() {
+        // only single instance is used outside tests
+    }
+
+    synchronized void load(final File cacheFile) {
+        this.cacheFile = cacheFile;
+        cache.clear();
+        if (cacheFile.isFile()) {
+            try {
+                cache.putAll(mapper.<Map<String, CachedIntrospection>> readValue(cacheFile, CACHE_TYPE));
+            } catch (final IOException e) {
+                // broken cache is simply ignored, it will be overwritten with new answers
+            }
+        }
+    }
+
+    /**
+     * Starts remembering answers of given interpreter. Previously remembered answers are dropped.
+     *
+     * @param interpreterPath
+     *            path of interpreter executable
+     * @param fingerprintFiles
+     *            files which are changed whenever the answers may change
+     */
+    synchronized void startCaching(final String interpreterPath, final List<File> fingerprintFiles) {
+        final CachedIntrospection introspection = new CachedIntrospection();
+        for (final File file : fingerprintFiles) {
+            introspection.fingerprintFiles.add(file.getAbsolutePath());
+        }
+        introspection.fingerprint = fingerprintOf(introspection.fingerprintFiles);
+        cache.put(interpreterPath, introspection);
+        save();
+    }
+
+    synchronized Optional<Object> get(final String interpreterPath, final String property) {
+        final CachedIntrospection introspection = cache.get(interpreterPath);
+        if (introspection == null) {
+            return Optional.empty();
+        } else if (!fingerprintOf(introspection.fingerprintFiles).equals(introspection.fingerprint)) {
+            cache.remove(interpreterPath);
+            save();
+            return Optional.empty();
+        }
+        return Optional.ofNullable(introspection.properties.get(property));
+    }
+
+    /**
+     * Remembers given answer of interpreter, but only when answers of this interpreter are cached.
+     *
+     * @param interpreterPath
+     * @param property
+     * @param value
+     */
+    synchronized void put(final String interpreterPath, final String property, final Object value) {
+        final CachedIntrospection introspection = cache.get(interpreterPath);
+        if (introspection != null && value != null) {
+            introspection.properties.put(property, value);
+            save();
+        }
+    }
+
+    synchronized void invalidate(final String interpreterPath) {
+        if (cache.remove(interpreterPath) != null) {
+            save();
+        }
+    }
+
+    private void save() {
+        if (cacheFile == null) {
+            return;
+        }
+        try {
+            final File tempFile = new File(cacheFile.getPath() + ".tmp");
+            mapper.writeValue(tempFile, cache);
+            Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException e) {
+            // answers are still cached in memory, only the next start will have to ask again
+        }
+    }
+
+    private static String fingerprintOf(final List<String> files) {
+        final StringBuilder fingerprint = new StringBuilder();
+        for (final String path : files) {
+            final File file = new File(path);
+            fingerprint.append(file.lastModified()).append(':').append(file.length()).append(';');
+        }
+        // module search paths depend on environment in which interpreter is started
+        return fingerprint.append(Strings.nullToEmpty(System.getenv("PYTHONPATH"))).toString();
+    }
+
+    private static class CachedIntrospection {
+
+        public List<String> fingerprintFiles = new ArrayList<>();
+
+        public String fingerprint;
+
+        public Map<String, Object> properties = new LinkedHashMap<>();
+    }
+}
@@ -23,6 +23,10 @@ public class RedSystemProperties {
 
     public static final String RED_USE_OLD_REPARSED_LINK_MODE = "red.useOldReparsedLinkMode";
 
+    public static final String RED_LIBDOC_GENERATION_THREADS = "red.libdocGenerationThreads";
+
+    public static final String RED_SESSION_SERVERS_LIMIT = "red.sessionServersLimit";
+
     public static boolean shouldConnectToRunningServer() {
         return System.getProperty("red.connectToServerAt") != null;
     }
@@ -43,6 +47,28 @@ public class RedSystemProperties {
         return Boolean.valueOf(System.getProperty(RED_USE_OLD_REPARSED_LINK_MODE)).booleanValue();
     }
 
+    /**
+     * Returns number of threads which may generate libdocs concurrently. When it is 1 libdocs are
+     * generated one by one.
+     *
+     * @return
+     */
+    public static int getLibdocGenerationThreads() {
+        final int defaultThreads = Math.min(4, Runtime.getRuntime().availableProcessors());
+        return Math.max(1, Integer.getInteger(RED_LIBDOC_GENERATION_THREADS, defaultThreads));
+    }
+
+    /**
+     * Returns maximal number of session servers started for single interpreter. Servers above
+     * the first one are started only when all the others are busy.
+     *
+     * @return
+     */
+    public static int getSessionServersLimit() {
+        final int defaultLimit = Math.min(4, Runtime.getRuntime().availableProcessors());
+        return Math.max(1, Integer.getInteger(RED_SESSION_SERVERS_LIMIT, defaultLimit));
+    }
+
     public static boolean isWindowsPlatform() {
         return System.getProperty("os.name").toLowerCase().contains("win");
     }
@@ -11,7 +11,6 @@ import static java.util.stream.Collectors.toList;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -25,7 +24,6 @@ import org.rf.ide.core.executor.RobotRuntimeEnvironment.RobotEnvironmentExceptio
 import com.google.common.base.Joiner;
 import com.google.common.base.Strings;
 import com.google.common.collect.Maps;
-import com.google.common.io.Files;
 
 /**
  * @author Michal Anglart
@@ -139,11 +137,10 @@ class RobotCommandDirectExecutor implements RobotCommandExecutor {
     public void createLibdocForStdLibrary(final String resultFilePath, final String libName, final String libPath) {
         try {
             final File scriptFile = RobotRuntimeEnvironment.copyScriptFile("red_libraries.py");
-            final List<String> cmdLine = newArrayList(interpreterPath, scriptFile.getAbsolutePath(), "-libdoc",
-                    libName);
+            final List<String> cmdLine = newArrayList(interpreterPath, scriptFile.getAbsolutePath(),
+                    "-libdoc_to_file", libName, resultFilePath);
 
-            final byte[] decodedFileContent = runLibdoc(libName, cmdLine);
-            writeLibdocToFile(resultFilePath, decodedFileContent);
+            runLibdoc(libName, cmdLine);
         } catch (final IOException e) {
             // simply libdoc will not be generated
         }
@@ -162,30 +159,25 @@ class RobotCommandDirectExecutor implements RobotCommandExecutor {
         
         try {
             final File scriptFile = RobotRuntimeEnvironment.copyScriptFile("red_libraries.py");
-            final List<String> cmdLine = newArrayList(interpreterPath, scriptFile.getAbsolutePath(), "-libdoc",
-                    libName);
+            final List<String> cmdLine = newArrayList(interpreterPath, scriptFile.getAbsolutePath(),
+                    "-libdoc_to_file", libName, resultFilePath);
             cmdLine.addAll(additions.stream().map(RobotRuntimeEnvironment::wrapArgumentIfNeeded).collect(toList()));
 
-            final byte[] decodedFileContent = runLibdoc(libName, cmdLine);
-            writeLibdocToFile(resultFilePath, decodedFileContent);
+            runLibdoc(libName, cmdLine);
         } catch (final IOException e) {
             // simply libdoc will not be generated
         }
     }
 
-    private byte[] runLibdoc(final String libName, final List<String> cmdLine) {
+    private void runLibdoc(final String libName, final List<String> cmdLine) {
         try {
+            // the script writes libdoc directly to result file, so only its messages are read here
             final List<String> lines = newArrayList();
-            RobotRuntimeEnvironment.runExternalProcess(cmdLine, line -> lines.add(line));
+            final int exitCode = RobotRuntimeEnvironment.runExternalProcess(cmdLine, line -> lines.add(line));
 
-            // when properly finished there is a path to the file in first line and encoded content
-            // in second
-            if (lines.size() != 2) {
+            if (exitCode != 0) {
                 throw new RobotEnvironmentDetailedException(Joiner.on('\n').join(lines),
                         "Unable to generate library specification file for library '" + libName + "'");
-            } else {
-                final String base64EncodedLibfileContent = lines.get(1);
-                return Base64.getDecoder().decode(base64EncodedLibfileContent);
             }
         } catch (final IOException e) {
             throw new RobotEnvironmentDetailedException(e.getMessage(),
@@ -193,14 +185,6 @@ class RobotCommandDirectExecutor implements RobotCommandExecutor {
         }
     }
 
-    private void writeLibdocToFile(final String resultFilePath, final byte[] docededFileContent) throws IOException {
-        final File libdocFile = new File(resultFilePath);
-        if (!libdocFile.exists()) {
-            libdocFile.createNewFile();
-        }
-        Files.write(docededFileContent, libdocFile);
-    }
-
     @Override
     public List<File> getModulesSearchPaths() {
         try {
@@ -327,15 +327,11 @@ class RobotCommandRcpExecutor implements RobotCommandExecutor {
             }
             final List<String> classPaths = newArrayList(paths.getClassPaths());
 
-            final String base64EncodedLibfileContent = (String) callRpcFunction("createLibdoc", libName, pythonPaths,
-                    classPaths);
-            final byte[] bytes = Base64.getDecoder().decode(base64EncodedLibfileContent);
-            if (bytes.length > 0) {
-                final File libdocFile = new File(resultFilePath);
-                if (!libdocFile.exists()) {
-                    libdocFile.createNewFile();
-                }
-                Files.write(bytes, libdocFile);
+            if (isExternal) {
+                // external server may be an older script, so the content is transferred back
+                createLibdocUsingEncodedContent(resultFilePath, libName, pythonPaths, classPaths);
+            } else {
+                callRpcFunction("createLibdocToFile", libName, resultFilePath, pythonPaths, classPaths);
             }
 
         } catch (final XmlRpcException | IOException e) {
@@ -346,6 +342,20 @@ class RobotCommandRcpExecutor implements RobotCommandExecutor {
         }
     }
 
+    private void createLibdocUsingEncodedContent(final String resultFilePath, final String libName,
+            final List<String> pythonPaths, final List<String> classPaths) throws XmlRpcException, IOException {
+        final String base64EncodedLibfileContent = (String) callRpcFunction("createLibdoc", libName, pythonPaths,
+                classPaths);
+        final byte[] bytes = Base64.getDecoder().decode(base64EncodedLibfileContent);
+        if (bytes.length > 0) {
+            final File libdocFile = new File(resultFilePath);
+            if (!libdocFile.exists()) {
+                libdocFile.createNewFile();
+            }
+            Files.write(bytes, libdocFile);
+        }
+    }
+
     @Override
     public List<File> getModulesSearchPaths() {
         try {
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.executor;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.rf.ide.core.executor.RobotCommandRcpExecutor.RobotCommandExecutorException;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Session servers started for single interpreter. Each call is handled by any idle server, so
+ * concurrent callers do not queue behind each other as long as the limit of servers is not
+ * reached; further servers are started on demand and are shut down after being idle for some
+ * time, but the last server is always kept. Servers which died are dropped from the pool and
+ * replaced by new ones when needed.
+ */
+class RobotCommandRcpExecutorsPool implements RobotCommandExecutor {
+
+    private static final long DEFAULT_IDLE_TIMEOUT_IN_MS = TimeUnit.MINUTES.toMillis(2);
+
+    private static final ScheduledExecutorService IDLE_CHECKER = Executors.newSingleThreadScheduledExecutor(r -> {
+        final Thread thread = new Thread(r, "RED session servers idle checker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final int limit;
+
+    private final long idleTimeoutInMs;
+
+    private final Supplier<RobotCommandRcpExecutor> executorsStarter;
+
+    private final Supplier<RobotCommandExecutor> fallbackExecutorProvider;
+
+    // most recently used first, so that servers started for temporary load become idle
+    private final Deque<RobotCommandRcpExecutor> idleExecutors = new ArrayDeque<>();
+
+    private final Map<RobotCommandRcpExecutor, Long> idleSince = new HashMap<>();
+
+    private int startedExecutors;
+
+    private boolean isShutdown = false;
+
+    private final ScheduledFuture<?> idleCheck;
+
+    RobotCommandRcpExecutorsPool(final RobotCommandRcpExecutor firstExecutor, final int limit,
+            final Supplier<RobotCommandRcpExecutor> executorsStarter,
+            final Supplier<RobotCommandExecutor> fallbackExecutorProvider) {
+        this(firstExecutor, limit, DEFAULT_IDLE_TIMEOUT_IN_MS, executorsStarter, fallbackExecutorProvider);
+    }
+
+    @VisibleForTesting
+    RobotCommandRcpExecutorsPool(final RobotCommandRcpExecutor firstExecutor, final int limit,
+            final long idleTimeoutInMs, final Supplier<RobotCommandRcpExecutor> executorsStarter,
+            final Supplier<RobotCommandExecutor> fallbackExecutorProvider) {
+        this.limit = firstExecutor.isExternal() ? 1 : Math.max(1, limit);
+        this.idleTimeoutInMs = idleTimeoutInMs;
+        this.executorsStarter = executorsStarter;
+        this.fallbackExecutorProvider = fallbackExecutorProvider;
+        this.idleExecutors.push(firstExecutor);
+        this.idleSince.put(firstExecutor, System.currentTimeMillis());
+        this.startedExecutors = 1;
+        this.idleCheck = this.limit > 1 ? IDLE_CHECKER.scheduleWithFixedDelay(
+                () -> shutdownIdleExecutors(System.currentTimeMillis()), idleTimeoutInMs, idleTimeoutInMs,
+                TimeUnit.MILLISECONDS) : null;
+    }
+
+    @VisibleForTesting
+    synchronized int getNumberOfStartedExecutors() {
+        return startedExecutors;
+    }
+
+    private RobotCommandExecutor acquire() {
+        synchronized (this) {
+            while (true) {
+                if (isShutdown) {
+                    return fallbackExecutorProvider.get();
+                }
+                final Optional<RobotCommandRcpExecutor> idleExecutor = pollHealthyIdleExecutor();
+                if (idleExecutor.isPresent()) {
+                    return idleExecutor.get();
+                } else if (startedExecutors < limit) {
+                    startedExecutors++;
+                    break;
+                }
+                try {
+                    wait();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return fallbackExecutorProvider.get();
+                }
+            }
+        }
+        // starting takes time, so other callers should be able to use or release servers meanwhile
+        try {
+            final RobotCommandRcpExecutor executor = executorsStarter.get();
+            if (isHealthy(executor)) {
+                return executor;
+            }
+        } catch (final RobotCommandExecutorException e) {
+            // fallback executor will be used
+        }
+        synchronized (this) {
+            startedExecutors--;
+            notifyAll();
+        }
+        return fallbackExecutorProvider.get();
+    }
+
+    private Optional<RobotCommandRcpExecutor> pollHealthyIdleExecutor() {
+        while (!idleExecutors.isEmpty()) {
+            final RobotCommandRcpExecutor executor = idleExecutors.pop();
+            idleSince.remove(executor);
+            if (isHealthy(executor)) {
+                return Optional.of(executor);
+            }
+            startedExecutors--;
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isHealthy(final RobotCommandRcpExecutor executor) {
+        return executor.isAlive() || executor.isExternal();
+    }
+
+    private void release(final RobotCommandExecutor executor) {
+        if (!(executor instanceof RobotCommandRcpExecutor)) {
+            return;
+        }
+        final RobotCommandRcpExecutor rcpExecutor = (RobotCommandRcpExecutor) executor;
+        final boolean shouldKill;
+        synchronized (this) {
+            if (!isShutdown && isHealthy(rcpExecutor)) {
+                idleExecutors.push(rcpExecutor);
+                idleSince.put(rcpExecutor, System.currentTimeMillis());
+                notifyAll();
+                return;
+            }
+            shouldKill = isShutdown;
+            startedExecutors--;
+            notifyAll();
+        }
+        if (shouldKill) {
+            rcpExecutor.kill();
+        }
+    }
+
+    @VisibleForTesting
+    void shutdownIdleExecutors(final long currentTime) {
+        final List<RobotCommandRcpExecutor> toKill = new ArrayList<>();
+        synchronized (this) {
+            final Iterator<RobotCommandRcpExecutor> iterator = idleExecutors.descendingIterator();
+            while (iterator.hasNext() && startedExecutors > 1) {
+                final RobotCommandRcpExecutor executor = iterator.next();
+                if (!isHealthy(executor) || currentTime - idleSince.get(executor) >= idleTimeoutInMs) {
+                    iterator.remove();
+                    idleSince.remove(executor);
+                    startedExecutors--;
+                    toKill.add(executor);
+                }
+            }
+        }
+        toKill.forEach(RobotCommandRcpExecutor::kill);
+    }
+
+    /**
+     * Kills idle servers at once and busy servers as soon as they finish current call. Further
+     * calls are handled by fallback executor.
+     */
+    void shutdown() {
+        final List<RobotCommandRcpExecutor> toKill;
+        synchronized (this) {
+            isShutdown = true;
+            if (idleCheck != null) {
+                idleCheck.cancel(false);
+            }
+            toKill = new ArrayList<>(idleExecutors);
+            startedExecutors -= idleExecutors.size();
+            idleExecutors.clear();
+            idleSince.clear();
+            notifyAll();
+        }
+        toKill.forEach(RobotCommandRcpExecutor::kill);
+    }
+
+    private <T> T call(final Function<RobotCommandExecutor, T> function) {
+        final RobotCommandExecutor executor = acquire();
+        try {
+            return function.apply(executor);
+        } finally {
+            release(executor);
+        }
+    }
+
+    @Override
+    public List<File> getModulesSearchPaths() {
+        return call(RobotCommandExecutor::getModulesSearchPaths);
+    }
+
+    @Override
+    public Optional<File> getModulePath(final String moduleName, final EnvironmentSearchPaths additionalPaths) {
+        return call(executor -> executor.getModulePath(moduleName, additionalPaths));
+    }
+
+    @Override
+    public Map<String, Object> getVariables(final String filePath, final List<String> fileArguments) {
+        return call(executor -> executor.getVariables(filePath, fileArguments));
+    }
+
+    @Override
+    public Map<String, Object> getGlobalVariables() {
+        return call(RobotCommandExecutor::getGlobalVariables);
+    }
+
+    @Override
+    public List<String> getStandardLibrariesNames() {
+        return call(RobotCommandExecutor::getStandardLibrariesNames);
+    }
+
+    @Override
+    public String getStandardLibraryPath(final String libName) {
+        return call(executor -> executor.getStandardLibraryPath(libName));
+    }
+
+    @Override
+    public String getRobotVersion() {
+        return call(RobotCommandExecutor::getRobotVersion);
+    }
+
+    @Override
+    public Boolean isVirtualenv() {
+        return call(RobotCommandExecutor::isVirtualenv);
+    }
+
+    @Override
+    public void createLibdocForStdLibrary(final String resultFilePath, final String libName, final String libPath) {
+        call(executor -> {
+            executor.createLibdocForStdLibrary(resultFilePath, libName, libPath);
+            return null;
+        });
+    }
+
+    @Override
+    public void createLibdocForThirdPartyLibrary(final String resultFilePath, final String libName,
+            final String libPath, final EnvironmentSearchPaths additionalPaths) {
+        call(executor -> {
+            executor.createLibdocForThirdPartyLibrary(resultFilePath, libName, libPath, additionalPaths);
+            return null;
+        });
+    }
+}
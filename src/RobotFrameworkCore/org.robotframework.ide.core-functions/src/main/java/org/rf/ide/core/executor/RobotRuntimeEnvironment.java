@@ -6,6 +6,7 @@
 package org.rf.ide.core.executor;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static java.util.stream.Collectors.toList;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -28,6 +29,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import com.google.common.base.Joiner;
 import com.google.common.collect.Iterables;
@@ -49,6 +51,16 @@ public class RobotRuntimeEnvironment {
         PythonInterpretersCommandExecutors.getInstance().removeProcessListener(listener);
     }
 
+    /**
+     * Loads answers of interpreters remembered in given file. All further answers will be
+     * remembered in this file too.
+     *
+     * @param cacheFile
+     */
+    public static void loadIntrospectionCache(final File cacheFile) {
+        PythonInterpretersIntrospectionCache.getInstance().load(cacheFile);
+    }
+
     public static int runExternalProcess(final List<String> command, final ILineHandler linesHandler)
             throws IOException {
         try {
@@ -189,9 +201,47 @@ public class RobotRuntimeEnvironment {
      * @return Robot version as returned by robot
      */
     private static String getRobotFrameworkVersion(final PythonInstallationDirectory pythonLocation) {
+        final PythonInterpretersIntrospectionCache cache = PythonInterpretersIntrospectionCache.getInstance();
+        final String interpreterPath = getInterpreterExecutable(pythonLocation).getAbsolutePath();
+        final Optional<Object> cachedVersion = cache.get(interpreterPath, "version");
+        if (cachedVersion.isPresent()) {
+            return (String) cachedVersion.get();
+        }
+
         final RobotCommandExecutor executor = PythonInterpretersCommandExecutors.getInstance()
                 .getRobotCommandExecutor(pythonLocation);
-        return exactVersion(pythonLocation.getInterpreter(), executor.getRobotVersion());
+        final String version = exactVersion(pythonLocation.getInterpreter(), executor.getRobotVersion());
+        if (version != null) {
+            // robot package is located using BuiltIn library; executable is rewritten on each python
+            // installation, version module on each robot installation and the directory containing
+            // robot package changes whenever packages are installed or removed there
+            final File builtInLibrary = toSourceFile(executor.getStandardLibraryPath("BuiltIn"));
+            if (builtInLibrary != null) {
+                final File robotPackage = builtInLibrary.getParentFile().getParentFile();
+                cache.startCaching(interpreterPath, newArrayList(new File(interpreterPath),
+                        new File(robotPackage, "version.py"), robotPackage.getParentFile()));
+                cache.put(interpreterPath, "version", version);
+            }
+        }
+        return version;
+    }
+
+    private static File getInterpreterExecutable(final PythonInstallationDirectory pythonLocation) {
+        return new File(pythonLocation, pythonLocation.getInterpreter().executableName());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getIntrospectionResult(final String property, final Supplier<T> introspection) {
+        final PythonInterpretersIntrospectionCache cache = PythonInterpretersIntrospectionCache.getInstance();
+        final String interpreterPath = getInterpreterExecutable((PythonInstallationDirectory) location)
+                .getAbsolutePath();
+        final Optional<Object> cachedResult = cache.get(interpreterPath, property);
+        if (cachedResult.isPresent()) {
+            return (T) cachedResult.get();
+        }
+        final T result = introspection.get();
+        cache.put(interpreterPath, property, result);
+        return result;
     }
 
     public String getPythonExecutablePath() {
@@ -217,7 +267,7 @@ public class RobotRuntimeEnvironment {
         return tempFile;
     }
 
-    public static File copyScriptFile(final String filename) throws IOException {
+    public static synchronized File copyScriptFile(final String filename) throws IOException {
         final Path tempDir = createTemporaryDirectory();
         final File scriptFile = new File(tempDir.toString() + File.separator + filename);
         if (!scriptFile.exists()) {
@@ -327,9 +377,12 @@ public class RobotRuntimeEnvironment {
 
     public List<File> getModuleSearchPaths() {
         if (hasRobotInstalled()) {
-            final RobotCommandExecutor executor = PythonInterpretersCommandExecutors.getInstance()
-                    .getRobotCommandExecutor((PythonInstallationDirectory) location);
-            return executor.getModulesSearchPaths();
+            final List<String> paths = getIntrospectionResult("moduleSearchPaths", () -> {
+                final RobotCommandExecutor executor = PythonInterpretersCommandExecutors.getInstance()
+                        .getRobotCommandExecutor((PythonInstallationDirectory) location);
+                return executor.getModulesSearchPaths().stream().map(File::getPath).collect(toList());
+            });
+            return paths.stream().map(File::new).collect(toList());
         }
         return newArrayList();
     }
@@ -350,6 +403,8 @@ public class RobotRuntimeEnvironment {
     public void resetCommandExecutors() {
         if (hasRobotInstalled()) {
             PythonInterpretersCommandExecutors.getInstance().resetExecutorFor((PythonInstallationDirectory) location);
+            PythonInterpretersIntrospectionCache.getInstance()
+                    .invalidate(getInterpreterExecutable((PythonInstallationDirectory) location).getAbsolutePath());
         }
     }
 
@@ -391,13 +446,16 @@ public class RobotRuntimeEnvironment {
 
     public List<String> getStandardLibrariesNames() {
         if (hasRobotInstalled()) {
-            final RobotCommandExecutor executor = PythonInterpretersCommandExecutors.getInstance()
-                    .getRobotCommandExecutor((PythonInstallationDirectory) location);
-            final List<String> libs = executor.getStandardLibrariesNames();
-            // Remote is a library without keywords and libdoc throws
-            // exceptions when trying to generate its specification
-            libs.remove("Remote");
-            return libs;
+            final List<String> libs = getIntrospectionResult("standardLibraries", () -> {
+                final RobotCommandExecutor executor = PythonInterpretersCommandExecutors.getInstance()
+                        .getRobotCommandExecutor((PythonInstallationDirectory) location);
+                final List<String> names = executor.getStandardLibrariesNames();
+                // Remote is a library without keywords and libdoc throws
+                // exceptions when trying to generate its specification
+                names.remove("Remote");
+                return names;
+            });
+            return new ArrayList<>(libs);
         } else {
             return new ArrayList<>();
         }
@@ -407,22 +465,25 @@ public class RobotRuntimeEnvironment {
         if (hasRobotInstalled()) {
             final RobotCommandExecutor executor = PythonInterpretersCommandExecutors.getInstance()
                     .getRobotCommandExecutor((PythonInstallationDirectory) location);
-            final String pycPath = executor.getStandardLibraryPath(libraryName);
-            if (pycPath == null) {
-                return null;
-            } else if (pycPath.endsWith(".py")) {
-                return new File(pycPath);
-            } else if (pycPath.endsWith(".pyc")) {
-                return new File(pycPath.substring(0, pycPath.length() - 1));
-            } else if (pycPath.endsWith("$py.class")) {
-                return new File(pycPath.substring(0, pycPath.length() - 9) + ".py");
-            } else {
-                return null;
-            }
+            return toSourceFile(executor.getStandardLibraryPath(libraryName));
         }
         return null;
     }
 
+    private static File toSourceFile(final String pycPath) {
+        if (pycPath == null) {
+            return null;
+        } else if (pycPath.endsWith(".py")) {
+            return new File(pycPath);
+        } else if (pycPath.endsWith(".pyc")) {
+            return new File(pycPath.substring(0, pycPath.length() - 1));
+        } else if (pycPath.endsWith("$py.class")) {
+            return new File(pycPath.substring(0, pycPath.length() - 9) + ".py");
+        } else {
+            return null;
+        }
+    }
+
     /**
      * Return names of python classes contained in module point by argument and
      * all of its submodules. For packages-module __init__.py file path should
@@ -497,9 +558,12 @@ public class RobotRuntimeEnvironment {
 
     public Map<String, Object> getGlobalVariables() {
         if (hasRobotInstalled()) {
-            final RobotCommandExecutor executor = PythonInterpretersCommandExecutors.getInstance()
-                    .getRobotCommandExecutor((PythonInstallationDirectory) location);
-            return executor.getGlobalVariables();
+            final Map<String, Object> variables = getIntrospectionResult("globalVariables", () -> {
+                final RobotCommandExecutor executor = PythonInterpretersCommandExecutors.getInstance()
+                        .getRobotCommandExecutor((PythonInstallationDirectory) location);
+                return executor.getGlobalVariables();
+            });
+            return new LinkedHashMap<>(variables);
         }
         return new LinkedHashMap<>();
     }
@@ -30,6 +30,16 @@ import org.xml.sax.SAXParseException;
 
 public class RobotProjectConfigReader {
 
+    // creation of context is costly, while the context itself is thread-safe
+    private static JAXBContext jaxbContext;
+
+    static synchronized JAXBContext getJaxbContext() throws JAXBException {
+        if (jaxbContext == null) {
+            jaxbContext = JAXBContext.newInstance(RobotProjectConfig.class);
+        }
+        return jaxbContext;
+    }
+
     public RobotProjectConfig readConfiguration(final File file) {
         if (file == null || !file.isFile() || !file.exists()) {
             throw new CannotReadProjectConfigurationException(
@@ -66,8 +76,7 @@ public class RobotProjectConfigReader {
 
     protected final RobotProjectConfig readConfiguration(final Reader reader) {
         try {
-            final JAXBContext jaxbContext = JAXBContext.newInstance(RobotProjectConfig.class);
-            return (RobotProjectConfig) jaxbContext.createUnmarshaller().unmarshal(reader);
+            return (RobotProjectConfig) getJaxbContext().createUnmarshaller().unmarshal(reader);
 
         } catch (final JAXBException e) {
             if (e.getLinkedException() != null) {
@@ -81,8 +90,7 @@ public class RobotProjectConfigReader {
     protected final RobotProjectConfigWithLines readConfigurationWithLines(final Reader reader) {
         try {
             final XMLInputFactory xmlFactory = XMLInputFactory.newFactory();
-            final JAXBContext jaxbContext = JAXBContext.newInstance(RobotProjectConfig.class);
-            final Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+            final Unmarshaller unmarshaller = getJaxbContext().createUnmarshaller();
             final XMLStreamReader xmlReader = xmlFactory.createXMLStreamReader(reader);
             final LocationListener listener = new LocationListener(xmlReader);
             unmarshaller.setListener(listener);
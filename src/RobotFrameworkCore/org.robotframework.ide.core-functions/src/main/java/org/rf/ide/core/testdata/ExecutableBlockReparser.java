@@ -0,0 +1,391 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.rf.ide.core.testdata.model.FilePosition;
+import org.rf.ide.core.testdata.model.FileRegion;
+import org.rf.ide.core.testdata.model.FileRegionCacher;
+import org.rf.ide.core.testdata.model.IDocumentationHolder;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotFileOutput.BuildMessage;
+import org.rf.ide.core.testdata.model.RobotFileOutput.Status;
+import org.rf.ide.core.testdata.model.table.ARobotSectionTable;
+import org.rf.ide.core.testdata.model.table.KeywordTable;
+import org.rf.ide.core.testdata.model.table.TableHeader;
+import org.rf.ide.core.testdata.model.table.TestCaseTable;
+import org.rf.ide.core.testdata.model.table.keywords.KeywordDocumentation;
+import org.rf.ide.core.testdata.model.table.keywords.UserKeyword;
+import org.rf.ide.core.testdata.model.table.testcases.TestCase;
+import org.rf.ide.core.testdata.model.table.testcases.TestDocumentation;
+import org.rf.ide.core.testdata.text.read.IRobotLineElement;
+import org.rf.ide.core.testdata.text.read.LineReader.Constant;
+import org.rf.ide.core.testdata.text.read.RobotLine;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
+import org.rf.ide.core.testdata.text.read.separators.Separator;
+
+/**
+ * Parses again only the test case or keyword block touched by an editor change and splices
+ * resulting lines and model elements into already existing {@link RobotFileOutput}. Lines and
+ * tokens placed after the changed block are shifted, so afterwards the output describes the new
+ * content. The output is modified in place, so callers have to make sure nobody reads it at the
+ * same time. Build messages reported for the old block are replaced with the ones reported for the
+ * new block, so only messages having file region can be handled. Changes in other tables or changes
+ * which may add or remove table headers are not handled and the whole content has to be parsed
+ * again.
+ */
+class ExecutableBlockReparser {
+
+    private final IRobotFileParser parser;
+
+    ExecutableBlockReparser(final IRobotFileParser parser) {
+        this.parser = parser;
+    }
+
+    boolean reparse(final RobotFileOutput output, final String newContent, final int changeOffset,
+            final int removedLength, final int insertedLength) {
+        final RobotFile fileModel = output.getFileModel();
+        final List<RobotLine> lines = fileModel.getFileContent();
+        if (output.getStatus() != Status.PASSED || lines.isEmpty()
+                || lineEndOffset(lines.get(lines.size() - 1)) + insertedLength - removedLength != newContent
+                        .length()) {
+            return false;
+        }
+
+        final int firstChangedLine = lineIndexOf(fileModel, changeOffset);
+        final int lastChangedLine = lineIndexOf(fileModel, changeOffset + removedLength);
+        if (firstChangedLine < 0 || lastChangedLine < firstChangedLine) {
+            return false;
+        }
+
+        final int headerIndex = findHeaderLineIndex(lines, firstChangedLine);
+        if (headerIndex < 0 || headerIndex == firstChangedLine
+                || findNextHeaderLineIndex(lines, firstChangedLine) <= lastChangedLine) {
+            return false;
+        }
+        final RobotToken headerToken = firstToken(lines.get(headerIndex)).get();
+        final ARobotSectionTable table = getExecutableTable(fileModel, headerToken);
+        if (table == null || !isDeclaredHeader(table, headerToken)) {
+            return false;
+        }
+        final RobotTokenType blockNameType = table instanceof TestCaseTable ? RobotTokenType.TEST_CASE_NAME
+                : RobotTokenType.KEYWORD_NAME;
+
+        final int blockStart = findBlockStart(lines, headerIndex, firstChangedLine, blockNameType);
+        final int blockEnd = findBlockEnd(lines, lastChangedLine, blockNameType);
+        final boolean isBlockAtTheEnd = blockEnd == lines.size();
+
+        final int shift = insertedLength - removedLength;
+        final int regionStart = lineStartOffset(lines.get(blockStart));
+        final int regionEnd = isBlockAtTheEnd ? newContent.length() : lineStartOffset(lines.get(blockEnd)) + shift;
+        final String headerText = newContent.substring(lineStartOffset(lines.get(headerIndex)),
+                lineStartOffset(lines.get(headerIndex + 1)));
+        final String blockText = newContent.substring(regionStart, regionEnd);
+        if (containsHeaderLikeLine(blockText)) {
+            return false;
+        }
+
+        final RobotFileOutput blockOutput = new RobotFileOutput(output.getRobotVersion());
+        parser.parse(blockOutput, new ByteArrayInputStream((headerText + blockText).getBytes(Charset.forName("UTF-8"))),
+                output.getProcessedFile());
+        final ARobotSectionTable blockTable = getExecutableTable(blockOutput.getFileModel(), headerToken);
+        final List<RobotLine> blockLines = new ArrayList<>(blockOutput.getFileModel().getFileContent());
+        if (!isBlockAtTheEnd && isArtificialEofLine(blockLines.get(blockLines.size() - 1))) {
+            blockLines.remove(blockLines.size() - 1);
+        }
+        if (blockOutput.getStatus() != Status.PASSED || blockTable.getHeaders().size() != 1
+                || blockLines.size() < 2 || !haveFileRegions(blockOutput.getBuildingMessages())) {
+            return false;
+        }
+
+        final int firstLineNumber = lines.get(blockStart).getLineNumber();
+        final int lastLineNumber = isBlockAtTheEnd ? Integer.MAX_VALUE : lines.get(blockEnd).getLineNumber() - 1;
+        final int lineShift = blockLines.size() - 1 - (blockEnd - blockStart);
+
+        final int position = removeElements(output, table, firstLineNumber, lastLineNumber);
+        for (int i = blockEnd; i < lines.size(); i++) {
+            shiftLine(lines.get(i), lineShift, shift);
+        }
+        final int blockLineShift = firstLineNumber - blockLines.get(1).getLineNumber();
+        final int blockOffsetShift = regionStart - lineStartOffset(blockLines.get(1));
+        final List<RobotLine> relocatedLines = new ArrayList<>();
+        for (final RobotLine line : blockLines.subList(1, blockLines.size())) {
+            relocatedLines.add(relocateLine(line, fileModel, blockLineShift, blockOffsetShift));
+        }
+        moveElements(output, blockTable, table, position);
+        fileModel.replaceLines(blockStart, blockEnd, relocatedLines);
+        removeBuildMessages(output, firstLineNumber, lastLineNumber, lineShift, shift);
+        moveBuildMessages(blockOutput, output, blockLines.get(1).getLineNumber(), blockLineShift,
+                blockOffsetShift);
+        output.getDocumentationCacher().invalidate();
+        return true;
+    }
+
+    private static int lineIndexOf(final RobotFile fileModel, final int offset) {
+        final Optional<Integer> index = fileModel.getRobotLineIndexBy(offset);
+        if (index.isPresent()) {
+            return index.get();
+        }
+        final List<RobotLine> lines = fileModel.getFileContent();
+        final int lastIndex = lines.size() - 1;
+        return offset >= lineStartOffset(lines.get(lastIndex)) ? lastIndex : -1;
+    }
+
+    private static int lineStartOffset(final RobotLine line) {
+        final List<IRobotLineElement> elements = line.getLineElements();
+        return elements.isEmpty() ? line.getEndOfLine().getStartOffset() : elements.get(0).getStartOffset();
+    }
+
+    private static int lineEndOffset(final RobotLine line) {
+        final IRobotLineElement eol = line.getEndOfLine();
+        return eol.getStartOffset() + eol.getRaw().length();
+    }
+
+    private static Optional<RobotToken> firstToken(final RobotLine line) {
+        for (final IRobotLineElement element : line.getLineElements()) {
+            if (element instanceof RobotToken) {
+                return Optional.of((RobotToken) element);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isHeaderLine(final RobotLine line) {
+        final Optional<RobotToken> token = firstToken(line);
+        if (token.isPresent()) {
+            for (final Object type : token.get().getTypes()) {
+                if (type instanceof RobotTokenType && RobotTokenType.isTableHeader((RobotTokenType) type)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isBlockStartLine(final RobotLine line, final RobotTokenType blockNameType) {
+        final Optional<RobotToken> token = firstToken(line);
+        return token.isPresent() && token.get().getTypes().contains(blockNameType);
+    }
+
+    private static int findHeaderLineIndex(final List<RobotLine> lines, final int fromIndex) {
+        for (int i = fromIndex; i >= 0; i--) {
+            if (isHeaderLine(lines.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int findNextHeaderLineIndex(final List<RobotLine> lines, final int fromIndex) {
+        for (int i = fromIndex; i < lines.size(); i++) {
+            if (isHeaderLine(lines.get(i))) {
+                return i;
+            }
+        }
+        return lines.size();
+    }
+
+    private static int findBlockStart(final List<RobotLine> lines, final int headerIndex, final int changedIndex,
+            final RobotTokenType blockNameType) {
+        // changed line itself is skipped, because the change could have turned block name into
+        // executable row which belongs to previous block
+        for (int i = changedIndex - 1; i > headerIndex; i--) {
+            if (isBlockStartLine(lines.get(i), blockNameType)) {
+                return i;
+            }
+        }
+        return headerIndex + 1;
+    }
+
+    private static int findBlockEnd(final List<RobotLine> lines, final int fromIndex,
+            final RobotTokenType blockNameType) {
+        for (int i = fromIndex + 1; i < lines.size(); i++) {
+            final RobotLine line = lines.get(i);
+            if (isBlockStartLine(line, blockNameType) || isHeaderLine(line)) {
+                return i;
+            }
+        }
+        return lines.size();
+    }
+
+    private static boolean containsHeaderLikeLine(final String text) {
+        for (final String line : text.split("\r\n|\r|\n")) {
+            final String lineStart = line.replaceFirst("^[\\s|\\uFEFF]+", "");
+            if (lineStart.startsWith("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isArtificialEofLine(final RobotLine line) {
+        return line.getLineElements().isEmpty() && line.getEndOfLine().getRaw().isEmpty();
+    }
+
+    private static ARobotSectionTable getExecutableTable(final RobotFile fileModel, final RobotToken headerToken) {
+        if (headerToken.getTypes().contains(RobotTokenType.TEST_CASES_TABLE_HEADER)) {
+            return fileModel.getTestCaseTable();
+        } else if (headerToken.getTypes().contains(RobotTokenType.KEYWORDS_TABLE_HEADER)) {
+            return fileModel.getKeywordTable();
+        }
+        return null;
+    }
+
+    private static boolean isDeclaredHeader(final ARobotSectionTable table, final RobotToken headerToken) {
+        for (final TableHeader<? extends ARobotSectionTable> header : table.getHeaders()) {
+            if (header.getTableHeader() == headerToken) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int removeElements(final RobotFileOutput output, final ARobotSectionTable table,
+            final int firstLineNumber, final int lastLineNumber) {
+        final FileRegionCacher<IDocumentationHolder> docCacher = output.getDocumentationCacher();
+        int position = 0;
+        if (table instanceof TestCaseTable) {
+            final TestCaseTable testCaseTable = (TestCaseTable) table;
+            for (final TestCase test : new ArrayList<>(testCaseTable.getTestCases())) {
+                final int line = test.getDeclaration().getLineNumber();
+                if (line < firstLineNumber) {
+                    position++;
+                } else if (line <= lastLineNumber) {
+                    for (final TestDocumentation doc : test.getDocumentation()) {
+                        docCacher.unregister(doc);
+                    }
+                    testCaseTable.removeTest(test);
+                }
+            }
+        } else {
+            final KeywordTable keywordTable = (KeywordTable) table;
+            for (final UserKeyword keyword : new ArrayList<>(keywordTable.getKeywords())) {
+                final int line = keyword.getDeclaration().getLineNumber();
+                if (line < firstLineNumber) {
+                    position++;
+                } else if (line <= lastLineNumber) {
+                    for (final KeywordDocumentation doc : keyword.getDocumentation()) {
+                        docCacher.unregister(doc);
+                    }
+                    keywordTable.removeKeyword(keyword);
+                }
+            }
+        }
+        return position;
+    }
+
+    private static void moveElements(final RobotFileOutput output, final ARobotSectionTable sourceTable,
+            final ARobotSectionTable targetTable, final int position) {
+        final FileRegionCacher<IDocumentationHolder> docCacher = output.getDocumentationCacher();
+        int index = position;
+        if (targetTable instanceof TestCaseTable) {
+            for (final TestCase test : ((TestCaseTable) sourceTable).getTestCases()) {
+                ((TestCaseTable) targetTable).addTest(test, index++);
+                for (final TestDocumentation doc : test.getDocumentation()) {
+                    docCacher.register(doc);
+                }
+            }
+        } else {
+            for (final UserKeyword keyword : ((KeywordTable) sourceTable).getKeywords()) {
+                ((KeywordTable) targetTable).addKeyword(keyword, index++);
+                for (final KeywordDocumentation doc : keyword.getDocumentation()) {
+                    docCacher.register(doc);
+                }
+            }
+        }
+    }
+
+    private static boolean haveFileRegions(final List<BuildMessage> messages) {
+        for (final BuildMessage message : messages) {
+            if (message.getFileRegion() == null || message.getFileRegion().getStart() == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void removeBuildMessages(final RobotFileOutput output, final int firstLineNumber,
+            final int lastLineNumber, final int lineShift, final int offsetShift) {
+        // messages without file region are reported for whole file or its settings, not for the block
+        for (final BuildMessage message : new ArrayList<>(output.getBuildingMessages())) {
+            final FileRegion region = message.getFileRegion();
+            if (region == null || region.getStart() == null) {
+                continue;
+            }
+            final int line = region.getStart().getLine();
+            if (line >= firstLineNumber && line <= lastLineNumber) {
+                output.removeBuildMessage(message);
+            } else if (line > lastLineNumber) {
+                shiftRegion(region, lineShift, offsetShift);
+            }
+        }
+    }
+
+    private static void moveBuildMessages(final RobotFileOutput sourceOutput, final RobotFileOutput targetOutput,
+            final int firstLineNumber, final int lineShift, final int offsetShift) {
+        for (final BuildMessage message : sourceOutput.getBuildingMessages()) {
+            final FileRegion region = message.getFileRegion();
+            // messages reported for artificial header line are skipped
+            if (region.getStart().getLine() >= firstLineNumber) {
+                shiftRegion(region, lineShift, offsetShift);
+                targetOutput.addBuildMessage(message);
+            }
+        }
+    }
+
+    private static void shiftRegion(final FileRegion region, final int lineShift, final int offsetShift) {
+        region.setStart(shiftPosition(region.getStart(), lineShift, offsetShift));
+        region.setEnd(shiftPosition(region.getEnd(), lineShift, offsetShift));
+    }
+
+    private static FilePosition shiftPosition(final FilePosition position, final int lineShift,
+            final int offsetShift) {
+        if (position == null || position.isNotSet()) {
+            return position;
+        }
+        return new FilePosition(position.getLine() + lineShift, position.getColumn(),
+                position.getOffset() + offsetShift);
+    }
+
+    private static RobotLine relocateLine(final RobotLine line, final RobotFile fileModel, final int lineShift,
+            final int offsetShift) {
+        final RobotLine relocated = new RobotLine(line.getLineNumber(), fileModel);
+        relocated.setSeparatorType(line.getSeparatorForLine().orElse(null));
+        relocated.setLineElements(line.getLineElements());
+        relocated.setEndOfLine(Constant.get(line.getEndOfLine()), line.getEndOfLine().getStartOffset(),
+                line.getEndOfLine().getStartColumn());
+        shiftLine(relocated, lineShift, offsetShift);
+        return relocated;
+    }
+
+    private static void shiftLine(final RobotLine line, final int lineShift, final int offsetShift) {
+        if (lineShift == 0 && offsetShift == 0) {
+            return;
+        }
+        final int lineNumber = line.getLineNumber() + lineShift;
+        line.setLineNumber(lineNumber);
+        for (final IRobotLineElement element : line.getLineElements()) {
+            if (element instanceof RobotToken) {
+                final RobotToken token = (RobotToken) element;
+                token.setLineNumber(lineNumber);
+                token.setStartOffset(token.getStartOffset() + offsetShift);
+            } else if (element instanceof Separator) {
+                final Separator separator = (Separator) element;
+                separator.setLineNumber(lineNumber);
+                separator.setStartOffset(separator.getStartOffset() + offsetShift);
+            }
+        }
+        final IRobotLineElement eol = line.getEndOfLine();
+        line.setEndOfLine(Constant.get(eol), eol.getStartOffset() + offsetShift, eol.getStartColumn());
+    }
+}
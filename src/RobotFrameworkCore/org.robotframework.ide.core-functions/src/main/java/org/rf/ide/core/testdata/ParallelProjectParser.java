@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import org.rf.ide.core.project.ImportSearchPaths.PathsProvider;
+import org.rf.ide.core.testdata.importer.ResourceImporter;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotFileOutput.Status;
+import org.rf.ide.core.testdata.model.RobotProjectHolder;
+
+/**
+ * Parses files in fork-join pool. Parsing is done in phases: at first all the files found in
+ * given directory are parsed concurrently without imports, then resources imported by them are
+ * found and parsed concurrently (repeatedly, until there are no new resources) and at the end
+ * files are linked with outputs of imported resources and variables are imported. This way every
+ * resource is parsed at most once and import cycles does not need any special handling.
+ */
+class ParallelProjectParser {
+
+    private final RobotParser parser;
+
+    private final RobotProjectHolder robotProject;
+
+    private final PathsProvider pathsProvider;
+
+    private final ForkJoinPool pool;
+
+    ParallelProjectParser(final RobotParser parser, final RobotProjectHolder robotProject,
+            final PathsProvider pathsProvider, final ForkJoinPool pool) {
+        this.parser = parser;
+        this.robotProject = robotProject;
+        this.pathsProvider = pathsProvider;
+        this.pool = pool;
+    }
+
+    List<RobotFileOutput> parse(final File fileOrDir) {
+        if (fileOrDir == null) {
+            return new ArrayList<>();
+        }
+        return parse(Collections.singletonList(fileOrDir));
+    }
+
+    List<RobotFileOutput> parse(final Collection<File> filesOrDirs) {
+        final Queue<RobotFileOutput> parsedFiles = new ConcurrentLinkedQueue<>();
+        final List<ParsingTask> tasks = new ArrayList<>();
+        for (final File fileOrDir : filesOrDirs) {
+            tasks.add(new ParsingTask(fileOrDir, parsedFiles));
+        }
+        pool.invoke(new ParsingTasksGroup(tasks));
+        final List<RobotFileOutput> output = new ArrayList<>();
+        for (final ParsingTask task : tasks) {
+            output.addAll(task.join());
+        }
+
+        final List<RobotFileOutput> filesToLink = new ArrayList<>(parsedFiles);
+        if (parser.isImportingEagerly()) {
+            filesToLink.addAll(parseImportedResources(parsedFiles));
+        }
+        for (final RobotFileOutput robotFile : filesToLink) {
+            if (robotFile.getFileModel().containsAnyRobotSection()) {
+                parser.importExternal(robotFile, this::findParsedResource);
+            }
+        }
+        return output;
+    }
+
+    private List<RobotFileOutput> parseImportedResources(final Collection<RobotFileOutput> parsedFiles) {
+        final ResourceImporter resourceImporter = new ResourceImporter(parser);
+        final List<RobotFileOutput> parsedResources = new ArrayList<>();
+
+        Collection<RobotFileOutput> filesToScan = parsedFiles;
+        while (!filesToScan.isEmpty()) {
+            final Set<File> resourcesToParse = new LinkedHashSet<>();
+            for (final RobotFileOutput robotFile : filesToScan) {
+                if (robotFile.getStatus() == Status.PASSED
+                        && robotFile.getFileModel().containsAnyRobotSection()) {
+                    for (final File resource : resourceImporter.findResourceFiles(pathsProvider, robotProject,
+                            robotFile)) {
+                        if (resource.isFile() && robotProject.shouldBeLoaded(resource)) {
+                            resourcesToParse.add(resource.getAbsoluteFile());
+                        }
+                    }
+                }
+            }
+            final Queue<RobotFileOutput> newlyParsed = new ConcurrentLinkedQueue<>();
+            final List<ParsingTask> tasks = new ArrayList<>();
+            for (final File resource : resourcesToParse) {
+                tasks.add(new ParsingTask(resource, newlyParsed));
+            }
+            pool.invoke(new ParsingTasksGroup(tasks));
+
+            parsedResources.addAll(newlyParsed);
+            filesToScan = newlyParsed;
+        }
+        return parsedResources;
+    }
+
+    private List<RobotFileOutput> findParsedResource(final File file) {
+        final RobotFileOutput parsed = robotProject.findFileByName(file);
+        if (parsed != null) {
+            return Collections.singletonList(parsed);
+        }
+        // not a regular file, so it is handled as in sequential parsing
+        return parser.parse(file);
+    }
+
+    private class ParsingTask extends RecursiveTask<List<RobotFileOutput>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final File fileOrDir;
+
+        private final Queue<RobotFileOutput> parsedFiles;
+
+        ParsingTask(final File fileOrDir, final Queue<RobotFileOutput> parsedFiles) {
+            this.fileOrDir = fileOrDir;
+            this.parsedFiles = parsedFiles;
+        }
+
+        @Override
+        protected List<RobotFileOutput> compute() {
+            final List<RobotFileOutput> output = new ArrayList<>();
+            if (fileOrDir.isDirectory()) {
+                final List<ParsingTask> subtasks = new ArrayList<>();
+                for (final File file : fileOrDir.listFiles()) {
+                    subtasks.add(new ParsingTask(file, parsedFiles));
+                }
+                for (final ParsingTask subtask : ForkJoinTask.invokeAll(subtasks)) {
+                    output.addAll(subtask.join());
+                }
+            } else if (robotProject.shouldBeLoaded(fileOrDir)) {
+                final RobotFileOutput robotFile = parser.parseWithoutImports(fileOrDir);
+                if (robotFile != null) {
+                    parsedFiles.add(robotFile);
+                    output.add(robotFile);
+                }
+            } else {
+                final RobotFileOutput fileByName = robotProject.findFileByName(fileOrDir);
+                if (fileByName != null) {
+                    output.add(fileByName);
+                }
+            }
+            return output;
+        }
+    }
+
+    private static class ParsingTasksGroup extends RecursiveTask<Void> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<ParsingTask> tasks;
+
+        ParsingTasksGroup(final List<ParsingTask> tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        protected Void compute() {
+            ForkJoinTask.invokeAll(tasks);
+            return null;
+        }
+    }
+}
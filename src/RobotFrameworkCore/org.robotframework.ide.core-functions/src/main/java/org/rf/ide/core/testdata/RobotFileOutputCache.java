@@ -0,0 +1,210 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotVersion;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+/**
+ * Stores serialized {@link RobotFileOutput} objects in given directory, so that unchanged files do
+ * not have to be parsed again e.g. after restart. Entries are keyed by path of parsed file, hash
+ * of its content, parser version and Robot Framework version. Outputs are stored just after
+ * parsing, so imported resources and variables are not stored and have to be imported again.
+ * There is at most one entry for each path and the least recently used entries are removed when
+ * there are more entries than given limit, e.g. after files were renamed or removed.
+ */
+public class RobotFileOutputCache {
+
+    /**
+     * Has to be increased whenever parsing or model classes are changed in a way which makes
+     * previously stored outputs invalid.
+     */
+    static final int PARSER_VERSION = 3;
+
+    static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private static final int PRUNING_INTERVAL = 100;
+
+    private static final String ENTRY_EXTENSION = ".parsed";
+
+    private final File cacheDirectory;
+
+    private final int maxEntries;
+
+    private final AtomicInteger storesSincePruning = new AtomicInteger(0);
+
+    public RobotFileOutputCache(final File cacheDirectory) {
+        this(cacheDirectory, DEFAULT_MAX_ENTRIES);
+    }
+
+    @VisibleForTesting
+    RobotFileOutputCache(final File cacheDirectory, final int maxEntries) {
+        this.cacheDirectory = cacheDirectory;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Computes hash of given file content which identifies cache entries. It should be computed
+     * before parsing, so that changes made to the file during parsing invalidate stored entry.
+     *
+     * @param file
+     * @return content hash or empty when file cannot be read
+     */
+    public static Optional<HashCode> hashContent(final File file) {
+        if (!file.isFile()) {
+            return Optional.empty();
+        }
+        // files are read using streams, since memory mapped files stay locked on Windows
+        try (InputStream input = Files.newInputStream(file.toPath())) {
+            final Hasher hasher = Hashing.sha256().newHasher();
+            final byte[] chunk = new byte[8192];
+            int length;
+            while ((length = input.read(chunk)) >= 0) {
+                hasher.putBytes(chunk, 0, length);
+            }
+            return Optional.of(hasher.hash());
+        } catch (final IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns output stored for given file if it was stored for exactly the same file content and
+     * Robot Framework version.
+     *
+     * @param file
+     * @param contentHash
+     *            hash of current file content computed with {@link #hashContent(File)}
+     * @param robotVersion
+     * @return
+     */
+    public Optional<RobotFileOutput> load(final File file, final HashCode contentHash,
+            final RobotVersion robotVersion) {
+        final File entry = getEntryFile(file);
+        if (!entry.isFile()) {
+            return Optional.empty();
+        }
+        try (InputStream stream = new BufferedInputStream(Files.newInputStream(entry.toPath()))) {
+            final DataInputStream input = new DataInputStream(stream);
+            if (input.readInt() != PARSER_VERSION || !input.readUTF().equals(file.getAbsolutePath())
+                    || !input.readUTF().equals(String.valueOf(robotVersion))) {
+                return Optional.empty();
+            }
+            final byte[] storedHash = new byte[input.readInt()];
+            input.readFully(storedHash);
+            if (!Arrays.equals(storedHash, contentHash.asBytes())) {
+                return Optional.empty();
+            }
+            final RobotFileOutput output = (RobotFileOutput) RobotFileOutputSerialization.createInputStream(input)
+                    .readObject();
+            output.setLastModificationEpochTime(file.lastModified());
+            // modification time of entry tells when it was used for the last time
+            entry.setLastModified(System.currentTimeMillis());
+            return Optional.of(output);
+        } catch (final IOException | ClassNotFoundException | ClassCastException e) {
+            // entry is broken or was written by incompatible version
+            entry.delete();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores given output of parsed file. Should be called just after parsing, before any
+     * external imports were made.
+     *
+     * @param robotOutput
+     * @param contentHash
+     *            hash of parsed file content computed with {@link #hashContent(File)} before parsing
+     */
+    public void store(final RobotFileOutput robotOutput, final HashCode contentHash) {
+        final File file = robotOutput.getProcessedFile();
+        if (file == null) {
+            return;
+        }
+        try {
+            cacheDirectory.mkdirs();
+            final File temporaryEntry = File.createTempFile("output", ".tmp", cacheDirectory);
+            try {
+                try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(temporaryEntry.toPath()))) {
+                    final DataOutputStream output = new DataOutputStream(stream);
+                    output.writeInt(PARSER_VERSION);
+                    output.writeUTF(file.getAbsolutePath());
+                    output.writeUTF(String.valueOf(robotOutput.getRobotVersion()));
+                    final byte[] hash = contentHash.asBytes();
+                    output.writeInt(hash.length);
+                    output.write(hash);
+
+                    final ObjectOutputStream objectOutput = RobotFileOutputSerialization.createOutputStream(output);
+                    objectOutput.writeObject(robotOutput);
+                    objectOutput.flush();
+                }
+                Files.move(temporaryEntry.toPath(), getEntryFile(file).toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                temporaryEntry.delete();
+            }
+        } catch (final IOException e) {
+            // nothing to do, file will be parsed next time
+        }
+        if (storesSincePruning.incrementAndGet() >= PRUNING_INTERVAL) {
+            storesSincePruning.set(0);
+            prune();
+        }
+    }
+
+    /**
+     * Removes least recently used entries, so that there are no more entries than the limit.
+     */
+    @VisibleForTesting
+    void prune() {
+        final File[] entries = cacheDirectory.listFiles((dir, name) -> name.endsWith(ENTRY_EXTENSION));
+        if (entries == null || entries.length <= maxEntries) {
+            return;
+        }
+        Arrays.sort(entries, Comparator.comparingLong(File::lastModified));
+        for (int i = 0; i < entries.length - maxEntries; i++) {
+            entries[i].delete();
+        }
+    }
+
+    public void clear() {
+        final File[] entries = cacheDirectory.listFiles();
+        if (entries != null) {
+            for (final File entry : entries) {
+                entry.delete();
+            }
+        }
+    }
+
+    private File getEntryFile(final File file) {
+        final String pathHash = Hashing.sha256()
+                .hashString(file.getAbsolutePath(), StandardCharsets.UTF_8)
+                .toString();
+        return new File(cacheDirectory, pathHash + ENTRY_EXTENSION);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+
+import org.rf.ide.core.testdata.model.FilePosition;
+
+/**
+ * File positions are reset to not set state when deserialized (see {@link FilePosition}) since
+ * serialization is mainly used for copying elements. Whole parsed outputs have to keep them, so
+ * positions are written using different objects and tokens are read using stream which keeps their
+ * positions.
+ */
+final class RobotFileOutputSerialization {
+
+    private RobotFileOutputSerialization() {
+        // utility class
+    }
+
+    static ObjectOutputStream createOutputStream(final OutputStream output) throws IOException {
+        return new PositionsKeepingOutputStream(output);
+    }
+
+    static ObjectInputStream createInputStream(final InputStream input) throws IOException {
+        return new PositionsResolvingInputStream(input);
+    }
+
+    private static class PositionsKeepingOutputStream extends ObjectOutputStream {
+
+        PositionsKeepingOutputStream(final OutputStream output) throws IOException {
+            super(output);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(final Object object) throws IOException {
+            if (object instanceof FilePosition) {
+                final FilePosition position = (FilePosition) object;
+                return new StoredFilePosition(position.getLine(), position.getColumn(), position.getOffset());
+            }
+            return object;
+        }
+    }
+
+    private static class PositionsResolvingInputStream extends ObjectInputStream
+            implements FilePosition.PositionsKeepingInput {
+
+        PositionsResolvingInputStream(final InputStream input) throws IOException {
+            super(input);
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected Object resolveObject(final Object object) throws IOException {
+            if (object instanceof StoredFilePosition) {
+                final StoredFilePosition position = (StoredFilePosition) object;
+                return new FilePosition(position.line, position.column, position.offset);
+            }
+            return object;
+        }
+    }
+
+    private static class StoredFilePosition implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int line;
+
+        private final int column;
+
+        private final int offset;
+
+        StoredFilePosition(final int line, final int column, final int offset) {
+            this.line = line;
+            this.column = column;
+            this.offset = offset;
+        }
+    }
+}
@@ -9,7 +9,11 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 import org.rf.ide.core.project.ImportSearchPaths.PathsProvider;
 import org.rf.ide.core.testdata.importer.ResourceImporter;
@@ -24,6 +28,8 @@ import org.rf.ide.core.testdata.model.RobotVersion;
 import org.rf.ide.core.testdata.text.read.TsvRobotFileParser;
 import org.rf.ide.core.testdata.text.read.TxtRobotFileParser;
 
+import com.google.common.hash.HashCode;
+
 public class RobotParser {
 
     private static final int MAX_NUMBER_OF_TRASH_LINES = 5000;
@@ -135,12 +141,69 @@ public class RobotParser {
         return robotFile;
     }
 
+    /**
+     * Should be used for unsaved editor content which was already parsed into given output. When
+     * the change is placed inside test case or keyword table only the changed block is parsed
+     * again and spliced into given output, otherwise nothing is done and whole content has to be
+     * parsed with {@link #parseEditorContent(String, File)}. Given output is modified in place, so
+     * it cannot be read by other threads at the same time.
+     *
+     * @param previousOutput
+     *            output of previous parsing which will be updated
+     * @param fileContent
+     *            content after the change
+     * @param fileOrDir
+     * @param changeOffset
+     *            offset at which content was changed
+     * @param removedLength
+     *            length of content removed at given offset
+     * @param insertedLength
+     *            length of content inserted at given offset
+     * @return true if given output was updated to describe new content
+     */
+    public boolean reparseEditorContent(final RobotFileOutput previousOutput, final String fileContent,
+            final File fileOrDir, final int changeOffset, final int removedLength, final int insertedLength) {
+        final IRobotFileParser parserToUse = getParser(fileOrDir, true);
+        if (parserToUse == null || fileContent == null) {
+            return false;
+        }
+        return new ExecutableBlockReparser(parserToUse).reparse(previousOutput, fileContent, changeOffset,
+                removedLength, insertedLength);
+    }
+
     public List<RobotFileOutput> parse(final File fileOrDir) {
         final List<RobotFileOutput> output = new ArrayList<>();
         parse(fileOrDir, output);
         return output;
     }
 
+    /**
+     * Parses given file or directory in the same way as {@link #parse(File)}, but independent
+     * files are parsed concurrently using given pool. When importing eagerly each imported
+     * resource is parsed only once and the same output is shared by all importing files.
+     * 
+     * @param fileOrDir
+     * @param pool
+     *            pool in which files will be parsed
+     * @return
+     */
+    public List<RobotFileOutput> parseInParallel(final File fileOrDir, final ForkJoinPool pool) {
+        return new ParallelProjectParser(this, robotProject, pathsProvider, pool).parse(fileOrDir);
+    }
+
+    /**
+     * Parses given files or directories in the same way as {@link #parseInParallel(File, ForkJoinPool)}.
+     * Resources imported by them are parsed as well, even when not given.
+     * 
+     * @param filesOrDirs
+     * @param pool
+     *            pool in which files will be parsed
+     * @return
+     */
+    public List<RobotFileOutput> parseInParallel(final Collection<File> filesOrDirs, final ForkJoinPool pool) {
+        return new ParallelProjectParser(this, robotProject, pathsProvider, pool).parse(filesOrDirs);
+    }
+
     private void parse(final File fileOrDir, final List<RobotFileOutput> output) {
         if (fileOrDir != null) {
             final boolean isDir = fileOrDir.isDirectory();
@@ -157,25 +220,11 @@ public class RobotParser {
                     // information
                 }
             } else if (robotProject.shouldBeLoaded(fileOrDir)) {
-                final IRobotFileParser parserToUse = getParser(fileOrDir, false);
-
-                if (parserToUse != null) {
-                    final RobotFileOutput robotFile = new RobotFileOutput(robotVersion);
+                final RobotFileOutput robotFile = parseWithoutImports(fileOrDir);
+                if (robotFile != null) {
                     output.add(robotFile);
-
-                    // do not change order !!! for performance reason is better
-                    // to execute importing of variables before add to model,
-                    // which replace previous object
-                    parserToUse.parse(robotFile, fileOrDir);
-                    robotProject.addModelFile(robotFile);
-
-                    final RobotFile fileModel = robotFile.getFileModel();
-                    if (fileModel.containsAnyRobotSection()) {
+                    if (robotFile.getFileModel().containsAnyRobotSection()) {
                         importExternal(robotFile);
-                    } else {
-                        if (fileModel.getFileContent().size() > MAX_NUMBER_OF_TRASH_LINES) {
-                            fileModel.removeLines();
-                        }
                     }
                 }
             } else {
@@ -187,12 +236,60 @@ public class RobotParser {
         }
     }
 
+    /**
+     * Parses given file and places it in project holder, but does not import any external
+     * dependencies.
+     * 
+     * @param file
+     * @return parsed output or null if file cannot be parsed
+     */
+    RobotFileOutput parseWithoutImports(final File file) {
+        final IRobotFileParser parserToUse = getParser(file, false);
+        if (parserToUse == null) {
+            return null;
+        }
+        final Optional<RobotFileOutputCache> cache = robotProject.getParsedFilesCache();
+        final Optional<HashCode> contentHash = cache.isPresent() ? RobotFileOutputCache.hashContent(file)
+                : Optional.<HashCode> empty();
+        final Optional<RobotFileOutput> cachedFile = contentHash.isPresent()
+                ? cache.get().load(file, contentHash.get(), robotVersion) : Optional.<RobotFileOutput> empty();
+        if (cachedFile.isPresent()) {
+            robotProject.addModelFile(cachedFile.get());
+            return cachedFile.get();
+        }
+
+        final RobotFileOutput robotFile = new RobotFileOutput(robotVersion);
+
+        // do not change order !!! for performance reason is better
+        // to execute importing of variables before add to model,
+        // which replace previous object
+        parserToUse.parse(robotFile, file);
+
+        final RobotFile fileModel = robotFile.getFileModel();
+        if (!fileModel.containsAnyRobotSection() && fileModel.getFileContent().size() > MAX_NUMBER_OF_TRASH_LINES) {
+            fileModel.removeLines();
+        }
+        if (contentHash.isPresent()) {
+            cache.get().store(robotFile, contentHash.get());
+        }
+        robotProject.addModelFile(robotFile);
+        return robotFile;
+    }
+
     private void importExternal(final RobotFileOutput robotFile) {
+        importExternal(robotFile, null);
+    }
+
+    void importExternal(final RobotFileOutput robotFile, final Function<File, List<RobotFileOutput>> resourcesProvider) {
         if (robotFile.getStatus() == Status.PASSED) {
             if (parserCfg.isEagerImportOn()) {
                 // eager get resources example
                 final ResourceImporter resImporter = new ResourceImporter(this);
-                resImporter.importResources(pathsProvider, robotProject, robotFile);
+                if (resourcesProvider == null) {
+                    resImporter.importResources(pathsProvider, robotProject, robotFile);
+                } else {
+                    resImporter.importResources(pathsProvider, robotProject, robotFile, resourcesProvider);
+                }
             }
 
             if (parserCfg.shouldImportVariables()) {
@@ -200,6 +297,7 @@ public class RobotParser {
                 final List<VariablesFileImportReference> varsImported = varImporter
                         .importVariables(pathsProvider, robotProject, robotFile);
                 robotFile.setVariablesImportReferences(varsImported);
+                robotProject.indexVariablesImports(robotFile);
             }
         }
     }
@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import org.rf.ide.core.project.ImportSearchPaths.PathsProvider;
 import org.rf.ide.core.testdata.RobotParser;
@@ -35,6 +36,23 @@ public class ResourceImporter {
 
     public List<ResourceImportReference> importResources(final PathsProvider pathsProvider,
             final RobotProjectHolder robotProject, final RobotFileOutput robotFile) {
+        return importResources(pathsProvider, robotProject, robotFile, parser::parse);
+    }
+
+    /**
+     * Imports resources of given file, where imported files are provided by given function instead
+     * of being always parsed. It allows to link files which were parsed earlier.
+     * 
+     * @param pathsProvider
+     * @param robotProject
+     * @param robotFile
+     * @param resourcesProvider
+     *            provides parsed outputs of imported file
+     * @return
+     */
+    public List<ResourceImportReference> importResources(final PathsProvider pathsProvider,
+            final RobotProjectHolder robotProject, final RobotFileOutput robotFile,
+            final Function<File, List<RobotFileOutput>> resourcesProvider) {
 
         final SettingTable settingTable = robotFile.getFileModel().getSettingTable();
         if (!settingTable.isPresent()) {
@@ -49,7 +67,7 @@ public class ResourceImporter {
 
             try {
                 final Optional<ResourceImportReference> importRef = createImportReference(imported, importingFile,
-                        pathsProvider, variableMappings);
+                        pathsProvider, variableMappings, resourcesProvider);
                 if (importRef.isPresent()) {
                     importedReferences.add(importRef.get());
                 }
@@ -61,30 +79,46 @@ public class ResourceImporter {
         return importedReferences;
     }
 
-    private Optional<ResourceImportReference> createImportReference(final AImported imported, final File importingFile,
-            final PathsProvider pathsProvider, final Map<String, String> variableMappings) {
+    /**
+     * Finds files imported as resources by given file without parsing them. Imports which cannot
+     * be resolved are omitted.
+     * 
+     * @param pathsProvider
+     * @param robotProject
+     * @param robotFile
+     * @return
+     */
+    public List<File> findResourceFiles(final PathsProvider pathsProvider, final RobotProjectHolder robotProject,
+            final RobotFileOutput robotFile) {
 
-        if (imported.getType() == Type.RESOURCE) {
-            final String path = imported.getPathOrName().getRaw();
+        final SettingTable settingTable = robotFile.getFileModel().getSettingTable();
+        if (!settingTable.isPresent()) {
+            return new ArrayList<>();
+        }
 
-            URI importUri = null;
-            try {
-                final Optional<URI> foundUri = uriFinder.find(pathsProvider, variableMappings, importingFile, path);
-                if (foundUri.isPresent()) {
-                    importUri = foundUri.get();
-                } else {
-                    throw new UnableToImportException(BuildMessage
-                            .createErrorMessage("Couldn't import resource file " + path, "" + importingFile));
-                }
+        final File importingFile = robotFile.getProcessedFile().getAbsoluteFile();
+        final Map<String, String> variableMappings = robotProject.getVariableMappings();
 
-            } catch (final Exception e) {
-                throw new UnableToImportException(BuildMessage.createErrorMessage(
-                        "Problem with importing resource file " + importingFile + " with error stack: " + e,
-                        "" + importingFile));
+        final List<File> resourceFiles = new ArrayList<>();
+        for (final AImported imported : settingTable.getImports()) {
+            if (imported.getType() == Type.RESOURCE) {
+                try {
+                    resourceFiles.add(findFileToImport(imported, importingFile, pathsProvider, variableMappings));
+                } catch (final UnableToImportException e) {
+                    // will be reported when resources are imported
+                }
             }
+        }
+        return resourceFiles;
+    }
 
-            final File toImport = new File(importUri);
-            final List<RobotFileOutput> parsed = parser.parse(toImport);
+    private Optional<ResourceImportReference> createImportReference(final AImported imported, final File importingFile,
+            final PathsProvider pathsProvider, final Map<String, String> variableMappings,
+            final Function<File, List<RobotFileOutput>> resourcesProvider) {
+
+        if (imported.getType() == Type.RESOURCE) {
+            final File toImport = findFileToImport(imported, importingFile, pathsProvider, variableMappings);
+            final List<RobotFileOutput> parsed = resourcesProvider.apply(toImport);
             if (parsed.isEmpty()) {
                 throw new UnableToImportException(
                         BuildMessage.createErrorMessage("Couldn't import resource file.", toImport.getAbsolutePath()));
@@ -95,6 +129,28 @@ public class ResourceImporter {
         return Optional.empty();
     }
 
+    private File findFileToImport(final AImported imported, final File importingFile,
+            final PathsProvider pathsProvider, final Map<String, String> variableMappings) {
+        final String path = imported.getPathOrName().getRaw();
+
+        URI importUri = null;
+        try {
+            final Optional<URI> foundUri = uriFinder.find(pathsProvider, variableMappings, importingFile, path);
+            if (foundUri.isPresent()) {
+                importUri = foundUri.get();
+            } else {
+                throw new UnableToImportException(BuildMessage
+                        .createErrorMessage("Couldn't import resource file " + path, "" + importingFile));
+            }
+
+        } catch (final Exception e) {
+            throw new UnableToImportException(BuildMessage.createErrorMessage(
+                    "Problem with importing resource file " + importingFile + " with error stack: " + e,
+                    "" + importingFile));
+        }
+        return new File(importUri);
+    }
+
     public void importDebugResource(final RobotFileOutput robotFile, final File toImport) {
         final List<RobotFileOutput> parsedFiles = parser.parse(toImport);
         if (parsedFiles.isEmpty()) {
@@ -5,6 +5,7 @@
  */
 package org.rf.ide.core.testdata.model;
 
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -14,7 +15,9 @@ import org.rf.ide.core.testdata.text.read.IRobotTokenType;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
 
-public abstract class AModelElement<T> implements IOptional, IChildElement<T> {
+public abstract class AModelElement<T> implements IOptional, IChildElement<T>, Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private T parent;
 
@@ -120,6 +120,15 @@ public class FilePosition implements Serializable {
         return createNotSet();
     }
 
+    /**
+     * Marks object input streams which keep positions of deserialized tokens. Positions are reset
+     * to not set state when tokens are read from any other stream, since serialization is mainly
+     * used for copying elements.
+     */
+    public interface PositionsKeepingInput {
+        // marker only
+    }
+
     public FilePosition copy() {
         return new FilePosition(getLine(), getColumn(), getOffset());
     }
@@ -5,7 +5,10 @@
  */
 package org.rf.ide.core.testdata.model;
 
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -21,24 +24,46 @@ import com.google.common.annotations.VisibleForTesting;
  * @author wypych
  */
 @Beta
-public class FileRegionCacher<T> {
+public class FileRegionCacher<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private final Set<IRegionCacheable<T>> cache = new LinkedHashSet<IRegionCacheable<T>>(0);
 
+    private transient volatile RegionsIndex<T> offsetsIndex;
+
+    private transient volatile RegionsIndex<T> linesIndex;
+
     public void register(final IRegionCacheable<T> newCacheable) {
         unregister(newCacheable);
         cache.add(newCacheable);
+        invalidate();
     }
 
     public void unregister(final IRegionCacheable<T> removeCacheable) {
         cache.remove(removeCacheable);
+        invalidate();
+    }
+
+    /**
+     * Drops regions index, so that it will be built again with next search. Has to be called when
+     * positions of already registered elements were changed.
+     */
+    public void invalidate() {
+        offsetsIndex = null;
+        linesIndex = null;
     }
 
     public List<IRegionCacheable<T>> findByLineNumber(final int lineNumber) {
         final List<IRegionCacheable<T>> inPosition = new ArrayList<IRegionCacheable<T>>(0);
 
         if (lineNumber > FilePosition.NOT_SET) {
-            for (final IRegionCacheable<T> cacheElement : cache) {
+            RegionsIndex<T> index = linesIndex;
+            if (index == null) {
+                index = RegionsIndex.create(cache, false);
+                linesIndex = index;
+            }
+            for (final IRegionCacheable<T> cacheElement : index.find(lineNumber)) {
                 if (isRegionContainsLine(cacheElement, lineNumber)) {
                     inPosition.add(cacheElement);
                 }
@@ -52,7 +77,12 @@ public class FileRegionCacher<T> {
         final List<IRegionCacheable<T>> inPosition = new ArrayList<IRegionCacheable<T>>(0);
 
         if (offset > FilePosition.NOT_SET) {
-            for (final IRegionCacheable<T> cacheElement : cache) {
+            RegionsIndex<T> index = offsetsIndex;
+            if (index == null) {
+                index = RegionsIndex.create(cache, true);
+                offsetsIndex = index;
+            }
+            for (final IRegionCacheable<T> cacheElement : index.find(offset)) {
                 if (isRegionContainsOffset(cacheElement, offset)) {
                     inPosition.add(cacheElement);
                 }
@@ -86,4 +116,96 @@ public class FileRegionCacher<T> {
 
         return false;
     }
+
+    /**
+     * Static interval tree over regions of all cached elements, kept as regions sorted by start
+     * with maximal region end of every implicit subtree. Elements are returned in registration
+     * order.
+     */
+    private static final class RegionsIndex<T> {
+
+        private final List<IRegionCacheable<T>> elements;
+
+        private final int[] starts;
+
+        private final int[] ends;
+
+        private final int[] maxEnds;
+
+        private final int[] elementIndexes;
+
+        private RegionsIndex(final List<IRegionCacheable<T>> elements, final int[] starts, final int[] ends,
+                final int[] elementIndexes) {
+            this.elements = elements;
+            this.starts = starts;
+            this.ends = ends;
+            this.elementIndexes = elementIndexes;
+            this.maxEnds = new int[starts.length];
+            computeMaxEnds(0, starts.length - 1);
+        }
+
+        private static <T> RegionsIndex<T> create(final Set<IRegionCacheable<T>> cache, final boolean byOffsets) {
+            final List<IRegionCacheable<T>> elements = new ArrayList<>(cache);
+            final List<long[]> regions = new ArrayList<>();
+            for (int i = 0; i < elements.size(); i++) {
+                for (final FileRegion region : elements.get(i).getContinuousRegions()) {
+                    final int start = byOffsets ? region.getStart().getOffset() : region.getStart().getLine();
+                    final int end = byOffsets ? region.getEnd().getOffset() : region.getEnd().getLine();
+                    if (start <= end) {
+                        regions.add(new long[] { start, end, i });
+                    }
+                }
+            }
+            final long[][] sorted = regions.toArray(new long[0][]);
+            Arrays.sort(sorted, (r1, r2) -> Long.compare(r1[0], r2[0]));
+
+            final int[] starts = new int[sorted.length];
+            final int[] ends = new int[sorted.length];
+            final int[] elementIndexes = new int[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                starts[i] = (int) sorted[i][0];
+                ends[i] = (int) sorted[i][1];
+                elementIndexes[i] = (int) sorted[i][2];
+            }
+            return new RegionsIndex<>(elements, starts, ends, elementIndexes);
+        }
+
+        private int computeMaxEnds(final int low, final int high) {
+            if (low > high) {
+                return Integer.MIN_VALUE;
+            }
+            final int middle = (low + high) >>> 1;
+            maxEnds[middle] = Math.max(ends[middle],
+                    Math.max(computeMaxEnds(low, middle - 1), computeMaxEnds(middle + 1, high)));
+            return maxEnds[middle];
+        }
+
+        private List<IRegionCacheable<T>> find(final int position) {
+            final BitSet found = new BitSet(elements.size());
+            find(position, 0, starts.length - 1, found);
+
+            final List<IRegionCacheable<T>> result = new ArrayList<>(found.cardinality());
+            for (int i = found.nextSetBit(0); i >= 0; i = found.nextSetBit(i + 1)) {
+                result.add(elements.get(i));
+            }
+            return result;
+        }
+
+        private void find(final int position, final int low, final int high, final BitSet found) {
+            if (low > high) {
+                return;
+            }
+            final int middle = (low + high) >>> 1;
+            if (maxEnds[middle] < position) {
+                return;
+            }
+            find(position, low, middle - 1, found);
+            if (starts[middle] <= position) {
+                if (position <= ends[middle]) {
+                    found.set(elementIndexes[middle]);
+                }
+                find(position, middle + 1, high, found);
+            }
+        }
+    }
 }
@@ -5,6 +5,7 @@
  */
 package org.rf.ide.core.testdata.model;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -20,7 +21,9 @@ import org.rf.ide.core.testdata.text.read.RobotLine;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
 
-public class RobotFile implements IChildElement<RobotFileOutput> {
+public class RobotFile implements IChildElement<RobotFileOutput>, Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private final RobotFileOutput parentFileOutput;
 
@@ -66,25 +69,56 @@ public class RobotFile implements IChildElement<RobotFileOutput> {
         this.fileContent.add(line);
     }
 
+    public void replaceLines(final int fromIndex, final int toIndex, final List<RobotLine> lines) {
+        final List<RobotLine> replacedLines = fileContent.subList(fromIndex, toIndex);
+        replacedLines.clear();
+        replacedLines.addAll(lines);
+    }
+
     public Optional<Integer> getRobotLineIndexBy(final int offset) {
-        Optional<Integer> foundLine = Optional.empty();
-        if (offset >= 0) {
-            final List<RobotLine> robotLines = getFileContent();
-            final int numberOfLines = robotLines.size();
-            for (int lineIndex = 0; lineIndex < numberOfLines; lineIndex++) {
-                final RobotLine line = robotLines.get(lineIndex);
-                final int eolStartOffset = line.getEndOfLine().getStartOffset();
-                final int start = (line.getLineElements().isEmpty()) ? eolStartOffset
-                        : line.getLineElements().get(0).getStartOffset();
-                final int end = eolStartOffset + line.getEndOfLine().getRaw().length();
-                if (start <= offset && offset < end) {
-                    foundLine = Optional.of(lineIndex);
-                    break;
-                }
+        if (offset < 0) {
+            return Optional.empty();
+        }
+        // lines are ordered by offsets, so binary search is used unless some line has no position
+        final List<RobotLine> robotLines = getFileContent();
+        int low = 0;
+        int high = robotLines.size() - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final RobotLine line = robotLines.get(middle);
+            final int start = lineStartOffset(line);
+            if (start < 0) {
+                return findRobotLineIndexByScanning(offset);
+            } else if (offset < start) {
+                high = middle - 1;
+            } else if (offset >= lineEndOffset(line)) {
+                low = middle + 1;
+            } else {
+                return Optional.of(middle);
             }
         }
+        return Optional.empty();
+    }
+
+    private Optional<Integer> findRobotLineIndexByScanning(final int offset) {
+        final List<RobotLine> robotLines = getFileContent();
+        final int numberOfLines = robotLines.size();
+        for (int lineIndex = 0; lineIndex < numberOfLines; lineIndex++) {
+            final RobotLine line = robotLines.get(lineIndex);
+            if (lineStartOffset(line) <= offset && offset < lineEndOffset(line)) {
+                return Optional.of(lineIndex);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static int lineStartOffset(final RobotLine line) {
+        return line.getLineElements().isEmpty() ? line.getEndOfLine().getStartOffset()
+                : line.getLineElements().get(0).getStartOffset();
+    }
 
-        return foundLine;
+    private static int lineEndOffset(final RobotLine line) {
+        return line.getEndOfLine().getStartOffset() + line.getEndOfLine().getRaw().length();
     }
 
     public SettingTable getSettingTable() {
@@ -7,6 +7,8 @@ package org.rf.ide.core.testdata.model;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -22,7 +24,9 @@ import org.rf.ide.core.testdata.text.read.IRobotTokenType;
 import org.rf.ide.core.testdata.text.read.RobotLine;
 import org.rf.ide.core.testdata.text.read.separators.TokenSeparatorBuilder.FileFormat;
 
-public class RobotFileOutput {
+public class RobotFileOutput implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     public static final long FILE_NOT_EXIST_EPOCH = 0;
 
@@ -34,9 +38,10 @@ public class RobotFileOutput {
 
     private long lastModificationEpoch = FILE_NOT_EXIST_EPOCH;
 
-    private final List<ResourceImportReference> resourceReferences = new ArrayList<>();
+    // references to other files are not serialized, they have to be imported again
+    private transient List<ResourceImportReference> resourceReferences = new ArrayList<>();
 
-    private List<VariablesFileImportReference> variablesReferenced = null;
+    private transient List<VariablesFileImportReference> variablesReferenced = null;
 
     private final List<BuildMessage> buildingMessages = new ArrayList<>();
 
@@ -52,6 +57,11 @@ public class RobotFileOutput {
         this.docCacher = new FileRegionCacher<>();
     }
 
+    private void readObject(final ObjectInputStream input) throws IOException, ClassNotFoundException {
+        input.defaultReadObject();
+        resourceReferences = new ArrayList<>();
+    }
+
     public String getFileLineSeparator() {
         String result = "";
 
@@ -157,6 +167,10 @@ public class RobotFileOutput {
         buildingMessages.add(msg);
     }
 
+    public void removeBuildMessage(final BuildMessage msg) {
+        buildingMessages.remove(msg);
+    }
+
     public void addResourceReferences(final List<ResourceImportReference> references) {
         for (final ResourceImportReference resourceImportReference : references) {
             addResourceReference(resourceImportReference);
@@ -217,11 +231,19 @@ public class RobotFileOutput {
             final List<VariablesFileImportReference> varsImported = new VariablesImporter()
                     .importVariables(pathsProvider, robotProject, this);
             variablesReferenced.addAll(varsImported);
+            robotProject.indexVariablesImports(this);
         }
         return Collections.unmodifiableList(variablesReferenced);
     }
 
-    public static class BuildMessage {
+    public Optional<List<VariablesFileImportReference>> getResolvedVariablesImportReferences() {
+        return variablesReferenced == null ? Optional.empty()
+                : Optional.of(Collections.unmodifiableList(variablesReferenced));
+    }
+
+    public static class BuildMessage implements Serializable {
+
+        private static final long serialVersionUID = 1L;
 
         private final LogLevel type;
 
@@ -10,15 +10,21 @@ import static com.google.common.collect.Maps.newHashMap;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.rf.ide.core.executor.RobotRuntimeEnvironment;
 import org.rf.ide.core.project.ImportSearchPaths.PathsProvider;
 import org.rf.ide.core.project.RobotProjectConfig;
 import org.rf.ide.core.project.RobotProjectConfig.VariableMapping;
+import org.rf.ide.core.testdata.RobotFileOutputCache;
 import org.rf.ide.core.testdata.imported.ARobotInternalVariable;
 import org.rf.ide.core.testdata.imported.DictionaryRobotInternalVariable;
 import org.rf.ide.core.testdata.imported.ListRobotInternalVariable;
@@ -35,7 +41,11 @@ public class RobotProjectHolder {
 
     private RobotProjectConfig currentConfiguration;
 
-    private final List<RobotFileOutput> readableProjectFiles = new ArrayList<>();
+    private final Map<String, RobotFileOutput> readableProjectFiles = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<RobotFileOutput>> filesByImportedVariablesPath = new ConcurrentHashMap<>();
+
+    private final Map<RobotFileOutput, Set<String>> importedVariablesPathsByFile = new ConcurrentHashMap<>();
 
     private final List<ARobotInternalVariable<?>> globalVariables = new ArrayList<>();
 
@@ -43,6 +53,8 @@ public class RobotProjectHolder {
 
     private List<File> modulesSearchPath;
 
+    private RobotFileOutputCache parsedFilesCache;
+
     @VisibleForTesting
     public RobotProjectHolder() {
         this.robotRuntime = null;
@@ -109,6 +121,20 @@ public class RobotProjectHolder {
         return modulesSearchPath;
     }
 
+    /**
+     * Sets the cache in which parsed files are stored, so that unchanged files do not have to be
+     * parsed again.
+     * 
+     * @param parsedFilesCache
+     */
+    public void setParsedFilesCache(final RobotFileOutputCache parsedFilesCache) {
+        this.parsedFilesCache = parsedFilesCache;
+    }
+
+    public Optional<RobotFileOutputCache> getParsedFilesCache() {
+        return Optional.ofNullable(parsedFilesCache);
+    }
+
     private List<ARobotInternalVariable<?>> map(final Map<String, Object> varsRead) {
         final List<ARobotInternalVariable<?>> variables = new ArrayList<>();
         for (final String varName : varsRead.keySet()) {
@@ -140,24 +166,31 @@ public class RobotProjectHolder {
         return map;
     }
 
-    public void addModelFile(final RobotFileOutput robotOutput) {
+    public synchronized void addModelFile(final RobotFileOutput robotOutput) {
         if (robotOutput != null) {
             final File processedFile = robotOutput.getProcessedFile();
             if (processedFile != null) {
-                final RobotFileOutput file = findFileByName(processedFile);
-                removeModelFile(file);
+                final RobotFileOutput previous = readableProjectFiles.put(processedFile.getAbsolutePath(),
+                        robotOutput);
+                if (previous != robotOutput) {
+                    unindexVariablesImports(previous);
+                }
+                indexVariablesImports(robotOutput);
             }
-
-            readableProjectFiles.add(robotOutput);
         }
     }
 
-    public void clearModelFiles() {
+    public synchronized void clearModelFiles() {
         readableProjectFiles.clear();
+        filesByImportedVariablesPath.clear();
+        importedVariablesPathsByFile.clear();
     }
 
-    public void removeModelFile(final RobotFileOutput robotOutput) {
-        readableProjectFiles.remove(robotOutput);
+    public synchronized void removeModelFile(final RobotFileOutput robotOutput) {
+        if (robotOutput != null && robotOutput.getProcessedFile() != null
+                && readableProjectFiles.remove(robotOutput.getProcessedFile().getAbsolutePath(), robotOutput)) {
+            unindexVariablesImports(robotOutput);
+        }
     }
 
     public void addImportedResources(final List<ResourceImportReference> referenced) {
@@ -167,7 +200,7 @@ public class RobotProjectHolder {
     }
 
     public void addImportedResource(final ResourceImportReference referenced) {
-        readableProjectFiles.add(referenced.getReference());
+        addModelFile(referenced.getReference());
     }
 
     public boolean shouldBeLoaded(final RobotFileOutput robotOutput) {
@@ -175,98 +208,64 @@ public class RobotProjectHolder {
     }
 
     public boolean shouldBeLoaded(final File file) {
-        final RobotFileOutput foundFile = findFileByName(file);
+        final RobotFileOutput foundFile = readableProjectFiles.get(file.getAbsolutePath());
         return (foundFile == null) || (file.lastModified() != foundFile.getLastModificationEpochTime());
     }
 
+    /**
+     * Finds already loaded files, which variables imports were resolved and which are importing
+     * given variables file.
+     * 
+     * @param pathsProvider
+     * @param variableFile
+     * @return
+     */
     public List<RobotFileOutput> findFilesWithImportedVariableFile(final PathsProvider pathsProvider,
             final File variableFile) {
-        final List<RobotFileOutput> found = new ArrayList<>();
-        final List<Integer> foundFiles = findFile(new SearchByVariablesImport(pathsProvider, variableFile));
-        for (final Integer fileId : foundFiles) {
-            found.add(readableProjectFiles.get(fileId));
-        }
-
-        return found;
-    }
-
-    private class SearchByVariablesImport implements ISearchCriteria {
-
-        private final File toFound;
-
-        private final PathsProvider pathsProvider;
-
-        public SearchByVariablesImport(final PathsProvider pathsProvider, final File toFound) {
-            this.pathsProvider = pathsProvider;
-            this.toFound = toFound;
-        }
-
-        @Override
-        public boolean matchCriteria(final RobotFileOutput robotFile) {
-            boolean matchResult = false;
-            if (robotFile != null) {
-                final List<VariablesFileImportReference> varImports = robotFile
-                        .getVariablesImportReferences(RobotProjectHolder.this, pathsProvider);
-                for (final VariablesFileImportReference variablesFileImportReference : varImports) {
-                    if (variablesFileImportReference.getVariablesFile()
-                            .getAbsolutePath()
-                            .equals(toFound.getAbsolutePath())) {
-                        matchResult = true;
-                        break;
-                    }
-                }
-            }
-
-            return matchResult;
-        }
-
+        final Set<RobotFileOutput> found = filesByImportedVariablesPath.get(variableFile.getAbsolutePath());
+        return found == null ? new ArrayList<RobotFileOutput>() : new ArrayList<>(found);
     }
 
     public RobotFileOutput findFileByName(final File file) {
-        RobotFileOutput found = null;
-        final List<Integer> findFile = findFile(new SearchByName(file));
-        if (!findFile.isEmpty()) {
-            found = readableProjectFiles.get(findFile.get(0));
-        }
-
-        return found;
+        return readableProjectFiles.get(file.getAbsolutePath());
     }
 
-    private class SearchByName implements ISearchCriteria {
-
-        private final File toFound;
-
-        public SearchByName(final File toFound) {
-            this.toFound = toFound;
+    /**
+     * Should be called when variables imports of given file were resolved, so that the file is
+     * returned by {@link #findFilesWithImportedVariableFile(PathsProvider, File)} afterwards.
+     * 
+     * @param robotOutput
+     */
+    public synchronized void indexVariablesImports(final RobotFileOutput robotOutput) {
+        final Optional<List<VariablesFileImportReference>> references = robotOutput
+                .getResolvedVariablesImportReferences();
+        if (!references.isPresent() || robotOutput.getProcessedFile() == null
+                || readableProjectFiles.get(robotOutput.getProcessedFile().getAbsolutePath()) != robotOutput) {
+            return;
         }
+        unindexVariablesImports(robotOutput);
 
-        @Override
-        public boolean matchCriteria(final RobotFileOutput robotFile) {
-            boolean result = false;
-            if (robotFile != null && robotFile.getProcessedFile() != null) {
-                result = robotFile.getProcessedFile().getAbsolutePath().equals(toFound.getAbsolutePath());
-            }
-
-            return result;
+        final Set<String> paths = new HashSet<>();
+        for (final VariablesFileImportReference reference : references.get()) {
+            paths.add(reference.getVariablesFile().getAbsolutePath());
+        }
+        importedVariablesPathsByFile.put(robotOutput, paths);
+        for (final String path : paths) {
+            filesByImportedVariablesPath
+                    .computeIfAbsent(path, p -> Collections.newSetFromMap(new ConcurrentHashMap<>()))
+                    .add(robotOutput);
         }
     }
 
-    protected List<Integer> findFile(final ISearchCriteria criteria) {
-        final List<Integer> foundFiles = new ArrayList<>();
-        final int size = readableProjectFiles.size();
-        for (int i = 0; i < size; i++) {
-            final RobotFileOutput robotFile = readableProjectFiles.get(i);
-            if (criteria.matchCriteria(robotFile)) {
-                foundFiles.add(i);
-                break;
+    private void unindexVariablesImports(final RobotFileOutput robotOutput) {
+        final Set<String> paths = robotOutput == null ? null : importedVariablesPathsByFile.remove(robotOutput);
+        if (paths != null) {
+            for (final String path : paths) {
+                final Set<RobotFileOutput> importers = filesByImportedVariablesPath.get(path);
+                if (importers != null) {
+                    importers.remove(robotOutput);
+                }
             }
         }
-
-        return foundFiles;
-    }
-
-    protected interface ISearchCriteria {
-
-        boolean matchCriteria(final RobotFileOutput robotFile);
     }
 }
@@ -5,12 +5,15 @@
  */
 package org.rf.ide.core.testdata.model;
 
+import java.io.Serializable;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-public final class RobotVersion implements Comparable<RobotVersion> {
+public final class RobotVersion implements Comparable<RobotVersion>, Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     public static final RobotVersion UNKNOWN = new RobotVersion(-1, -1);
 
@@ -125,9 +128,37 @@ public final class RobotVersion implements Comparable<RobotVersion> {
         return Objects.hash(major, minor, patch);
     }
 
+    private Object writeReplace() {
+        return new SerializedForm(major, minor, patch.orElse(null));
+    }
+
     @Override
     public String toString() {
         return String.format(getClass().getName() + "[major=%s, minor=%s, patch=%s]", this.major, this.minor,
                 this.patch);
     }
+
+    private static class SerializedForm implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int major;
+
+        private final int minor;
+
+        private final Integer patch;
+
+        SerializedForm(final int major, final int minor, final Integer patch) {
+            this.major = major;
+            this.minor = minor;
+            this.patch = patch;
+        }
+
+        private Object readResolve() {
+            if (major == UNKNOWN.major && minor == UNKNOWN.minor && patch == null) {
+                return UNKNOWN;
+            }
+            return patch == null ? new RobotVersion(major, minor) : new RobotVersion(major, minor, patch);
+        }
+    }
 }
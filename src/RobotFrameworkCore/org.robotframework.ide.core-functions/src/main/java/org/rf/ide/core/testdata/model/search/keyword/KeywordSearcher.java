@@ -90,6 +90,9 @@ public class KeywordSearcher {
             for (String nameCombination : possibleNameCombination) {
                 if (!isEmbeddedKeywordName) {
                     nameCombination = QualifiedKeywordName.unifyDefinition(nameCombination);
+                } else if (!EmbeddedKeywordNamesSupport.mayMatchIgnoreCase(keywordName, nameCombination)) {
+                    // fixed texts of definition are missing, so no prefixed name could match
+                    continue;
                 }
 
                 if (matchNameDirectlyOrAsEmbeddedName(foundByMatch, keyword, keywordName, null, isEmbeddedKeywordName,
@@ -164,7 +167,15 @@ public class KeywordSearcher {
         return Files.getNameWithoutExtension(fullFileName);
     }
 
-    private List<String> getNamesToCheck(final String usageName) {
+    /**
+     * Returns names which are matched against keyword definitions when keyword is used with given
+     * name: the name itself and names without Gherkin prefixes or library/resource prefixes,
+     * starting from the longest one.
+     * 
+     * @param usageName
+     * @return
+     */
+    public List<String> getNamesToCheck(final String usageName) {
         final List<String> possibleNameCombination = new ArrayList<>(possibleNameCombination(usageName));
         Collections.sort(possibleNameCombination, new FromLongestLengthComparator());
 
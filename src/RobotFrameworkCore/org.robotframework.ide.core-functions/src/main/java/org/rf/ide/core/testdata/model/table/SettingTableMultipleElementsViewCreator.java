@@ -5,6 +5,7 @@
  */
 package org.rf.ide.core.testdata.model.table;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,7 +26,9 @@ import org.rf.ide.core.testdata.model.table.setting.views.TestSetupView;
 import org.rf.ide.core.testdata.model.table.setting.views.TestTeardownView;
 import org.rf.ide.core.testdata.model.table.setting.views.TestTimeoutView;
 
-public class SettingTableMultipleElementsViewCreator {
+public class SettingTableMultipleElementsViewCreator implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     public Optional<SuiteDocumentation> createViewAboutSuiteDoc(final List<SuiteDocumentation> docs) {
         Optional<SuiteDocumentation> doc = Optional.empty();
@@ -155,6 +155,10 @@ public class KeywordDocumentation extends AModelElement<UserKeyword>
     }
 
     private Object readResolve() throws ObjectStreamException {
+        if (!text.isEmpty() && !text.get(0).getFilePosition().isNotSet()) {
+            // positions are kept only when whole parsed file was stored, so nothing to fix
+            return this;
+        }
         // done during serialization, problems may occur when multiple tokens are in the same line
         int docSize = text.size();
         for (int i = 1; i < (docSize * 2 - 1); i += 2) {
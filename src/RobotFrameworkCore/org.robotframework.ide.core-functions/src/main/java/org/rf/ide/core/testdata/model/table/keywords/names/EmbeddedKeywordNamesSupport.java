@@ -5,11 +5,16 @@
  */
 package org.rf.ide.core.testdata.model.table.keywords.names;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Function;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.Range;
 import com.google.common.collect.RangeSet;
 import com.google.common.collect.TreeRangeSet;
@@ -19,6 +24,18 @@ import com.google.common.collect.TreeRangeSet;
  */
 public class EmbeddedKeywordNamesSupport {
 
+    private static final int MAX_CACHED_MATCHERS = 10_000;
+
+    private static final LoadingCache<String, EmbeddedNameMatcher> MATCHERS = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_MATCHERS)
+            .build(new CacheLoader<String, EmbeddedNameMatcher>() {
+
+                @Override
+                public EmbeddedNameMatcher load(final String definitionName) {
+                    return EmbeddedNameMatcher.compile(definitionName);
+                }
+            });
+
     public static boolean hasEmbeddedArguments(final String definitionName) {
         return !findEmbeddedArgumentsRanges(definitionName).isEmpty();
     }
@@ -63,15 +80,27 @@ public class EmbeddedKeywordNamesSupport {
             return false;
         }
 
-        final String regex = "^" + substituteVariablesWithRegex(definitionName, true) + "$";
-        try {
-            return Pattern.matches(regex, occurrenceName.toLowerCase());
-        } catch (final PatternSyntaxException e) {
-            return false;
+        return MATCHERS.getUnchecked(definitionName).matches(occurrenceName.toLowerCase());
+    }
+
+    /**
+     * Quick check which does not use regular expressions: returns false when fixed texts of given
+     * definition do not occur in given name, so that it is not able to match the definition even
+     * after prefixing it with library or resource name.
+     *
+     * @param definitionName
+     * @param occurrenceName
+     * @return
+     */
+    public static boolean mayMatchIgnoreCase(final String definitionName, final String occurrenceName) {
+        if (definitionName.indexOf('$') == -1) {
+            return true;
         }
+        return MATCHERS.getUnchecked(definitionName).containsLiterals(occurrenceName.toLowerCase());
     }
 
-    private static String substituteVariablesWithRegex(final String definitionName, final boolean ignoreCase) {
+    private static String substituteVariablesWithRegex(final String definitionName, final boolean ignoreCase,
+            final List<String> literals) {
         final StringBuilder wholeRegex = new StringBuilder();
 
         final RangeSet<Integer> varRanges = findEmbeddedArgumentsRanges(definitionName);
@@ -82,7 +111,9 @@ public class EmbeddedKeywordNamesSupport {
             if (varRanges.contains(i)) {
                 if (exactWordPatternRegex.length() > 0) {
                     final String exactWordPattern = exactWordPatternRegex.toString();
-                    wholeRegex.append(Pattern.quote(ignoreCase ? exactWordPattern.toLowerCase() : exactWordPattern));
+                    final String literal = ignoreCase ? exactWordPattern.toLowerCase() : exactWordPattern;
+                    wholeRegex.append(Pattern.quote(literal));
+                    literals.add(literal);
                     exactWordPatternRegex = new StringBuilder();
                 }
 
@@ -97,7 +128,9 @@ public class EmbeddedKeywordNamesSupport {
         }
         if (exactWordPatternRegex.length() > 0) {
             final String exactWordPattern = exactWordPatternRegex.toString();
-            wholeRegex.append(Pattern.quote(ignoreCase ? exactWordPattern.toLowerCase() : exactWordPattern));
+            final String literal = ignoreCase ? exactWordPattern.toLowerCase() : exactWordPattern;
+            wholeRegex.append(Pattern.quote(literal));
+            literals.add(literal);
         }
         return wholeRegex.toString();
     }
@@ -190,6 +223,49 @@ public class EmbeddedKeywordNamesSupport {
         return variable.indexOf(':') != -1 ? variable.substring(0, variable.indexOf(':')) + "}" : variable;
     }
 
+    /**
+     * Compiled form of definition name with embedded arguments. Fixed texts of definition are
+     * checked before matching the pattern, which is much slower.
+     */
+    private static class EmbeddedNameMatcher {
+
+        private final Pattern pattern;
+
+        private final List<String> literals;
+
+        private EmbeddedNameMatcher(final Pattern pattern, final List<String> literals) {
+            this.pattern = pattern;
+            this.literals = literals;
+        }
+
+        static EmbeddedNameMatcher compile(final String definitionName) {
+            final List<String> literals = new ArrayList<>();
+            final String regex = substituteVariablesWithRegex(definitionName, true, literals);
+            try {
+                return new EmbeddedNameMatcher(Pattern.compile(regex), literals);
+            } catch (final PatternSyntaxException e) {
+                return new EmbeddedNameMatcher(null, literals);
+            }
+        }
+
+        boolean matches(final String lowerCaseOccurrenceName) {
+            return pattern != null && containsLiterals(lowerCaseOccurrenceName)
+                    && pattern.matcher(lowerCaseOccurrenceName).matches();
+        }
+
+        boolean containsLiterals(final String lowerCaseOccurrenceName) {
+            int index = 0;
+            for (final String literal : literals) {
+                index = lowerCaseOccurrenceName.indexOf(literal, index);
+                if (index == -1) {
+                    return false;
+                }
+                index += literal.length();
+            }
+            return true;
+        }
+    }
+
     private interface KeywordDfaState {
 
         static final int START_STATE = 0;
@@ -58,6 +58,7 @@ import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
 import org.rf.ide.core.testdata.text.read.recognizer.SettingsRecognizersProvider;
 import org.rf.ide.core.testdata.text.read.recognizer.TestCaseRecognizersProvider;
+import org.rf.ide.core.testdata.text.read.recognizer.TokenRecognizersFilter;
 import org.rf.ide.core.testdata.text.read.recognizer.UserKeywordRecognizersProvider;
 import org.rf.ide.core.testdata.text.read.recognizer.VariablesDeclarationRecognizersProvider;
 import org.rf.ide.core.testdata.text.read.separators.ALineSeparator;
@@ -71,6 +72,8 @@ public abstract class ATextualRobotFileParser implements IRobotFileParser {
 
     private final List<ATokenRecognizer> recognized = new ArrayList<>();
 
+    private final TokenRecognizersFilter recognizersFilter;
+
     private final List<IParsingMapper> mappers = new ArrayList<>();
 
     private final List<IParsingMapper> unknownTableElementsMapper = new ArrayList<>();
@@ -111,6 +114,7 @@ public abstract class ATextualRobotFileParser implements IRobotFileParser {
         recognized.addAll(new VariablesDeclarationRecognizersProvider().getRecognizers());
         recognized.addAll(new TestCaseRecognizersProvider().getRecognizers());
         recognized.addAll(new UserKeywordRecognizersProvider().getRecognizers());
+        recognizersFilter = new TokenRecognizersFilter(recognized);
 
         mappers.addAll(new SettingsMapperProvider().getMappers());
         mappers.addAll(new VariablesDeclarationMapperProvider().getMappers());
@@ -589,9 +593,13 @@ public abstract class ATextualRobotFileParser implements IRobotFileParser {
     @VisibleForTesting
     protected List<RobotToken> recognize(final FilePosition fp, final String text) {
         final List<RobotToken> possibleRobotTokens = new ArrayList<>();
-        final StringBuilder sb = new StringBuilder(text);
-        for (final ATokenRecognizer rec : recognized) {
-            if (rec.hasNext(sb, fp.getLine(), fp.getColumn())) {
+        final long candidates = recognizersFilter.findCandidates(text);
+        for (int i = 0; i < recognized.size(); i++) {
+            if (!TokenRecognizersFilter.isCandidate(candidates, i)) {
+                continue;
+            }
+            final ATokenRecognizer rec = recognized.get(i);
+            if (rec.hasNext(text, fp.getLine(), fp.getColumn())) {
                 final RobotToken t = rec.next();
                 t.setStartColumn(t.getStartColumn() + fp.getColumn());
                 possibleRobotTokens.add(t);
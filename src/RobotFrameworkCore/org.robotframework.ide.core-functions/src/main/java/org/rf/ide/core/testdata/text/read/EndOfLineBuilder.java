@@ -5,6 +5,7 @@
  */
 package org.rf.ide.core.testdata.text.read;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -141,7 +142,9 @@ public class EndOfLineBuilder {
 
     }
 
-    private static abstract class AEndOfLine implements IRobotLineElement {
+    private static abstract class AEndOfLine implements IRobotLineElement, Serializable {
+
+    private static final long serialVersionUID = 1L;
 
         private final int lineNumber;
 
@@ -7,6 +7,7 @@ package org.rf.ide.core.testdata.text.read;
 
 import static com.google.common.collect.Iterables.filter;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -19,7 +20,9 @@ import org.rf.ide.core.testdata.text.read.separators.Separator.SeparatorType;
 
 import com.google.common.collect.ImmutableList;
 
-public class RobotLine implements IChildElement<RobotFile> {
+public class RobotLine implements IChildElement<RobotFile>, Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private final RobotFile parent;
 
@@ -27,7 +30,7 @@ public class RobotLine implements IChildElement<RobotFile> {
 
     private List<IRobotLineElement> lineElements = new ArrayList<>(0);
 
-    private Optional<SeparatorType> separatorForLine = Optional.empty();
+    private SeparatorType separatorForLine;
 
     private IRobotLineElement eol = EndOfLineBuilder.newInstance()
             .setEndOfLines(null)
@@ -42,11 +45,11 @@ public class RobotLine implements IChildElement<RobotFile> {
     }
 
     public void setSeparatorType(final SeparatorType separatorForLine) {
-        this.separatorForLine = Optional.ofNullable(separatorForLine);
+        this.separatorForLine = separatorForLine;
     }
 
     public Optional<SeparatorType> getSeparatorForLine() {
-        return separatorForLine;
+        return Optional.ofNullable(separatorForLine);
     }
 
     @Override
@@ -138,6 +141,10 @@ public class RobotLine implements IChildElement<RobotFile> {
         return lineNumber;
     }
 
+    public void setLineNumber(final int lineNumber) {
+        this.lineNumber = lineNumber;
+    }
+
     public IRobotLineElement getEndOfLine() {
         return this.eol;
     }
@@ -65,6 +65,18 @@ public abstract class ATokenRecognizer {
         return type;
     }
 
+    /**
+     * Returns lower-cased text which has to be contained in the text in order to be recognized
+     * by this recognizer or null if recognizer has to be always tried. Note that patterns created
+     * with {@link #createUpperLowerCaseWord(String)} are also matching pipe character in place of
+     * each letter.
+     * 
+     * @return
+     */
+    public String getRequiredLowerCaseText() {
+        return null;
+    }
+
     public static String createUpperLowerCaseWordWithOptionalSpaceInside(final String text) {
         return createUpperLowerCaseWordWithPatternBetweenLetters(text, "[\\s]?");
     }
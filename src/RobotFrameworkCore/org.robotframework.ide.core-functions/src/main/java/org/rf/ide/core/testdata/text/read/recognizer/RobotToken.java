@@ -5,6 +5,8 @@
  */
 package org.rf.ide.core.testdata.text.read.recognizer;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -18,15 +20,23 @@ import org.rf.ide.core.testdata.text.read.VersionAvailabilityInfo;
 
 public class RobotToken implements IRobotLineElement, Serializable {
 
-    private static final long serialVersionUID = -7333635148571215189L;
+    private static final long serialVersionUID = 4416417880146525341L;
 
-    private FilePosition fp = new FilePosition(NOT_SET, NOT_SET, NOT_SET);
+    // position is kept in primitive fields, as parser sets each of them separately for every token
+    private int lineNumber = NOT_SET;
+
+    private int startColumn = NOT_SET;
+
+    private int startOffset = NOT_SET;
+
+    // built lazily from the fields above and dropped whenever any of them changes
+    private transient FilePosition filePosition;
 
     private String raw = "";
 
     private String text = "";
 
-    private final List<IRobotTokenType> types = new ArrayList<>(0);
+    private final List<IRobotTokenType> types = new TokenTypesList(RobotTokenType.UNKNOWN);
 
     private boolean isDirty = false;
 
@@ -47,34 +57,43 @@ public class RobotToken implements IRobotLineElement, Serializable {
         return token;
     }
 
-    public RobotToken() {
-        types.add(RobotTokenType.UNKNOWN);
+    private void readObject(final ObjectInputStream input) throws IOException, ClassNotFoundException {
+        input.defaultReadObject();
+        if (!(input instanceof FilePosition.PositionsKeepingInput)) {
+            // we want position to be NOT_SET when deserializing, the same as for FilePosition
+            lineNumber = NOT_SET;
+            startColumn = NOT_SET;
+            startOffset = NOT_SET;
+        }
+        filePosition = null;
     }
 
     @Override
     public int getLineNumber() {
-        return fp.getLine();
+        return lineNumber;
     }
 
     public void setLineNumber(final int lineNumber) {
-        fp = new FilePosition(lineNumber, fp.getColumn(), fp.getOffset());
+        this.lineNumber = lineNumber;
+        this.filePosition = null;
     }
 
     @Override
     public int getStartColumn() {
-        return fp.getColumn();
+        return startColumn;
     }
 
     public void setStartColumn(final int startColumn) {
-        fp = new FilePosition(fp.getLine(), startColumn, fp.getOffset());
+        this.startColumn = startColumn;
+        this.filePosition = null;
     }
 
     @Override
     public int getEndColumn() {
         int endColumn = NOT_SET;
 
-        if (fp.getColumn() != NOT_SET) {
-            endColumn = fp.getColumn() + text.length();
+        if (startColumn != NOT_SET) {
+            endColumn = startColumn + text.length();
         }
 
         return endColumn;
@@ -85,12 +104,13 @@ public class RobotToken implements IRobotLineElement, Serializable {
     }
 
     public void setStartOffset(final int startOffset) {
-        fp = new FilePosition(fp.getLine(), fp.getColumn(), startOffset);
+        this.startOffset = startOffset;
+        this.filePosition = null;
     }
 
     @Override
     public int getStartOffset() {
-        return fp.getOffset();
+        return startOffset;
     }
 
     @Override
@@ -142,12 +162,15 @@ public class RobotToken implements IRobotLineElement, Serializable {
 
     @Override
     public String toString() {
-        return String.format("RobotToken [filePosition=%s, text=%s, types=%s, isDirty=%s]", fp, text, types, isDirty);
+        return String.format("RobotToken [filePosition=%s, text=%s, types=%s, isDirty=%s]", getFilePosition(), text, types, isDirty);
     }
 
     @Override
     public FilePosition getFilePosition() {
-        return fp;
+        if (filePosition == null) {
+            filePosition = new FilePosition(lineNumber, startColumn, startOffset);
+        }
+        return filePosition;
     }
 
     @Override
@@ -200,9 +223,9 @@ public class RobotToken implements IRobotLineElement, Serializable {
         t.types.clear();
         t.types.addAll(getTypes());
         if (posInclude) {
-            t.fp = this.fp.copy();
-        } else {
-            t.fp = FilePosition.createNotSet();
+            t.lineNumber = this.lineNumber;
+            t.startColumn = this.startColumn;
+            t.startOffset = this.startOffset;
         }
         t.clearDirtyFlag();
 
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read.recognizer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Finds recognizers which are able to recognize given text, so that patterns of remaining
+ * recognizers do not have to be matched at all. Texts required by recognizers (see
+ * {@link ATokenRecognizer#getRequiredLowerCaseText()}) are compiled into single case-folded
+ * automaton (Aho-Corasick), so all of them are searched in one pass without any allocations.
+ * Recognizers are identified by their index in the list given at construction and candidates are
+ * returned as bit mask; recognizers with index above 63 are always candidates.
+ */
+public class TokenRecognizersFilter {
+
+    private static final int MAX_FILTERED_RECOGNIZERS = Long.SIZE;
+
+    private static final int OTHER_CHARACTER_CLASS = 0;
+
+    private final int[] characterClasses = new int[128];
+
+    private final int[][] transitions;
+
+    private final long[] outputs;
+
+    private final long alwaysCandidates;
+
+    private final long pipeCandidates;
+
+    public TokenRecognizersFilter(final List<ATokenRecognizer> recognizers) {
+        final List<Map<Integer, Integer>> children = new ArrayList<>();
+        final List<Long> nodeOutputs = new ArrayList<>();
+        children.add(new HashMap<Integer, Integer>());
+        nodeOutputs.add(0L);
+
+        int numberOfClasses = 1;
+        long always = 0L;
+        long pipe = 0L;
+        for (int i = 0; i < recognizers.size() && i < MAX_FILTERED_RECOGNIZERS; i++) {
+            final String required = recognizers.get(i).getRequiredLowerCaseText();
+            if (required == null || required.isEmpty()) {
+                always |= 1L << i;
+                continue;
+            }
+            int node = 0;
+            for (final char c : required.toCharArray()) {
+                if (c >= characterClasses.length) {
+                    throw new IllegalArgumentException("Only ASCII texts are supported, but got: " + required);
+                }
+                if (characterClasses[c] == OTHER_CHARACTER_CLASS) {
+                    characterClasses[c] = numberOfClasses++;
+                }
+                if (Character.isLetter(c)) {
+                    pipe |= 1L << i;
+                }
+                final Integer next = children.get(node).get(characterClasses[c]);
+                if (next == null) {
+                    children.add(new HashMap<Integer, Integer>());
+                    nodeOutputs.add(0L);
+                    children.get(node).put(characterClasses[c], children.size() - 1);
+                    node = children.size() - 1;
+                } else {
+                    node = next;
+                }
+            }
+            nodeOutputs.set(node, nodeOutputs.get(node) | 1L << i);
+        }
+        this.alwaysCandidates = always;
+        this.pipeCandidates = pipe;
+        this.transitions = new int[children.size()][numberOfClasses];
+        this.outputs = new long[children.size()];
+        buildAutomaton(children, nodeOutputs, numberOfClasses);
+    }
+
+    private void buildAutomaton(final List<Map<Integer, Integer>> children, final List<Long> nodeOutputs,
+            final int numberOfClasses) {
+        final int[] failures = new int[children.size()];
+        final Queue<Integer> queue = new ArrayDeque<>();
+        for (int cls = 0; cls < numberOfClasses; cls++) {
+            final Integer child = children.get(0).get(cls);
+            transitions[0][cls] = child == null ? 0 : child;
+            if (child != null) {
+                queue.add(child);
+            }
+        }
+        outputs[0] = nodeOutputs.get(0);
+        while (!queue.isEmpty()) {
+            final int node = queue.poll();
+            outputs[node] = nodeOutputs.get(node) | outputs[failures[node]];
+            for (int cls = 0; cls < numberOfClasses; cls++) {
+                final Integer child = children.get(node).get(cls);
+                if (child == null) {
+                    transitions[node][cls] = transitions[failures[node]][cls];
+                } else {
+                    transitions[node][cls] = child;
+                    failures[child] = transitions[failures[node]][cls];
+                    queue.add(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns bit mask of recognizers which may recognize given text.
+     *
+     * @param text
+     * @return
+     */
+    public long findCandidates(final String text) {
+        long candidates = alwaysCandidates;
+        int state = 0;
+        final int length = text.length();
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            if (c == '|') {
+                candidates |= pipeCandidates;
+            }
+            final char lowerCase = Character.toLowerCase(c);
+            final int cls = lowerCase < characterClasses.length ? characterClasses[lowerCase] : OTHER_CHARACTER_CLASS;
+            state = transitions[state][cls];
+            candidates |= outputs[state];
+        }
+        return candidates;
+    }
+
+    public static boolean isCandidate(final long candidates, final int recognizerIndex) {
+        return recognizerIndex >= MAX_FILTERED_RECOGNIZERS || (candidates & 1L << recognizerIndex) != 0;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read.recognizer;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+import org.rf.ide.core.testdata.text.read.IRobotTokenType;
+
+/**
+ * Mutable list of token types. Most of tokens have one or two types, so first type is kept in a
+ * field and only further types are stored in an array allocated on demand.
+ */
+final class TokenTypesList extends AbstractList<IRobotTokenType> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private IRobotTokenType first;
+
+    private IRobotTokenType[] rest;
+
+    private int size;
+
+    TokenTypesList(final IRobotTokenType initialType) {
+        this.first = initialType;
+        this.size = 1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public IRobotTokenType get(final int index) {
+        checkIndex(index, size);
+        return index == 0 ? first : rest[index - 1];
+    }
+
+    @Override
+    public IRobotTokenType set(final int index, final IRobotTokenType type) {
+        checkIndex(index, size);
+        final IRobotTokenType previous;
+        if (index == 0) {
+            previous = first;
+            first = type;
+        } else {
+            previous = rest[index - 1];
+            rest[index - 1] = type;
+        }
+        return previous;
+    }
+
+    @Override
+    public void add(final int index, final IRobotTokenType type) {
+        checkIndex(index, size + 1);
+        modCount++;
+        if (size == 0) {
+            first = type;
+            size++;
+            return;
+        }
+        final int restSize = size - 1;
+        if (rest == null) {
+            rest = new IRobotTokenType[2];
+        } else if (restSize == rest.length) {
+            rest = Arrays.copyOf(rest, rest.length * 2);
+        }
+        if (index == 0) {
+            System.arraycopy(rest, 0, rest, 1, restSize);
+            rest[0] = first;
+            first = type;
+        } else {
+            System.arraycopy(rest, index - 1, rest, index, restSize - (index - 1));
+            rest[index - 1] = type;
+        }
+        size++;
+    }
+
+    @Override
+    public IRobotTokenType remove(final int index) {
+        checkIndex(index, size);
+        modCount++;
+        final IRobotTokenType removed;
+        final int restSize = size - 1;
+        if (index == 0) {
+            removed = first;
+            if (restSize > 0) {
+                first = rest[0];
+                System.arraycopy(rest, 1, rest, 0, restSize - 1);
+                rest[restSize - 1] = null;
+            } else {
+                first = null;
+            }
+        } else {
+            removed = rest[index - 1];
+            System.arraycopy(rest, index, rest, index - 1, restSize - index);
+            rest[restSize - 1] = null;
+        }
+        size--;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        first = null;
+        rest = null;
+        size = 0;
+    }
+
+    private void checkIndex(final int index, final int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
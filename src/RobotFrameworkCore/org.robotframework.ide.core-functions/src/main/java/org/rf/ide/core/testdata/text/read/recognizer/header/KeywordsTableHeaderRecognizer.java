@@ -25,4 +25,9 @@ public class KeywordsTableHeaderRecognizer extends ATokenRecognizer {
     public ATokenRecognizer newInstance() {
         return new KeywordsTableHeaderRecognizer();
     }
+
+    @Override
+    public String getRequiredLowerCaseText() {
+        return "*";
+    }
 }
@@ -25,4 +25,9 @@ public class SettingsTableHeaderRecognizer extends ATokenRecognizer {
     public ATokenRecognizer newInstance() {
         return new SettingsTableHeaderRecognizer();
     }
+
+    @Override
+    public String getRequiredLowerCaseText() {
+        return "*";
+    }
 }
@@ -25,4 +25,9 @@ public class TestCasesTableHeaderRecognizer extends ATokenRecognizer {
     public ATokenRecognizer newInstance() {
         return new TestCasesTableHeaderRecognizer();
     }
+
+    @Override
+    public String getRequiredLowerCaseText() {
+        return "*";
+    }
 }
@@ -24,4 +24,9 @@ public class VariablesTableHeaderRecognizer extends ATokenRecognizer {
     public ATokenRecognizer newInstance() {
         return new VariablesTableHeaderRecognizer();
     }
+
+    @Override
+    public String getRequiredLowerCaseText() {
+        return "*";
+    }
 }
@@ -29,4 +29,9 @@ public class DefaultTagsRecognizer extends ATokenRecognizer {
     public ATokenRecognizer newInstance() {
         return new DefaultTagsRecognizer();
     }
+
+    @Override
+    public String getRequiredLowerCaseText() {
+        return "default";
+    }
 }
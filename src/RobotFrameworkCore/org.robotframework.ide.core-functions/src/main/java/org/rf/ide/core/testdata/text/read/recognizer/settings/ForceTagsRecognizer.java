@@ -29,4 +29,9 @@ public class ForceTagsRecognizer extends ATokenRecognizer {
     public ATokenRecognizer newInstance() {
         return new ForceTagsRecognizer();
     }
+
+    @Override
+    public String getRequiredLowerCaseText() {
+        return "force";
+    }
 }
@@ -27,4 +27,9 @@ public class LibraryAliasRecognizer extends ATokenRecognizer {
     public ATokenRecognizer newInstance() {
         return new LibraryAliasRecognizer();
     }
+
+    @Override
+    public String getRequiredLowerCaseText() {
+        return "with";
+    }
 }
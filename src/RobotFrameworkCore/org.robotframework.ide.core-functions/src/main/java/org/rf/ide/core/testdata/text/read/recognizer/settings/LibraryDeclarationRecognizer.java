@@ -27,4 +27,9 @@ public class LibraryDeclarationRecognizer extends ATokenRecognizer {
     public ATokenRecognizer newInstance() {
         return new LibraryDeclarationRecognizer();
     }
+
+    @Override
+    public String getRequiredLowerCaseText() {
+        return "library";
+    }
 }
@@ -24,4 +24,9 @@ public class MetadataRecognizer extends ATokenRecognizer {
     public ATokenRecognizer newInstance() {
         return new MetadataRecognizer();
     }
+
+    @Override
+    public String getRequiredLowerCaseText() {
+        return "meta";
+    }
 }
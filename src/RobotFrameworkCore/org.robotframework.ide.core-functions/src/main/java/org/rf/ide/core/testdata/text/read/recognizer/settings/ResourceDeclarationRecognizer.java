@@ -27,4 +27,9 @@ public class ResourceDeclarationRecognizer extends ATokenRecognizer {
     public ATokenRecognizer newInstance() {
         return new ResourceDeclarationRecognizer();
     }
+
+    @Override
+    public String getRequiredLowerCaseText() {
+        return "resource";
+    }
 }
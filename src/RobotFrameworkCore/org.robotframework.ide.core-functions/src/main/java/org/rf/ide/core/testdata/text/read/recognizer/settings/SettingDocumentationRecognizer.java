@@ -26,4 +26,9 @@ public class SettingDocumentationRecognizer extends ATokenRecognizer {
     public ATokenRecognizer newInstance() {
         return new SettingDocumentationRecognizer();
     }
+
+    @Override
+    public String getRequiredLowerCaseText() {
+        return "document";
+    }
 }
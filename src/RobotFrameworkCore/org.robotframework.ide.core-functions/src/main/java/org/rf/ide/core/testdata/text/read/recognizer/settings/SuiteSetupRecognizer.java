@@ -33,4 +33,9 @@ public class SuiteSetupRecognizer extends ATokenRecognizer {
     public ATokenRecognizer newInstance() {
         return new SuiteSetupRecognizer();
     }
+
+    @Override
+    public String getRequiredLowerCaseText() {
+        return "suite";
+    }
 }
@@ -33,4 +33,9 @@ public class SuiteTeardownRecognizer extends ATokenRecognizer {
     public ATokenRecognizer newInstance() {
         return new SuiteTeardownRecognizer();
     }
+
+    @Override
+    public String getRequiredLowerCaseText() {
+        return "suite";
+    }
 }
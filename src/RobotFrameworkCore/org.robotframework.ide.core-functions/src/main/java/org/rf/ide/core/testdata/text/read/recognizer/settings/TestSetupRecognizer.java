@@ -33,4 +33,9 @@ public class TestSetupRecognizer extends ATokenRecognizer {
     public ATokenRecognizer newInstance() {
         return new TestSetupRecognizer();
     }
+
+    @Override
+    public String getRequiredLowerCaseText() {
+        return "test";
+    }
 }
@@ -33,4 +33,9 @@ public class TestTeardownRecognizer extends ATokenRecognizer {
     public ATokenRecognizer newInstance() {
         return new TestTeardownRecognizer();
     }
+
+    @Override
+    public String getRequiredLowerCaseText() {
+        return "test";
+    }
 }
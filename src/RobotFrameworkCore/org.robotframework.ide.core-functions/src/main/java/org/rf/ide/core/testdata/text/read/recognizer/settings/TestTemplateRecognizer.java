@@ -29,4 +29,9 @@ public class TestTemplateRecognizer extends ATokenRecognizer {
     public ATokenRecognizer newInstance() {
         return new TestTemplateRecognizer();
     }
+
+    @Override
+    public String getRequiredLowerCaseText() {
+        return "test";
+    }
 }
@@ -29,4 +29,9 @@ public class TestTimeoutRecognizer extends ATokenRecognizer {
     public ATokenRecognizer newInstance() {
         return new TestTimeoutRecognizer();
     }
+
+    @Override
+    public String getRequiredLowerCaseText() {
+        return "test";
+    }
 }
@@ -27,4 +27,9 @@ public class VariableDeclarationRecognizer extends ATokenRecognizer {
     public ATokenRecognizer newInstance() {
         return new VariableDeclarationRecognizer();
     }
+
+    @Override
+    public String getRequiredLowerCaseText() {
+        return "variables";
+    }
 }
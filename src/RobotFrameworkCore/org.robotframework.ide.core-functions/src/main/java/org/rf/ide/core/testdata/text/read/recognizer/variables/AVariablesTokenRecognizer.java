@@ -29,4 +29,9 @@ public abstract class AVariablesTokenRecognizer extends ATokenRecognizer {
         return Pattern.compile(String.format(TEMPLATE,
                 varType.getIdentificator()));
     }
+
+    @Override
+    public String getRequiredLowerCaseText() {
+        return "{";
+    }
 }
@@ -139,6 +139,7 @@ class TestRunnerAgent:
         
         self.sock = None
         self.decoder_encoder = None
+        self._excluded_events = set()
         
         if self._connect(connection_timeout):
             self._is_debug_enabled, wait_for_signal = self._send_agent_initializing()
@@ -175,6 +176,8 @@ class TestRunnerAgent:
     def _receive_operating_mode(self):
         _, response = self._wait_for_reponse('operating_mode')
         operating_mode = response['operating_mode']
+        # RED tells which events it does not need, so those are not sent at all
+        self._excluded_events = set(operating_mode.get('excluded_events', []))
         return operating_mode['mode'].lower() == 'debug', operating_mode['wait_for_start_allowance']
         
     def _send_version(self):
@@ -229,11 +232,12 @@ class TestRunnerAgent:
         self._send_to_server('end_suite', name, attrs)
 
     def start_keyword(self, name, attrs):
-        # we're cutting args from original attrs dictionary, because it may contain 
-        # objects which are not json-serializable and we don't need them anyway
-        attrs_copy = copy.copy(attrs)
-        attrs_copy['args'] = list()
-        self._send_to_server('start_keyword', name, attrs_copy)
+        if 'start_keyword' not in self._excluded_events:
+            # we're cutting args from original attrs dictionary, because it may contain 
+            # objects which are not json-serializable and we don't need them anyway
+            attrs_copy = copy.copy(attrs)
+            attrs_copy['args'] = list()
+            self._send_to_server('start_keyword', name, attrs_copy)
         
         if self._is_debug_enabled:
             self._send_vars()
@@ -242,6 +246,8 @@ class TestRunnerAgent:
                 self._wait_for_resume()
 
     def _send_vars(self):
+        if 'vars' in self._excluded_events:
+            return
         vars = {}
         try:
             from robot.libraries.BuiltIn import BuiltIn
@@ -335,15 +341,18 @@ class TestRunnerAgent:
             self._print_error_message('Setting variables error: ' + str(e) + ' Received data:' + str(data))
 
     def end_keyword(self, name, attrs):
-        attrs_copy = copy.copy(attrs)
-        attrs_copy['args'] = list()
-        self._send_to_server('end_keyword', name, attrs_copy)
+        if 'end_keyword' not in self._excluded_events:
+            attrs_copy = copy.copy(attrs)
+            attrs_copy['args'] = list()
+            self._send_to_server('end_keyword', name, attrs_copy)
         self._debugger.end_keyword(attrs['status'] == 'PASS')
 
     def resource_import(self, name, attributes):
         self._send_to_server('resource_import', name, attributes)
 
     def library_import(self, name, attributes):
+        if 'library_import' in self._excluded_events:
+            return
         # equals org.python.core.ClasspathPyImporter.PYCLASSPATH_PREFIX
         import platform
         if 'Jython' in platform.python_implementation():
@@ -41,6 +41,27 @@ def create_libdoc(libname):
             return str(b64encode(bytes(data, 'utf-8')), 'utf-8')
     finally:
         os.remove(temp_lib_file_path)
+
+def create_libdoc_to_file(libname, result_file_path):
+    import robot
+    from robot.libdoc import libdoc
+    from tempfile import mkstemp
+    import os
+
+    # libdoc is generated next to the result file and moved in place afterwards, so the content
+    # is never transferred back and the result file is not left half-written when libdoc fails
+    f, temp_lib_file_path = mkstemp(dir=os.path.dirname(os.path.abspath(result_file_path)))
+    os.close(f)
+    try:
+        libdoc(libname, temp_lib_file_path, format='XML')
+        if os.path.getsize(temp_lib_file_path) == 0:
+            raise RuntimeError('Unable to generate library specification file for library \'' + libname + '\'')
+        if os.path.exists(result_file_path):
+            os.remove(result_file_path)
+        os.rename(temp_lib_file_path, result_file_path)
+    finally:
+        if os.path.exists(temp_lib_file_path):
+            os.remove(temp_lib_file_path)
         
 if __name__ == '__main__':
     import sys
@@ -54,5 +75,12 @@ if __name__ == '__main__':
         
         sys.path = paths + sys.path
         print(create_libdoc(libname))
+    elif sys.argv[1] == '-libdoc_to_file':
+        libname = sys.argv[2]
+        result_file_path = sys.argv[3]
+        paths = sys.argv[4:]
+
+        sys.path = paths + sys.path
+        create_libdoc_to_file(libname, result_file_path)
         
      
\ No newline at end of file
@@ -54,10 +54,18 @@ def logresult(func):
         if ret['exception']: 
             Logger().log('[' + current_time + '] call ended with exception, see stderr for details')
         else:
-            Logger().log('[' + current_time + '] call ended with result:\n    > ' + str(ret['result']))
+            Logger().log('[' + current_time + '] call ended with result:\n    > ' + _summarize(ret['result']))
         return ret
     return inner
 
+def _summarize(result, limit=300):
+    # results may be huge (e.g. encoded libdocs or variables of big files) and whole of
+    # them would be only copied to every listener of server output
+    text = str(result)
+    if len(text) <= limit:
+        return text
+    return text[:limit] + '... (' + str(len(text)) + ' characters in total)'
+
 
 @logresult
 @encode_result_or_exception
@@ -170,6 +178,25 @@ def create_libdoc(libname, python_paths, class_paths):
     for path in python_paths + class_paths:
         pythonpathsetter.remove_path(path)    
     return libdoc
+
+
+@logresult
+@encode_result_or_exception
+@logargs
+def create_libdoc_to_file(libname, result_file_path, python_paths, class_paths):
+    import robot
+    from robot import pythonpathsetter
+    import red_libraries
+    
+    __extend_classpath(class_paths)
+    
+    for path in python_paths + class_paths:
+        pythonpathsetter.add_path(path)    
+    try:
+        red_libraries.create_libdoc_to_file(libname, result_file_path)
+    finally:
+        for path in python_paths + class_paths:
+            pythonpathsetter.remove_path(path)    
     
 def __extend_classpath(class_paths):
     import platform
@@ -216,6 +243,7 @@ if __name__ == '__main__':
     server.register_function(get_run_module_path, 'getRunModulePath')
     server.register_function(is_virtualenv, 'isVirtualenv')
     server.register_function(create_libdoc, 'createLibdoc')
+    server.register_function(create_libdoc_to_file, 'createLibdocToFile')
     server.register_function(check_server_availability, 'checkServerAvailability')
 
     red_checking_thread = Thread(target=__shutdown_server_when_parent_process_becomes_unavailable, args={server})
@@ -77,4 +77,19 @@ public class ExecutionElementsFactoryTest {
         assertThat(execElement.getStatus()).isEqualTo(null);
         assertThat(execElement.getMessage()).isEqualTo(null);
     }
+
+    @Test
+    public void execElementForClientProperties() {
+        final ExecutionElement execElement = ExecutionElementsFactory
+                .createEndTestExecutionElement("test", 10, "msg", Status.FAIL)
+                .forClient(42);
+
+        assertThat(execElement.getName()).isEqualTo("test");
+        assertThat(execElement.getType()).isEqualTo(ExecutionElementType.TEST);
+        assertThat(execElement.getSource()).isEqualTo(null);
+        assertThat(execElement.getElapsedTime()).isEqualTo(10);
+        assertThat(execElement.getStatus()).isEqualTo(Status.FAIL);
+        assertThat(execElement.getMessage()).isEqualTo("msg");
+        assertThat(execElement.getClientId()).isEqualTo(42);
+    }
 }
@@ -19,6 +19,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.rf.ide.core.testdata.RobotParser;
 import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.text.read.separators.TokenSeparatorBuilder.FileFormat;
 
 @SuppressWarnings("PMD")
 public class RobotDebugExecutionContextTest {
@@ -400,6 +401,49 @@ public class RobotDebugExecutionContextTest {
 
     }
 
+    @Test
+    public void test_TestIsFoundIgnoringCase_andFirstTestIsChosen_whenThereAreTestsWithTheSameName() {
+        final RobotFile modelFile = RobotModelTestProvider.getModelFile("*** Test Cases ***\n"
+                + "First Test\n  Log  1\n"
+                + "Second Test\n  Log  2\n"
+                + "second test\n  Log  3\n", FileFormat.TXT_OR_ROBOT, parser);
+
+        debugExecutionContext.startSuite(modelFile.getParent(), parser);
+
+        assertThat(debugExecutionContext.startTest("first test")).isTrue();
+        debugExecutionContext.endTest();
+        assertThat(debugExecutionContext.startTest("Third Test")).isFalse();
+        assertThat(debugExecutionContext.startTest("SECOND TEST")).isTrue();
+        debugExecutionContext.startKeyword("BuiltIn.Log", "Keyword", Arrays.asList("2"));
+        assertThat(debugExecutionContext.findKeywordPosition().getLineNumber()).isEqualTo(5);
+    }
+
+    @Test
+    public void test_ResourceKeywordsAreFound_whenTheSameResourceIsImportedBySubsequentSuites()
+            throws URISyntaxException {
+        final RobotFile modelFile = RobotModelTestProvider.getModelFile("test_ExeContext_2.robot", parser);
+        final String resourcePath = RobotModelTestProvider.getFilePath("resource1.robot").toAbsolutePath().toString();
+
+        for (int i = 0; i < 3; i++) {
+            debugExecutionContext.startSuite(modelFile.getParent(), parser);
+            debugExecutionContext.startTest("test b");
+
+            debugExecutionContext.startKeyword("key2", "Keyword", Arrays.asList(""));
+            assertThat(debugExecutionContext.findKeywordPosition().getLineNumber()).isEqualTo(9);
+            debugExecutionContext.startKeyword("resource1.Keyword1", "Keyword", Arrays.asList(""));
+            assertThat(debugExecutionContext.findKeywordPosition().getLineNumber()).isEqualTo(18);
+            debugExecutionContext.startKeyword("resource2.Keyword2", "Keyword", Arrays.asList(""));
+            assertThat(debugExecutionContext.findKeywordPosition())
+                    .isEqualTo(new KeywordPosition(resourcePath, 22));
+            debugExecutionContext.endKeyword("Keyword");
+            debugExecutionContext.endKeyword("Keyword");
+            debugExecutionContext.endKeyword("Keyword");
+
+            debugExecutionContext.endTest();
+            debugExecutionContext.endSuite();
+        }
+    }
+
     @Test
     public void test_ForLoop() throws URISyntaxException {
         final RobotFile modelFile = RobotModelTestProvider.getModelFile("test_ExeContext_3.robot", parser);
@@ -6,7 +6,9 @@
 package org.rf.ide.core.execution.server;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -18,9 +20,14 @@ import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.net.BindException;
+import java.net.ConnectException;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import org.codehaus.jackson.map.ObjectMapper;
@@ -68,7 +75,7 @@ public class AgentConnectionServerTest {
             }
         });
         final Thread clientThread = new Thread(() -> {
-            try (final Socket clientSocket = new Socket(host, port);) {
+            try (final Socket clientSocket = connectWhenServerIsListening(host, port)) {
                 try (BufferedWriter writer = new BufferedWriter(
                         new OutputStreamWriter(clientSocket.getOutputStream()))) {
                     final Object msgObject = ImmutableMap.of("ready_to_start", 0);
@@ -108,7 +115,7 @@ public class AgentConnectionServerTest {
             }
         });
         final Thread clientThread = new Thread(() -> {
-            try (final Socket clientSocket = new Socket(host, port);) {
+            try (final Socket clientSocket = connectWhenServerIsListening(host, port)) {
                 try (BufferedWriter writer = new BufferedWriter(
                         new OutputStreamWriter(clientSocket.getOutputStream()))) {
                     writer.write("invalid_messge_not_a_json_mapping");
@@ -147,7 +154,7 @@ public class AgentConnectionServerTest {
             }
         });
         final Thread clientThread = new Thread(() -> {
-            try (final Socket clientSocket = new Socket(host, port);) {
+            try (final Socket clientSocket = connectWhenServerIsListening(host, port)) {
                 try (BufferedWriter writer = new BufferedWriter(
                         new OutputStreamWriter(clientSocket.getOutputStream()))) {
                     final Object msgObject = ImmutableMap.of("ready_to_start", 0);
@@ -168,6 +175,89 @@ public class AgentConnectionServerTest {
         verifyNoMoreInteractions(serverStatusListener);
     }
 
+    @Test(timeout = 10_000)
+    public void eventsOfEachClientAreHandledByOwnListeners_whenManyClientsAreAllowed() throws Exception {
+        final String host = "127.0.0.1";
+        final int port = findFreePort();
+
+        final AgentServerStatusListener serverStatusListener = mock(AgentServerStatusListener.class);
+        final List<RobotAgentEventListener> robotEventListeners = Collections.synchronizedList(new ArrayList<>());
+
+        final AgentConnectionServer server = new AgentConnectionServer(host, port, 500, TimeUnit.MILLISECONDS, 3);
+        server.addStatusListener(serverStatusListener);
+
+        final Thread serverThread = new Thread(() -> {
+            try {
+                server.start(() -> {
+                    final RobotAgentEventListener robotEventListener = mock(RobotAgentEventListener.class);
+                    when(robotEventListener.isHandlingEvents()).thenReturn(true);
+                    robotEventListeners.add(robotEventListener);
+                    return new RobotAgentEventListener[] { robotEventListener };
+                });
+            } catch (final IOException e) {
+            }
+        });
+        serverThread.start();
+        for (int i = 0; i < 3; i++) {
+            final Thread clientThread = new Thread(() -> sendReadyToStartEvent(host, port));
+            clientThread.start();
+            clientThread.join();
+        }
+        serverThread.join();
+
+        verify(serverStatusListener).serverEstablished(host, port);
+        for (int clientId = 1; clientId <= 3; clientId++) {
+            // each client gets unique id
+            verify(serverStatusListener).clientConnected(clientId);
+            verify(serverStatusListener).clientConnectionClosed(clientId);
+        }
+        verifyNoMoreInteractions(serverStatusListener);
+
+        assertThat(robotEventListeners).hasSize(3);
+        for (final RobotAgentEventListener robotEventListener : robotEventListeners) {
+            verify(robotEventListener).setClient(any(AgentClient.class));
+            verify(robotEventListener).handleAgentIsReadyToStart();
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void eventsOfManyClientsAreHandledInParallel_whenManyClientsAreAllowed() throws Exception {
+        final String host = "127.0.0.1";
+        final int port = findFreePort();
+
+        final CountDownLatch clientsReadyLatch = new CountDownLatch(2);
+        final List<Boolean> clientsSawEachOther = Collections.synchronizedList(new ArrayList<>());
+
+        final AgentConnectionServer server = new AgentConnectionServer(host, port, 500, TimeUnit.MILLISECONDS, 2);
+
+        final Thread serverThread = new Thread(() -> {
+            try {
+                server.start(() -> {
+                    final RobotAgentEventListener robotEventListener = mock(RobotAgentEventListener.class);
+                    when(robotEventListener.isHandlingEvents()).thenReturn(true);
+                    doAnswer(invocation -> {
+                        clientsReadyLatch.countDown();
+                        clientsSawEachOther.add(clientsReadyLatch.await(5, TimeUnit.SECONDS));
+                        return null;
+                    }).when(robotEventListener).handleAgentIsReadyToStart();
+                    return new RobotAgentEventListener[] { robotEventListener };
+                });
+            } catch (final Exception e) {
+            }
+        });
+        final Thread firstClientThread = new Thread(() -> sendReadyToStartEvent(host, port));
+        final Thread secondClientThread = new Thread(() -> sendReadyToStartEvent(host, port));
+        serverThread.start();
+        firstClientThread.start();
+        secondClientThread.start();
+
+        firstClientThread.join();
+        secondClientThread.join();
+        serverThread.join();
+
+        assertThat(clientsSawEachOther).containsExactly(true, true);
+    }
+
     @Test(expected = BindException.class)
     public void exceptionIsThrown_whenHostCannotBeReached() throws Exception {
         final String host = "123456789";
@@ -224,6 +314,28 @@ public class AgentConnectionServerTest {
         verifyZeroInteractions(serverStatusListener);
     }
 
+    private static void sendReadyToStartEvent(final String host, final int port) {
+        try (final Socket clientSocket = connectWhenServerIsListening(host, port)) {
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(clientSocket.getOutputStream()))) {
+                final Object msgObject = ImmutableMap.of("ready_to_start", 0);
+                writer.write(new ObjectMapper().writeValueAsString(msgObject));
+            }
+        } catch (final Exception e) {
+        }
+    }
+
+    private static Socket connectWhenServerIsListening(final String host, final int port) throws Exception {
+        // server is started in other thread, so it may be not listening yet
+        for (int i = 0; i < 50; i++) {
+            try {
+                return new Socket(host, port);
+            } catch (final ConnectException e) {
+                Thread.sleep(50);
+            }
+        }
+        return new Socket(host, port);
+    }
+
     private static int findFreePort() throws IOException {
         try (ServerSocket socket = new ServerSocket(0)) {
             return socket.getLocalPort();
@@ -132,16 +132,36 @@ public class RobotAgentEventDispatcherTest {
         final RobotAgentEventListener listener = mock(RobotAgentEventListener.class);
         when(listener.isHandlingEvents()).thenReturn(true);
 
-        final RobotAgentEventDispatcher dispatcher = new RobotAgentEventDispatcher(null, listener);
+        final AgentClient client = mock(AgentClient.class);
+        final RobotAgentEventDispatcher dispatcher = new RobotAgentEventDispatcher(client, listener);
 
         final Map<String, String> attributes = ImmutableMap.of("agent_mode", "debug");
         final String json = toJson(ImmutableMap.of("agent_initializing", newArrayList(attributes)));
         dispatcher.runEventsLoop(readerFor(json));
 
-        verify(listener).setClient(nullable(AgentClient.class));
+        verify(listener).setClient(client);
         verify(listener, atLeast(1)).isHandlingEvents();
+        verify(listener).isHandlingKeywords();
+        verify(listener).isHandlingVariables();
         verify(listener).handleAgentInitializing();
         verifyNoMoreInteractions(listener);
+        verify(client).setExcludedEvents(newArrayList("library_import", "start_keyword", "end_keyword", "vars"));
+    }
+
+    @Test
+    public void keywordEventsAreNotExcluded_whenAnyListenerIsHandlingKeywords() throws Exception {
+        final RobotAgentEventListener listener1 = mock(RobotAgentEventListener.class);
+        final RobotAgentEventListener listener2 = mock(RobotAgentEventListener.class);
+        when(listener1.isHandlingEvents()).thenReturn(true);
+        when(listener2.isHandlingKeywords()).thenReturn(true);
+
+        final AgentClient client = mock(AgentClient.class);
+        final RobotAgentEventDispatcher dispatcher = new RobotAgentEventDispatcher(client, listener1, listener2);
+
+        final String json = toJson(ImmutableMap.of("agent_initializing", newArrayList()));
+        dispatcher.runEventsLoop(readerFor(json));
+
+        verify(client).setExcludedEvents(newArrayList("library_import", "vars"));
     }
 
     @Test
@@ -287,6 +307,7 @@ public class RobotAgentEventDispatcherTest {
     public void listenerIsNotifiedAboutVariablesEvent() throws Exception {
         final RobotAgentEventListener listener = mock(RobotAgentEventListener.class);
         when(listener.isHandlingEvents()).thenReturn(true);
+        when(listener.isHandlingVariables()).thenReturn(true);
 
         final RobotAgentEventDispatcher dispatcher = new RobotAgentEventDispatcher(null, listener);
 
@@ -297,10 +318,45 @@ public class RobotAgentEventDispatcherTest {
 
         verify(listener).setClient(nullable(AgentClient.class));
         verify(listener, atLeast(1)).isHandlingEvents();
+        verify(listener, atLeast(1)).isHandlingVariables();
         verify(listener).handleVariables(ImmutableMap.<String, Object> of("a", "value", "b", newArrayList("1", "2")));
         verifyNoMoreInteractions(listener);
     }
 
+    @Test
+    public void listenerIsNotNotifiedAboutVariablesEvent_whenNoListenerIsHandlingVariables() throws Exception {
+        final RobotAgentEventListener listener = mock(RobotAgentEventListener.class);
+        when(listener.isHandlingEvents()).thenReturn(true);
+        when(listener.isHandlingVariables()).thenReturn(false);
+
+        final RobotAgentEventDispatcher dispatcher = new RobotAgentEventDispatcher(null, listener);
+
+        final Map<String, Object> attributes = ImmutableMap.<String, Object> of("a", "value");
+        final String json = toJson(ImmutableMap.of("vars", newArrayList("_", attributes)));
+        dispatcher.runEventsLoop(readerFor(json));
+
+        verify(listener).setClient(nullable(AgentClient.class));
+        verify(listener, atLeast(1)).isHandlingEvents();
+        verify(listener, atLeast(1)).isHandlingVariables();
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    public void eventsAfterMalformedEventAreStillDispatched() throws Exception {
+        final RobotAgentEventListener listener = mock(RobotAgentEventListener.class);
+        when(listener.isHandlingEvents()).thenReturn(true);
+
+        final RobotAgentEventDispatcher dispatcher = new RobotAgentEventDispatcher(null, listener);
+
+        final String json = "[]\n{}\n" + toJson(ImmutableMap.of("close", 0));
+        dispatcher.runEventsLoop(readerFor(json));
+
+        verify(listener).setClient(nullable(AgentClient.class));
+        verify(listener, atLeast(1)).isHandlingEvents();
+        verify(listener).handleClosed();
+        verifyNoMoreInteractions(listener);
+    }
+
     @Test
     public void listenerIsNotifiedAboutGlobalVariablesEvent() throws Exception {
         final RobotAgentEventListener listener = mock(RobotAgentEventListener.class);
@@ -5,8 +5,11 @@
  */
 package org.rf.ide.core.execution.server.response;
 
+import static com.google.common.collect.Lists.newArrayList;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+
 import org.junit.Test;
 import org.rf.ide.core.execution.TestsMode;
 
@@ -23,4 +26,13 @@ public class InitializeAgentTest {
         assertThat(new InitializeAgent(TestsMode.DEBUG, false).toMessage())
                 .isEqualTo("{\"operating_mode\":{\"mode\":\"DEBUG\",\"wait_for_start_allowance\":false}}");
     }
+
+    @Test
+    public void properMessageIsConstructed_forInitializeAgentResponseWithExcludedEvents() {
+        assertThat(new InitializeAgent(TestsMode.RUN, true, newArrayList("start_keyword", "end_keyword")).toMessage())
+                .isEqualTo("{\"operating_mode\":{\"mode\":\"RUN\",\"wait_for_start_allowance\":true,"
+                        + "\"excluded_events\":[\"start_keyword\",\"end_keyword\"]}}");
+        assertThat(new InitializeAgent(TestsMode.RUN, true, new ArrayList<>()).toMessage())
+                .isEqualTo("{\"operating_mode\":{\"mode\":\"RUN\",\"wait_for_start_allowance\":true}}");
+    }
 }
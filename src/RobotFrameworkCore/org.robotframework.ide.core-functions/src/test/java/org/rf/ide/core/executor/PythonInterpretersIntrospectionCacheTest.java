@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.executor;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PythonInterpretersIntrospectionCacheTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void nothingIsCached_untilCachingIsStartedForInterpreter() throws Exception {
+        final PythonInterpretersIntrospectionCache cache = new PythonInterpretersIntrospectionCache();
+
+        cache.put("python", "version", "Robot Framework 3.0");
+
+        assertThat(cache.get("python", "version").isPresent()).isFalse();
+    }
+
+    @Test
+    public void cachedResultsAreReturned_whenFingerprintFilesAreNotChanged() throws Exception {
+        final File executable = createFile("python", "exec");
+        final PythonInterpretersIntrospectionCache cache = new PythonInterpretersIntrospectionCache();
+
+        cache.startCaching("python", newArrayList(executable));
+        cache.put("python", "version", "Robot Framework 3.0");
+        cache.put("python", "standardLibraries", newArrayList("BuiltIn", "Collections"));
+
+        assertThat(cache.get("python", "version")).isEqualTo(Optional.of("Robot Framework 3.0"));
+        assertThat(cache.get("python", "standardLibraries"))
+                .isEqualTo(Optional.of(newArrayList("BuiltIn", "Collections")));
+        assertThat(cache.get("python", "globalVariables").isPresent()).isFalse();
+        assertThat(cache.get("jython", "version").isPresent()).isFalse();
+    }
+
+    @Test
+    public void cachedResultsAreDropped_whenFingerprintFileIsChanged() throws Exception {
+        final File executable = createFile("python", "exec");
+        final File versionModule = createFile("version.py", "VERSION = '3.0'");
+        final PythonInterpretersIntrospectionCache cache = new PythonInterpretersIntrospectionCache();
+
+        cache.startCaching("python", newArrayList(executable, versionModule));
+        cache.put("python", "version", "Robot Framework 3.0");
+
+        Files.write(versionModule.toPath(), "VERSION = '3.0.2'".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(cache.get("python", "version").isPresent()).isFalse();
+        cache.put("python", "version", "Robot Framework 3.0.2");
+        assertThat(cache.get("python", "version").isPresent()).isFalse();
+    }
+
+    @Test
+    public void cachedResultsAreDropped_whenInterpreterIsInvalidated() throws Exception {
+        final File executable = createFile("python", "exec");
+        final PythonInterpretersIntrospectionCache cache = new PythonInterpretersIntrospectionCache();
+
+        cache.startCaching("python", newArrayList(executable));
+        cache.put("python", "version", "Robot Framework 3.0");
+        cache.invalidate("python");
+
+        assertThat(cache.get("python", "version").isPresent()).isFalse();
+    }
+
+    @Test
+    public void cachedResultsAreLoadedFromFile_whenStoredByOtherCacheInstance() throws Exception {
+        final File executable = createFile("python", "exec");
+        final File cacheFile = new File(tempFolder.getRoot(), "cache.json");
+
+        final Map<String, Object> variables = new LinkedHashMap<>();
+        variables.put("${SPACE}", " ");
+        variables.put("@{EMPTY}", new Object[0]);
+
+        final PythonInterpretersIntrospectionCache cache = new PythonInterpretersIntrospectionCache();
+        cache.load(cacheFile);
+        cache.startCaching("python", newArrayList(executable));
+        cache.put("python", "version", "Robot Framework 3.0");
+        cache.put("python", "globalVariables", variables);
+
+        final PythonInterpretersIntrospectionCache loadedCache = new PythonInterpretersIntrospectionCache();
+        loadedCache.load(cacheFile);
+
+        assertThat(loadedCache.get("python", "version")).isEqualTo(Optional.of("Robot Framework 3.0"));
+        final Optional<Object> loadedVariables = loadedCache.get("python", "globalVariables");
+        assertThat(loadedVariables.isPresent()).isTrue();
+        assertThat(((Map<?, ?>) loadedVariables.get()).keySet()).containsExactly("${SPACE}", "@{EMPTY}");
+        assertThat(((Map<?, ?>) loadedVariables.get()).get("@{EMPTY}")).isEqualTo(newArrayList());
+    }
+
+    @Test
+    public void brokenCacheFileIsIgnored() throws Exception {
+        final File cacheFile = createFile("cache.json", "{ not a json");
+
+        final PythonInterpretersIntrospectionCache cache = new PythonInterpretersIntrospectionCache();
+        cache.load(cacheFile);
+
+        assertThat(cache.get("python", "version").isPresent()).isFalse();
+    }
+
+    private File createFile(final String name, final String content) throws IOException {
+        final File file = tempFolder.newFile(name);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import org.rf.ide.core.executor.RobotCommandRcpExecutor.RobotCommandExecutorException;
+
+public class RobotCommandRcpExecutorsPoolTest {
+
+    private static final long IDLE_TIMEOUT = TimeUnit.HOURS.toMillis(1);
+
+    @Test
+    public void callsAreHandledByIdleExecutor_withoutStartingAnotherOne() {
+        final RobotCommandRcpExecutor first = aliveExecutor("1.0");
+        final Supplier<RobotCommandRcpExecutor> starter = startingNotExpected();
+
+        final RobotCommandRcpExecutorsPool pool = new RobotCommandRcpExecutorsPool(first, 4, IDLE_TIMEOUT, starter,
+                () -> null);
+
+        assertThat(pool.getRobotVersion()).isEqualTo("1.0");
+        assertThat(pool.getRobotVersion()).isEqualTo("1.0");
+        assertThat(pool.getNumberOfStartedExecutors()).isEqualTo(1);
+        verify(first, times(2)).getRobotVersion();
+    }
+
+    @Test
+    public void anotherExecutorIsStarted_whenAllExecutorsAreBusy() throws Exception {
+        final CountDownLatch firstIsBusy = new CountDownLatch(1);
+        final CountDownLatch finishFirst = new CountDownLatch(1);
+        final RobotCommandRcpExecutor first = blockingExecutor("1.0", firstIsBusy, finishFirst);
+        final RobotCommandRcpExecutor second = aliveExecutor("2.0");
+
+        final RobotCommandRcpExecutorsPool pool = new RobotCommandRcpExecutorsPool(first, 4, IDLE_TIMEOUT,
+                () -> second, () -> null);
+
+        final Thread busyCaller = callInThread(pool, new AtomicReference<>());
+        firstIsBusy.await();
+
+        assertThat(pool.getRobotVersion()).isEqualTo("2.0");
+        assertThat(pool.getNumberOfStartedExecutors()).isEqualTo(2);
+
+        finishFirst.countDown();
+        busyCaller.join();
+    }
+
+    @Test
+    public void callerWaitsForBusyExecutor_whenLimitOfExecutorsIsReached() throws Exception {
+        final CountDownLatch firstIsBusy = new CountDownLatch(1);
+        final CountDownLatch finishFirst = new CountDownLatch(1);
+        final RobotCommandRcpExecutor first = blockingExecutor("1.0", firstIsBusy, finishFirst);
+
+        final RobotCommandRcpExecutorsPool pool = new RobotCommandRcpExecutorsPool(first, 1, IDLE_TIMEOUT,
+                startingNotExpected(), () -> null);
+
+        final Thread busyCaller = callInThread(pool, new AtomicReference<>());
+        firstIsBusy.await();
+
+        final AtomicReference<String> waitingCallResult = new AtomicReference<>();
+        final Thread waitingCaller = callInThread(pool, waitingCallResult);
+        waitingCaller.join(200);
+        assertThat(waitingCallResult.get()).isNull();
+
+        finishFirst.countDown();
+        busyCaller.join();
+        waitingCaller.join();
+        assertThat(waitingCallResult.get()).isEqualTo("1.0");
+        assertThat(pool.getNumberOfStartedExecutors()).isEqualTo(1);
+    }
+
+    @Test
+    public void deadExecutorIsReplacedByNewOne() {
+        final RobotCommandRcpExecutor first = mock(RobotCommandRcpExecutor.class);
+        final RobotCommandRcpExecutor second = aliveExecutor("2.0");
+
+        final RobotCommandRcpExecutorsPool pool = new RobotCommandRcpExecutorsPool(first, 4, IDLE_TIMEOUT,
+                () -> second, () -> null);
+
+        assertThat(pool.getRobotVersion()).isEqualTo("2.0");
+        assertThat(pool.getNumberOfStartedExecutors()).isEqualTo(1);
+        verify(first, never()).getRobotVersion();
+    }
+
+    @Test
+    public void fallbackExecutorIsUsed_whenNewExecutorCannotBeStarted() {
+        final RobotCommandRcpExecutor first = mock(RobotCommandRcpExecutor.class);
+        final RobotCommandExecutor fallback = mock(RobotCommandExecutor.class);
+        when(fallback.getRobotVersion()).thenReturn("3.0");
+
+        final RobotCommandRcpExecutorsPool pool = new RobotCommandRcpExecutorsPool(first, 4, IDLE_TIMEOUT, () -> {
+            throw new RobotCommandExecutorException("unable to start");
+        }, () -> fallback);
+
+        assertThat(pool.getRobotVersion()).isEqualTo("3.0");
+        assertThat(pool.getNumberOfStartedExecutors()).isZero();
+    }
+
+    @Test
+    public void idleExecutorsAreShutDown_exceptTheLastOne() throws Exception {
+        final CountDownLatch firstIsBusy = new CountDownLatch(1);
+        final CountDownLatch finishFirst = new CountDownLatch(1);
+        final RobotCommandRcpExecutor first = blockingExecutor("1.0", firstIsBusy, finishFirst);
+        final RobotCommandRcpExecutor second = aliveExecutor("2.0");
+
+        final RobotCommandRcpExecutorsPool pool = new RobotCommandRcpExecutorsPool(first, 4, IDLE_TIMEOUT,
+                () -> second, () -> null);
+
+        final Thread busyCaller = callInThread(pool, new AtomicReference<>());
+        firstIsBusy.await();
+        pool.getRobotVersion();
+        finishFirst.countDown();
+        busyCaller.join();
+
+        pool.shutdownIdleExecutors(System.currentTimeMillis());
+        assertThat(pool.getNumberOfStartedExecutors()).isEqualTo(2);
+
+        pool.shutdownIdleExecutors(System.currentTimeMillis() + IDLE_TIMEOUT);
+        assertThat(pool.getNumberOfStartedExecutors()).isEqualTo(1);
+        verify(second).kill();
+        verify(first, never()).kill();
+    }
+
+    @Test
+    public void idleExecutorsAreKilledAndFallbackExecutorIsUsed_whenPoolIsShutDown() {
+        final RobotCommandRcpExecutor first = aliveExecutor("1.0");
+        final RobotCommandExecutor fallback = mock(RobotCommandExecutor.class);
+        when(fallback.getRobotVersion()).thenReturn("3.0");
+
+        final RobotCommandRcpExecutorsPool pool = new RobotCommandRcpExecutorsPool(first, 4, IDLE_TIMEOUT,
+                startingNotExpected(), () -> fallback);
+        pool.shutdown();
+
+        verify(first).kill();
+        assertThat(pool.getNumberOfStartedExecutors()).isZero();
+        assertThat(pool.getRobotVersion()).isEqualTo("3.0");
+    }
+
+    @Test
+    public void onlySingleExecutorIsUsed_whenConnectedToExternalServer() throws Exception {
+        final RobotCommandRcpExecutor first = mock(RobotCommandRcpExecutor.class);
+        when(first.isExternal()).thenReturn(true);
+        when(first.getRobotVersion()).thenReturn("1.0");
+
+        final RobotCommandRcpExecutorsPool pool = new RobotCommandRcpExecutorsPool(first, 4, IDLE_TIMEOUT,
+                startingNotExpected(), () -> null);
+
+        assertThat(pool.getRobotVersion()).isEqualTo("1.0");
+        assertThat(pool.getNumberOfStartedExecutors()).isEqualTo(1);
+    }
+
+    private static RobotCommandRcpExecutor aliveExecutor(final String version) {
+        final RobotCommandRcpExecutor executor = mock(RobotCommandRcpExecutor.class);
+        when(executor.isAlive()).thenReturn(true);
+        when(executor.getRobotVersion()).thenReturn(version);
+        return executor;
+    }
+
+    private static RobotCommandRcpExecutor blockingExecutor(final String version, final CountDownLatch isBusy,
+            final CountDownLatch finish) {
+        final RobotCommandRcpExecutor executor = mock(RobotCommandRcpExecutor.class);
+        when(executor.isAlive()).thenReturn(true);
+        when(executor.getRobotVersion()).thenAnswer(invocation -> {
+            isBusy.countDown();
+            finish.await();
+            return version;
+        });
+        return executor;
+    }
+
+    private static Supplier<RobotCommandRcpExecutor> startingNotExpected() {
+        return () -> {
+            throw new IllegalStateException("No executor should be started");
+        };
+    }
+
+    private static Thread callInThread(final RobotCommandRcpExecutorsPool pool,
+            final AtomicReference<String> result) {
+        final Thread thread = new Thread(() -> result.set(pool.getRobotVersion()));
+        thread.start();
+        return thread;
+    }
+}
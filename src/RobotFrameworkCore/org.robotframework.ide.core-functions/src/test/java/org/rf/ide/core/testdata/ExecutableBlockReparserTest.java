@@ -0,0 +1,228 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.rf.ide.core.executor.RobotRuntimeEnvironment;
+import org.rf.ide.core.testdata.RobotParser.RobotParserConfig;
+import org.rf.ide.core.testdata.model.FilePosition;
+import org.rf.ide.core.testdata.model.FileRegion;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotFileOutput.BuildMessage;
+import org.rf.ide.core.testdata.model.RobotProjectHolder;
+import org.rf.ide.core.testdata.model.table.keywords.UserKeyword;
+import org.rf.ide.core.testdata.model.table.testcases.TestCase;
+import org.rf.ide.core.testdata.text.read.IRobotLineElement;
+import org.rf.ide.core.testdata.text.read.RobotLine;
+
+public class ExecutableBlockReparserTest {
+
+    private static final String CONTENT = "*** Settings ***\n"
+            + "Library  Collections\n"
+            + "\n"
+            + "*** Test Cases ***\n"
+            + "case 1\n"
+            + "    [Documentation]  doc of case 1\n"
+            + "    Log  1\n"
+            + "case 2\n"
+            + "    Log  2\n"
+            + "    kw 1\n"
+            + "\n"
+            + "*** Keywords ***\n"
+            + "kw 1\n"
+            + "    [Documentation]  doc of kw 1\n"
+            + "    Log  kw1\n"
+            + "kw 2\n"
+            + "    Log  kw2";
+
+    private RobotParser parser;
+
+    @Before
+    public void beforeTest() {
+        final RobotRuntimeEnvironment runtime = mock(RobotRuntimeEnvironment.class);
+        when(runtime.getVersion()).thenReturn("3.0");
+        final RobotProjectHolder projectHolder = spy(RobotProjectHolder.class);
+        when(projectHolder.getRobotRuntime()).thenReturn(runtime);
+
+        parser = RobotParser.create(projectHolder, RobotParserConfig.allImportsLazy());
+    }
+
+    @Test
+    public void executableRowAddedInTestCase_isReparsedIncrementally() {
+        assertIncrementalReparseGivesSameOutput(CONTENT, CONTENT.indexOf("case 2\n"), 0, "    Log  new\n");
+    }
+
+    @Test
+    public void keywordArgumentChanged_isReparsedIncrementally() {
+        final int offset = CONTENT.indexOf("kw1");
+        assertIncrementalReparseGivesSameOutput(CONTENT, offset, 3, "other");
+    }
+
+    @Test
+    public void linesRemovedInLastKeyword_isReparsedIncrementally() {
+        final int offset = CONTENT.indexOf("kw 2\n");
+        assertIncrementalReparseGivesSameOutput(CONTENT, offset, CONTENT.length() - offset, "kw 3");
+    }
+
+    @Test
+    public void testCaseNameRemoved_rowsAreMovedToPreviousTestCase() {
+        final int offset = CONTENT.indexOf("case 2");
+        assertIncrementalReparseGivesSameOutput(CONTENT, offset, "case 2".length(), "");
+    }
+
+    @Test
+    public void newTestCaseDeclared_isReparsedIncrementally() {
+        final int offset = CONTENT.indexOf("    Log  2");
+        assertIncrementalReparseGivesSameOutput(CONTENT, offset, 0, "case 3\n");
+    }
+
+    @Test
+    public void documentationOfShiftedKeyword_isFoundAtNewOffset() {
+        final int offset = CONTENT.indexOf("    Log  1");
+        final String inserted = "    Log  new\n    Log  new\n";
+        final String newContent = insert(CONTENT, offset, 0, inserted);
+
+        final RobotFileOutput output = parser.parseEditorContent(CONTENT, new File("file.robot"));
+        assertThat(parser.reparseEditorContent(output, newContent, new File("file.robot"), offset, 0,
+                inserted.length())).isTrue();
+
+        final int docOffset = newContent.indexOf("doc of kw 1");
+        assertThat(output.findDocumentationForOffset(docOffset).isPresent()).isTrue();
+        assertThat(output.findDocumentationForOffset(docOffset).get().getDocumentationText().get(0).getText())
+                .isEqualTo("doc of kw 1");
+    }
+
+    @Test
+    public void buildMessagesOfReparsedBlockAreRemoved_andMessagesAfterItAreShifted() {
+        final int offset = CONTENT.indexOf("    Log  2");
+        final String inserted = "    Log  new\n";
+        final String newContent = insert(CONTENT, offset, 0, inserted);
+
+        final RobotFileOutput output = parser.parseEditorContent(CONTENT, new File("file.robot"));
+        final BuildMessage fileMessage = BuildMessage.createErrorMessage("file", "file.robot");
+        final BuildMessage beforeMessage = createMessage("before", CONTENT, "case 1");
+        final BuildMessage insideMessage = createMessage("inside", CONTENT, "    kw 1");
+        final BuildMessage afterMessage = createMessage("after", CONTENT, "kw1");
+        output.addBuildMessage(fileMessage);
+        output.addBuildMessage(beforeMessage);
+        output.addBuildMessage(insideMessage);
+        output.addBuildMessage(afterMessage);
+
+        assertThat(parser.reparseEditorContent(output, newContent, new File("file.robot"), offset, 0,
+                inserted.length())).isTrue();
+
+        final List<BuildMessage> messages = output.getBuildingMessages();
+        assertThat(messages).extracting("message").containsExactly("file", "before", "after");
+        assertThat(messages.get(1).getFileRegion().getStart())
+                .isEqualTo(beforeMessage.getFileRegion().getStart());
+        assertThat(messages.get(2).getFileRegion().getStart())
+                .isEqualTo(createMessage("after", newContent, "kw1").getFileRegion().getStart());
+        assertThat(messages.get(2).getFileRegion().getEnd())
+                .isEqualTo(createMessage("after", newContent, "kw1").getFileRegion().getEnd());
+    }
+
+    @Test
+    public void changeInSettingsTable_isNotReparsedIncrementally() {
+        final int offset = CONTENT.indexOf("Collections");
+        final String newContent = insert(CONTENT, offset, 0, "X");
+
+        final RobotFileOutput output = parser.parseEditorContent(CONTENT, new File("file.robot"));
+        assertThat(parser.reparseEditorContent(output, newContent, new File("file.robot"), offset, 0, 1)).isFalse();
+    }
+
+    @Test
+    public void changeCreatingNewTableHeader_isNotReparsedIncrementally() {
+        final int offset = CONTENT.indexOf("case 2");
+        final String newContent = insert(CONTENT, offset, 0, "*** Variables ***\n");
+
+        final RobotFileOutput output = parser.parseEditorContent(CONTENT, new File("file.robot"));
+        assertThat(parser.reparseEditorContent(output, newContent, new File("file.robot"), offset, 0,
+                "*** Variables ***\n".length())).isFalse();
+    }
+
+    @Test
+    public void changeInsideTableHeader_isNotReparsedIncrementally() {
+        final int offset = CONTENT.indexOf("Keywords");
+        final String newContent = insert(CONTENT, offset, 0, "X");
+
+        final RobotFileOutput output = parser.parseEditorContent(CONTENT, new File("file.robot"));
+        assertThat(parser.reparseEditorContent(output, newContent, new File("file.robot"), offset, 0, 1)).isFalse();
+    }
+
+    private void assertIncrementalReparseGivesSameOutput(final String content, final int offset, final int length,
+            final String text) {
+        final String newContent = insert(content, offset, length, text);
+
+        final RobotFileOutput output = parser.parseEditorContent(content, new File("file.robot"));
+        final boolean wasReparsed = parser.reparseEditorContent(output, newContent, new File("file.robot"), offset,
+                length, text.length());
+        final RobotFileOutput expectedOutput = parser.parseEditorContent(newContent, new File("file.robot"));
+
+        assertThat(wasReparsed).isTrue();
+        assertThat(describeLines(output.getFileModel())).isEqualTo(describeLines(expectedOutput.getFileModel()));
+        assertThat(describeModel(output.getFileModel())).isEqualTo(describeModel(expectedOutput.getFileModel()));
+    }
+
+    private static BuildMessage createMessage(final String message, final String content, final String text) {
+        final int offset = content.indexOf(text);
+        final int line = content.substring(0, offset).split("\n", -1).length;
+        final int column = offset - content.lastIndexOf('\n', offset - 1) - 1;
+        final BuildMessage buildMessage = BuildMessage.createWarnMessage(message, "file.robot");
+        buildMessage.setFileRegion(new FileRegion(new FilePosition(line, column, offset),
+                new FilePosition(line, column + text.length(), offset + text.length())));
+        return buildMessage;
+    }
+
+    private static String insert(final String content, final int offset, final int length, final String text) {
+        return content.substring(0, offset) + text + content.substring(offset + length);
+    }
+
+    private static List<String> describeLines(final RobotFile fileModel) {
+        final List<String> description = new ArrayList<>();
+        for (final RobotLine line : fileModel.getFileContent()) {
+            assertThat(line.getParent()).isSameAs(fileModel);
+            final StringBuilder builder = new StringBuilder();
+            builder.append(line.getLineNumber()).append(':');
+            for (final IRobotLineElement element : line.getLineElements()) {
+                builder.append(describe(element));
+            }
+            builder.append(describe(line.getEndOfLine()));
+            description.add(builder.toString());
+        }
+        return description;
+    }
+
+    private static String describe(final IRobotLineElement element) {
+        return "[" + element.getRaw() + "@" + element.getLineNumber() + "," + element.getStartColumn() + ","
+                + element.getStartOffset() + element.getTypes() + "]";
+    }
+
+    private static List<String> describeModel(final RobotFile fileModel) {
+        final List<String> description = new ArrayList<>();
+        for (final TestCase test : fileModel.getTestCaseTable().getTestCases()) {
+            assertThat(test.getParent()).isSameAs(fileModel.getTestCaseTable());
+            description.add(describe(test.getDeclaration()) + test.getExecutionContext().size()
+                    + test.getDocumentation().size());
+        }
+        for (final UserKeyword keyword : fileModel.getKeywordTable().getKeywords()) {
+            assertThat(keyword.getParent()).isSameAs(fileModel.getKeywordTable());
+            description.add(describe(keyword.getDeclaration()) + keyword.getExecutionContext().size()
+                    + keyword.getDocumentation().size());
+        }
+        return description;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.rf.ide.core.executor.RobotRuntimeEnvironment;
+import org.rf.ide.core.testdata.RobotParser.RobotParserConfig;
+import org.rf.ide.core.testdata.importer.ResourceImportReference;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotProjectHolder;
+
+public class ParallelProjectParserTest {
+
+    private static final String MAIN_PATH = "parser/bugs/RED_352_ReadManyTimesPrevReadReferenceFile_LoopPrevent/";
+
+    private ForkJoinPool pool;
+
+    private RobotProjectHolder projectHolder;
+
+    private RobotParser parser;
+
+    @Before
+    public void beforeTest() {
+        pool = new ForkJoinPool(4);
+
+        final RobotRuntimeEnvironment runtime = mock(RobotRuntimeEnvironment.class);
+        when(runtime.getVersion()).thenReturn("2.9");
+        projectHolder = spy(RobotProjectHolder.class);
+        when(projectHolder.getRobotRuntime()).thenReturn(runtime);
+
+        parser = RobotParser.create(projectHolder, RobotParserConfig.allImportsEager());
+    }
+
+    @After
+    public void afterTest() {
+        pool.shutdownNow();
+    }
+
+    @Test(timeout = 10000)
+    public void loopedResourcesAreParsedOnce_andSharedByAllImporters() throws Exception {
+        final File startFile = file("StartFile.robot");
+
+        final List<RobotFileOutput> output = parser.parseInParallel(startFile, pool);
+
+        assertThat(output).hasSize(1);
+        final RobotFileOutput startOutput = output.get(0);
+        assertThat(startOutput.getProcessedFile()).isEqualTo(startFile);
+        assertThat(referencedFiles(startOutput)).containsExactly(file("NormalFile.robot"),
+                file("anotherLoop.robot"), file("resources/theFirst.robot"));
+
+        final RobotFileOutput anotherLoop = startOutput.getResourceImportReferences().get(1).getReference();
+        final RobotFileOutput loopEnd = anotherLoop.getResourceImportReferences().get(0).getReference();
+        assertThat(loopEnd.getProcessedFile()).isEqualTo(file("resources/loopEndWithRefToFirst.robot"));
+        final RobotFileOutput middle = loopEnd.getResourceImportReferences().get(0).getReference();
+        assertThat(middle.getProcessedFile()).isEqualTo(file("resources/Middle.robot"));
+        assertThat(middle.getResourceImportReferences().get(0).getReference())
+                .isSameAs(startOutput.getResourceImportReferences().get(2).getReference());
+
+        verify(projectHolder, times(6)).addModelFile(any(RobotFileOutput.class));
+    }
+
+    @Test(timeout = 10000)
+    public void directoryParsedInParallel_containsSameFilesAsParsedSequentially() throws Exception {
+        final File directory = file("");
+
+        final List<RobotFileOutput> parallelOutput = parser.parseInParallel(directory, pool);
+
+        final RobotProjectHolder sequentialHolder = new RobotProjectHolder();
+        final List<RobotFileOutput> sequentialOutput = RobotParser
+                .create(sequentialHolder, RobotParserConfig.allImportsEager())
+                .parse(directory);
+
+        assertThat(processedFiles(parallelOutput)).isEqualTo(processedFiles(sequentialOutput));
+        for (final RobotFileOutput robotFile : parallelOutput) {
+            assertThat(projectHolder.findFileByName(robotFile.getProcessedFile())).isSameAs(robotFile);
+            for (final ResourceImportReference reference : robotFile.getResourceImportReferences()) {
+                assertThat(projectHolder.findFileByName(reference.getReference().getProcessedFile()))
+                        .isSameAs(reference.getReference());
+            }
+        }
+        verify(projectHolder, times(6)).addModelFile(any(RobotFileOutput.class));
+    }
+
+    @Test(timeout = 10000)
+    public void onlyGivenFilesAreReturned_andResourcesImportedByThemAreParsedOnce() throws Exception {
+        final File startFile = file("StartFile.robot");
+        final File normalFile = file("NormalFile.robot");
+
+        final List<RobotFileOutput> output = parser.parseInParallel(Arrays.asList(startFile, normalFile), pool);
+
+        assertThat(processedFiles(output)).containsExactly(startFile, normalFile);
+        assertThat(output.get(0).getResourceImportReferences().get(0).getReference()).isSameAs(output.get(1));
+        verify(projectHolder, times(6)).addModelFile(any(RobotFileOutput.class));
+    }
+
+    @Test(timeout = 10000)
+    public void alreadyLoadedFilesAreNotParsedAgain() throws Exception {
+        final File directory = file("");
+
+        final List<RobotFileOutput> firstOutput = parser.parseInParallel(directory, pool);
+        final List<RobotFileOutput> secondOutput = parser.parseInParallel(directory, pool);
+
+        assertThat(secondOutput).containsExactlyElementsOf(firstOutput);
+        verify(projectHolder, times(6)).addModelFile(any(RobotFileOutput.class));
+    }
+
+    private File file(final String path) throws Exception {
+        return new File(this.getClass().getResource(MAIN_PATH + path).toURI());
+    }
+
+    private static List<File> referencedFiles(final RobotFileOutput output) {
+        final List<File> files = new ArrayList<>();
+        for (final ResourceImportReference reference : output.getResourceImportReferences()) {
+            files.add(reference.getReference().getProcessedFile());
+        }
+        return files;
+    }
+
+    private static List<File> processedFiles(final List<RobotFileOutput> outputs) {
+        final List<File> files = new ArrayList<>();
+        for (final RobotFileOutput output : outputs) {
+            files.add(output.getProcessedFile());
+        }
+        return files;
+    }
+}
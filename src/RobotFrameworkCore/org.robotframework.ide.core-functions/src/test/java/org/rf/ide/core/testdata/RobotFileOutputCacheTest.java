@@ -0,0 +1,197 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.rf.ide.core.executor.RobotRuntimeEnvironment;
+import org.rf.ide.core.testdata.RobotParser.RobotParserConfig;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotProjectHolder;
+import org.rf.ide.core.testdata.model.RobotVersion;
+import org.rf.ide.core.testdata.model.table.keywords.UserKeyword;
+import org.rf.ide.core.testdata.model.table.testcases.TestCase;
+import org.rf.ide.core.testdata.text.read.IRobotLineElement;
+import org.rf.ide.core.testdata.text.read.RobotLine;
+
+import com.google.common.hash.HashCode;
+
+public class RobotFileOutputCacheTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void storedOutputIsLoaded_whenFileIsNotChanged() throws Exception {
+        final File file = createFile("suite.robot", "*** Test Cases ***\ncase\n    [Documentation]  doc\n    Log  1\n"
+                + "*** Keywords ***\nkw\n    Log  2\n");
+        final RobotFileOutputCache cache = new RobotFileOutputCache(tempFolder.newFolder("cache"));
+
+        final RobotFileOutput output = parse(file, null);
+        cache.store(output, hash(file));
+        final Optional<RobotFileOutput> loaded = cache.load(file, hash(file), RobotVersion.from("3.0"));
+
+        assertThat(loaded.isPresent()).isTrue();
+        assertThat(loaded.get().getProcessedFile()).isEqualTo(file);
+        assertThat(loaded.get().getRobotVersion()).isEqualTo(RobotVersion.from("3.0"));
+        assertThat(loaded.get().getResourceImportReferences()).isEmpty();
+        assertThat(loaded.get().getResolvedVariablesImportReferences().isPresent()).isFalse();
+        assertThat(describe(loaded.get())).isEqualTo(describe(output));
+        assertThat(loaded.get().findDocumentationForOffset(40).isPresent()).isTrue();
+    }
+
+    @Test
+    public void storedOutputIsNotLoaded_whenFileContentChanged() throws Exception {
+        final File file = createFile("suite.robot", "*** Test Cases ***\ncase\n    Log  1\n");
+        final RobotFileOutputCache cache = new RobotFileOutputCache(tempFolder.newFolder("cache"));
+        cache.store(parse(file, null), hash(file));
+
+        Files.write(file.toPath(), "*** Test Cases ***\ncase\n    Log  2\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(cache.load(file, hash(file), RobotVersion.from("3.0")).isPresent()).isFalse();
+    }
+
+    @Test
+    public void storedOutputIsNotLoaded_forDifferentRobotVersionOrAfterClearing() throws Exception {
+        final File file = createFile("suite.robot", "*** Test Cases ***\ncase\n    Log  1\n");
+        final RobotFileOutputCache cache = new RobotFileOutputCache(tempFolder.newFolder("cache"));
+        cache.store(parse(file, null), hash(file));
+
+        assertThat(cache.load(file, hash(file), RobotVersion.from("2.9")).isPresent()).isFalse();
+        assertThat(cache.load(file, hash(file), RobotVersion.from("3.0")).isPresent()).isTrue();
+
+        cache.clear();
+        assertThat(cache.load(file, hash(file), RobotVersion.from("3.0")).isPresent()).isFalse();
+    }
+
+    @Test
+    public void leastRecentlyUsedEntriesAreRemoved_whenCacheIsPruned() throws Exception {
+        final File file1 = createFile("suite1.robot", "*** Test Cases ***\ncase\n    Log  1\n");
+        final File file2 = createFile("suite2.robot", "*** Test Cases ***\ncase\n    Log  2\n");
+        final File file3 = createFile("suite3.robot", "*** Test Cases ***\ncase\n    Log  3\n");
+        final File cacheDir = tempFolder.newFolder("cache");
+        final RobotFileOutputCache cache = new RobotFileOutputCache(cacheDir, 2);
+        cache.store(parse(file1, null), hash(file1));
+        cache.store(parse(file2, null), hash(file2));
+        cache.store(parse(file3, null), hash(file3));
+        cache.store(parse(file1, null), hash(file1));
+        assertThat(cacheDir.listFiles()).hasSize(3);
+
+        final long time = System.currentTimeMillis();
+        for (final File entry : cacheDir.listFiles()) {
+            entry.setLastModified(time - 10_000);
+        }
+        assertThat(cache.load(file1, hash(file1), RobotVersion.from("3.0")).isPresent()).isTrue();
+        assertThat(cache.load(file3, hash(file3), RobotVersion.from("3.0")).isPresent()).isTrue();
+        cache.prune();
+
+        assertThat(cacheDir.listFiles()).hasSize(2);
+        assertThat(cache.load(file1, hash(file1), RobotVersion.from("3.0")).isPresent()).isTrue();
+        assertThat(cache.load(file2, hash(file2), RobotVersion.from("3.0")).isPresent()).isFalse();
+        assertThat(cache.load(file3, hash(file3), RobotVersion.from("3.0")).isPresent()).isTrue();
+    }
+
+    @Test
+    public void parserUsesCachedOutput_andStoresParsedOutput() throws Exception {
+        final File file = createFile("res.robot", "*** Keywords ***\nkw\n    Log  2\n");
+        final RobotFileOutputCache cache = new RobotFileOutputCache(tempFolder.newFolder("cache"));
+
+        final RobotFileOutput parsed = parse(file, cache);
+        final RobotFileOutput loaded = parse(file, cache);
+
+        assertThat(loaded).isNotSameAs(parsed);
+        assertThat(describe(loaded)).isEqualTo(describe(parsed));
+    }
+
+    @Test
+    public void allParserTestFiles_areTheSameAfterLoadingFromCache() throws Exception {
+        final File testDataDir = new File(this.getClass().getResource("parser").toURI());
+        final RobotFileOutputCache cache = new RobotFileOutputCache(tempFolder.newFolder("cache"));
+
+        final List<RobotFileOutput> outputs = RobotParser
+                .create(createHolder(null), RobotParserConfig.allImportsLazy())
+                .parse(testDataDir);
+        assertThat(outputs).isNotEmpty();
+        for (final RobotFileOutput output : outputs) {
+            cache.store(output, hash(output.getProcessedFile()));
+            final Optional<RobotFileOutput> loaded = cache.load(output.getProcessedFile(),
+                    hash(output.getProcessedFile()), output.getRobotVersion());
+
+            assertThat(loaded.isPresent()).as(output.getProcessedFile().getPath()).isTrue();
+            assertThat(describe(loaded.get())).isEqualTo(describe(output));
+        }
+    }
+
+    private File createFile(final String name, final String content) throws IOException {
+        final File file = tempFolder.newFile(name);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static HashCode hash(final File file) {
+        return RobotFileOutputCache.hashContent(file).get();
+    }
+
+    private static RobotFileOutput parse(final File file, final RobotFileOutputCache cache) {
+        return RobotParser.create(createHolder(cache), RobotParserConfig.allImportsLazy()).parse(file).get(0);
+    }
+
+    private static RobotProjectHolder createHolder(final RobotFileOutputCache cache) {
+        final RobotRuntimeEnvironment runtime = mock(RobotRuntimeEnvironment.class);
+        when(runtime.getVersion()).thenReturn("3.0");
+        final RobotProjectHolder projectHolder = new RobotProjectHolder(runtime);
+        projectHolder.setParsedFilesCache(cache);
+        return projectHolder;
+    }
+
+    private static List<String> describe(final RobotFileOutput output) {
+        final List<String> description = new ArrayList<>();
+        description.add(output.getStatus() + " " + output.getFileFormat() + " "
+                + output.getBuildingMessages().size());
+        final RobotFile fileModel = output.getFileModel();
+        for (final RobotLine line : fileModel.getFileContent()) {
+            assertThat(line.getParent()).isSameAs(fileModel);
+            final StringBuilder builder = new StringBuilder();
+            builder.append(line.getLineNumber()).append(':');
+            for (final IRobotLineElement element : line.getLineElements()) {
+                builder.append(describe(element));
+            }
+            builder.append(describe(line.getEndOfLine()));
+            description.add(builder.toString());
+        }
+        for (final TestCase test : fileModel.getTestCaseTable().getTestCases()) {
+            assertThat(test.getParent()).isSameAs(fileModel.getTestCaseTable());
+            description.add(describe(test.getDeclaration()) + test.getExecutionContext().size());
+        }
+        for (final UserKeyword keyword : fileModel.getKeywordTable().getKeywords()) {
+            assertThat(keyword.getParent()).isSameAs(fileModel.getKeywordTable());
+            description.add(describe(keyword.getDeclaration()) + keyword.getExecutionContext().size());
+        }
+        description.add("settings " + fileModel.getSettingTable().getHeaders().size() + " "
+                + fileModel.getSettingTable().getImports().size());
+        description.add("variables " + fileModel.getVariableTable().getVariables().size());
+        return description;
+    }
+
+    private static String describe(final IRobotLineElement element) {
+        return "[" + element.getRaw() + "@" + element.getLineNumber() + "," + element.getStartColumn() + ","
+                + element.getStartOffset() + element.getTypes() + "]";
+    }
+}
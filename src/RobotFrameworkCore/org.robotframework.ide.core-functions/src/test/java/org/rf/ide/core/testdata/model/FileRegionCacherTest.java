@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class FileRegionCacherTest {
+
+    @Test
+    public void elementsContainingPositionAreFound_inRegistrationOrder() {
+        final Cacheable first = new Cacheable("first", region(10, 20, 2, 3), region(40, 50, 6, 7));
+        final Cacheable second = new Cacheable("second", region(0, 100, 1, 9));
+        final Cacheable third = new Cacheable("third", region(15, 16, 3, 3));
+
+        final FileRegionCacher<String> cacher = new FileRegionCacher<>();
+        cacher.register(first);
+        cacher.register(second);
+        cacher.register(third);
+
+        assertThat(cacher.findByOffset(15)).containsExactly(first, second, third);
+        assertThat(cacher.findByOffset(45)).containsExactly(first, second);
+        assertThat(cacher.findByOffset(30)).containsExactly(second);
+        assertThat(cacher.findByOffset(101)).isEmpty();
+        assertThat(cacher.findByOffset(-1)).isEmpty();
+
+        assertThat(cacher.findByLineNumber(3)).containsExactly(first, second, third);
+        assertThat(cacher.findByLineNumber(7)).containsExactly(first, second);
+        assertThat(cacher.findByLineNumber(10)).isEmpty();
+    }
+
+    @Test
+    public void unregisteredElementsAreNotFound() {
+        final Cacheable first = new Cacheable("first", region(10, 20, 2, 3));
+        final Cacheable second = new Cacheable("second", region(10, 20, 2, 3));
+
+        final FileRegionCacher<String> cacher = new FileRegionCacher<>();
+        cacher.register(first);
+        cacher.register(second);
+        assertThat(cacher.findByOffset(12)).containsExactly(first, second);
+
+        cacher.unregister(first);
+        assertThat(cacher.findByOffset(12)).containsExactly(second);
+        assertThat(cacher.findByLineNumber(2)).containsExactly(second);
+    }
+
+    @Test
+    public void changedPositionsAreUsed_afterInvalidation() {
+        final Cacheable element = new Cacheable("element", region(10, 20, 2, 3));
+
+        final FileRegionCacher<String> cacher = new FileRegionCacher<>();
+        cacher.register(element);
+        assertThat(cacher.findByOffset(12)).containsExactly(element);
+
+        element.regions.clear();
+        element.regions.add(region(30, 40, 5, 6));
+        assertThat(cacher.findByOffset(12)).isEmpty();
+
+        cacher.invalidate();
+        assertThat(cacher.findByOffset(35)).containsExactly(element);
+        assertThat(cacher.findByLineNumber(5)).containsExactly(element);
+    }
+
+    private static FileRegion region(final int startOffset, final int endOffset, final int startLine,
+            final int endLine) {
+        return new FileRegion(new FilePosition(startLine, 0, startOffset), new FilePosition(endLine, 0, endOffset));
+    }
+
+    private static class Cacheable implements IRegionCacheable<String> {
+
+        private final String name;
+
+        private final List<FileRegion> regions = new ArrayList<>();
+
+        Cacheable(final String name, final FileRegion... regions) {
+            this.name = name;
+            for (final FileRegion region : regions) {
+                this.regions.add(region);
+            }
+        }
+
+        @Override
+        public List<FileRegion> getContinuousRegions() {
+            return regions;
+        }
+
+        @Override
+        public String getCached() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
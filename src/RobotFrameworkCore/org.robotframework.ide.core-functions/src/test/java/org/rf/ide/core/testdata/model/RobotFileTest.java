@@ -0,0 +1,67 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.rf.ide.core.testdata.text.read.LineReader.Constant;
+import org.rf.ide.core.testdata.text.read.RobotLine;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+
+public class RobotFileTest {
+
+    @Test
+    public void lineIndexIsFound_forOffsetsInsideElementsAndEndOfLines() {
+        final RobotFile file = createFile("abc", "", "de", "fghi");
+
+        assertThat(file.getRobotLineIndexBy(0)).isEqualTo(Optional.of(0));
+        assertThat(file.getRobotLineIndexBy(3)).isEqualTo(Optional.of(0));
+        assertThat(file.getRobotLineIndexBy(4)).isEqualTo(Optional.of(1));
+        assertThat(file.getRobotLineIndexBy(5)).isEqualTo(Optional.of(2));
+        assertThat(file.getRobotLineIndexBy(7)).isEqualTo(Optional.of(2));
+        assertThat(file.getRobotLineIndexBy(8)).isEqualTo(Optional.of(3));
+        assertThat(file.getRobotLineIndexBy(12)).isEqualTo(Optional.of(3));
+    }
+
+    @Test
+    public void lineIndexIsNotFound_forOffsetsOutsideOfFile() {
+        final RobotFile file = createFile("abc", "de");
+
+        assertThat(file.getRobotLineIndexBy(-1)).isEqualTo(Optional.empty());
+        assertThat(file.getRobotLineIndexBy(7)).isEqualTo(Optional.empty());
+        assertThat(file.getRobotLineIndexBy(100)).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    public void lineIndexIsFound_whenSomeLineHasNoPosition() {
+        final RobotFile file = createFile("abc", "de", "fghi");
+        ((RobotToken) file.getFileContent().get(1).getLineElements().get(0)).setStartOffset(-1);
+
+        assertThat(file.getRobotLineIndexBy(8)).isEqualTo(Optional.of(2));
+    }
+
+    private static RobotFile createFile(final String... linesContent) {
+        final RobotFile file = new RobotFileOutput(RobotVersion.from("3.0")).getFileModel();
+        int offset = 0;
+        for (int i = 0; i < linesContent.length; i++) {
+            final RobotLine line = new RobotLine(i + 1, file);
+            if (!linesContent[i].isEmpty()) {
+                final RobotToken token = RobotToken.create(linesContent[i]);
+                token.setStartOffset(offset);
+                line.addLineElement(token);
+                offset += linesContent[i].length();
+            }
+            line.setEndOfLine(Arrays.asList(Constant.LF), offset, linesContent[i].length());
+            offset++;
+            file.addNewLine(line);
+        }
+        return file;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.rf.ide.core.testdata.importer.VariablesFileImportReference;
+
+public class RobotProjectHolderTest {
+
+    @Test
+    public void fileIsFoundByPath_afterAddingToHolder() {
+        final RobotProjectHolder holder = new RobotProjectHolder();
+        final RobotFileOutput output = createOutput("suite.robot");
+
+        holder.addModelFile(output);
+
+        assertThat(holder.findFileByName(new File("suite.robot"))).isSameAs(output);
+        assertThat(holder.findFileByName(new File("other.robot"))).isNull();
+    }
+
+    @Test
+    public void fileIsReplaced_whenFileWithSamePathIsAdded() {
+        final RobotProjectHolder holder = new RobotProjectHolder();
+        final RobotFileOutput output1 = createOutput("suite.robot");
+        final RobotFileOutput output2 = createOutput("suite.robot");
+
+        holder.addModelFile(output1);
+        holder.addModelFile(output2);
+
+        assertThat(holder.findFileByName(new File("suite.robot"))).isSameAs(output2);
+    }
+
+    @Test
+    public void fileIsNotFound_afterRemovingOrClearing() {
+        final RobotProjectHolder holder = new RobotProjectHolder();
+        final RobotFileOutput output1 = createOutput("suite1.robot");
+        final RobotFileOutput output2 = createOutput("suite2.robot");
+        holder.addModelFile(output1);
+        holder.addModelFile(output2);
+
+        holder.removeModelFile(output1);
+        assertThat(holder.findFileByName(new File("suite1.robot"))).isNull();
+        assertThat(holder.findFileByName(new File("suite2.robot"))).isSameAs(output2);
+
+        holder.clearModelFiles();
+        assertThat(holder.findFileByName(new File("suite2.robot"))).isNull();
+    }
+
+    @Test
+    public void allFilesImportingVariablesFileAreFound() {
+        final RobotProjectHolder holder = new RobotProjectHolder();
+        final RobotFileOutput output1 = createOutput("suite1.robot", "vars.py");
+        final RobotFileOutput output2 = createOutput("suite2.robot", "vars.py", "other.py");
+        final RobotFileOutput output3 = createOutput("suite3.robot", "other.py");
+        holder.addModelFile(output1);
+        holder.addModelFile(output2);
+        holder.addModelFile(output3);
+
+        assertThat(holder.findFilesWithImportedVariableFile(null, new File("vars.py")))
+                .containsOnly(output1, output2);
+        assertThat(holder.findFilesWithImportedVariableFile(null, new File("other.py")))
+                .containsOnly(output2, output3);
+        assertThat(holder.findFilesWithImportedVariableFile(null, new File("unknown.py"))).isEmpty();
+    }
+
+    @Test
+    public void replacedOrRemovedFileIsNotFoundAsImportingVariablesFile() {
+        final RobotProjectHolder holder = new RobotProjectHolder();
+        final RobotFileOutput output1 = createOutput("suite1.robot", "vars.py");
+        final RobotFileOutput output2 = createOutput("suite2.robot", "vars.py");
+        final RobotFileOutput newOutput1 = createOutput("suite1.robot");
+        holder.addModelFile(output1);
+        holder.addModelFile(output2);
+
+        holder.addModelFile(newOutput1);
+        assertThat(holder.findFilesWithImportedVariableFile(null, new File("vars.py"))).containsOnly(output2);
+
+        holder.removeModelFile(output2);
+        assertThat(holder.findFilesWithImportedVariableFile(null, new File("vars.py"))).isEmpty();
+    }
+
+    @Test
+    public void fileIsFoundAsImportingVariablesFile_whenImportsAreResolvedAfterAddingToHolder() {
+        final RobotProjectHolder holder = new RobotProjectHolder();
+        final RobotFileOutput output = createOutput("suite.robot");
+        holder.addModelFile(output);
+
+        output.setVariablesImportReferences(Arrays.asList(createReference("vars.py")));
+        assertThat(holder.findFilesWithImportedVariableFile(null, new File("vars.py"))).isEmpty();
+
+        holder.indexVariablesImports(output);
+        assertThat(holder.findFilesWithImportedVariableFile(null, new File("vars.py"))).containsOnly(output);
+    }
+
+    private static RobotFileOutput createOutput(final String path, final String... variablesFiles) {
+        final RobotFileOutput output = new RobotFileOutput(RobotVersion.from("3.0"));
+        output.setProcessedFile(new File(path));
+        if (variablesFiles.length > 0) {
+            final VariablesFileImportReference[] references = new VariablesFileImportReference[variablesFiles.length];
+            for (int i = 0; i < variablesFiles.length; i++) {
+                references[i] = createReference(variablesFiles[i]);
+            }
+            output.setVariablesImportReferences(Arrays.asList(references));
+        }
+        return output;
+    }
+
+    private static VariablesFileImportReference createReference(final String variablesFile) {
+        final VariablesFileImportReference reference = new VariablesFileImportReference(null);
+        reference.setVariablesFile(new File(variablesFile));
+        return reference;
+    }
+}
@@ -66,6 +66,27 @@ public class EmbeddedKeywordNamesSupportTest {
                 "today is 2016-12-20")).isTrue();
     }
 
+    @Test
+    public void nameMayMatchTest() {
+        assertThat(EmbeddedKeywordNamesSupport.mayMatchIgnoreCase("abc", "xyz")).isTrue();
+
+        assertThat(EmbeddedKeywordNamesSupport.mayMatchIgnoreCase("a${x}c", "ABXYZC")).isTrue();
+        assertThat(EmbeddedKeywordNamesSupport.mayMatchIgnoreCase("a${x}c", "lib.abxyzc")).isTrue();
+        assertThat(EmbeddedKeywordNamesSupport.mayMatchIgnoreCase("a${x:\\d+}c", "ABXYZC")).isTrue();
+        assertThat(EmbeddedKeywordNamesSupport.mayMatchIgnoreCase("a${x}c", "cxa")).isFalse();
+        assertThat(EmbeddedKeywordNamesSupport.mayMatchIgnoreCase("say ${x} to ${y}", "say hi to bob")).isTrue();
+        assertThat(EmbeddedKeywordNamesSupport.mayMatchIgnoreCase("say ${x} to ${y}", "say hi")).isFalse();
+    }
+
+    @Test
+    public void nameMatchesTest_withCompiledMatcherReused() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("a${x:\\d+}c", "A1C")).isTrue();
+            assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("a${x:\\d+}c", "AXC")).isFalse();
+            assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("a${x:(}c", "A(C")).isFalse();
+        }
+    }
+
     @Test
     public void variableRangesAreFoundProperly() {
         assertThat(EmbeddedKeywordNamesSupport.findEmbeddedArgumentsRanges("")).is(empty());
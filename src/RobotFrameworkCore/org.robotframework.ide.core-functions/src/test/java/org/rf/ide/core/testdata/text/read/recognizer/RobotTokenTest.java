@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read.recognizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.Test;
+import org.rf.ide.core.testdata.model.FilePosition;
+
+public class RobotTokenTest {
+
+    @Test
+    public void positionIsNotSet_butTextAndTypesAreKept_whenTokenIsDeserialized() throws Exception {
+        final RobotToken token = RobotToken.create("kw");
+        token.setType(RobotTokenType.KEYWORD_NAME);
+        token.setLineNumber(3);
+        token.setStartColumn(4);
+        token.setStartOffset(20);
+
+        final RobotToken deserialized = copyBySerialization(token);
+
+        assertThat(deserialized.getFilePosition().isNotSet()).isTrue();
+        assertThat(deserialized.getLineNumber()).isEqualTo(RobotToken.NOT_SET);
+        assertThat(deserialized.getStartColumn()).isEqualTo(RobotToken.NOT_SET);
+        assertThat(deserialized.getStartOffset()).isEqualTo(RobotToken.NOT_SET);
+        assertThat(deserialized.getText()).isEqualTo("kw");
+        assertThat(deserialized.getRaw()).isEqualTo("kw");
+        assertThat(deserialized.getTypes()).containsExactly(RobotTokenType.KEYWORD_NAME);
+    }
+
+    @Test
+    public void sameFilePositionIsReturned_untilPositionIsChanged() {
+        final RobotToken token = RobotToken.create("kw");
+        token.setLineNumber(3);
+        token.setStartColumn(4);
+        token.setStartOffset(20);
+
+        final FilePosition position = token.getFilePosition();
+        assertThat(token.getFilePosition()).isSameAs(position);
+
+        token.setLineNumber(5);
+        final FilePosition lineChanged = token.getFilePosition();
+        assertThat(lineChanged).isNotSameAs(position);
+        assertThat(lineChanged.getLine()).isEqualTo(5);
+
+        token.setStartColumn(6);
+        final FilePosition columnChanged = token.getFilePosition();
+        assertThat(columnChanged).isNotSameAs(lineChanged);
+        assertThat(columnChanged.getColumn()).isEqualTo(6);
+
+        token.setStartOffset(30);
+        final FilePosition offsetChanged = token.getFilePosition();
+        assertThat(offsetChanged).isNotSameAs(columnChanged);
+        assertThat(offsetChanged.getOffset()).isEqualTo(30);
+    }
+
+    private static RobotToken copyBySerialization(final RobotToken token) throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(token);
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (RobotToken) input.readObject();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read.recognizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class TokenRecognizersFilterTest {
+
+    private final List<ATokenRecognizer> recognizers = allRecognizers();
+
+    private final TokenRecognizersFilter filter = new TokenRecognizersFilter(recognizers);
+
+    @Test
+    public void onlyRecognizersRequiringContainedTexts_areCandidates() {
+        assertThat(candidateTypes("Log")).isEmpty();
+        assertThat(candidateTypes("LIBRARY")).containsOnly(RobotTokenType.SETTING_LIBRARY_DECLARATION);
+        assertThat(candidateTypes("Suite Setup")).containsOnly(RobotTokenType.SETTING_SUITE_SETUP_DECLARATION,
+                RobotTokenType.SETTING_SUITE_TEARDOWN_DECLARATION);
+        assertThat(candidateTypes("# Metadata")).containsOnly(RobotTokenType.START_HASH_COMMENT,
+                RobotTokenType.SETTING_METADATA_DECLARATION);
+        assertThat(candidateTypes("...")).containsOnly(RobotTokenType.PREVIOUS_LINE_CONTINUE);
+    }
+
+    @Test
+    public void allRecognizersUsingLetters_areCandidates_whenTextContainsPipe() {
+        assertThat(candidateTypes("|ibrary")).contains(RobotTokenType.SETTING_LIBRARY_DECLARATION,
+                RobotTokenType.SETTING_TEST_SETUP_DECLARATION);
+        assertThat(candidateTypes("|ibrary")).doesNotContain(RobotTokenType.START_HASH_COMMENT,
+                RobotTokenType.KEYWORDS_TABLE_HEADER);
+    }
+
+    @Test
+    public void recognizerIsAlwaysCandidate_whenItDoesNotRequireAnyText() {
+        final ATokenRecognizer alwaysTried = new ATokenRecognizer(null, RobotTokenType.UNKNOWN) {
+
+            @Override
+            public ATokenRecognizer newInstance() {
+                return this;
+            }
+        };
+        final TokenRecognizersFilter filter = new TokenRecognizersFilter(
+                Arrays.asList(new HashCommentRecognizer(), alwaysTried));
+
+        final long candidates = filter.findCandidates("text");
+
+        assertThat(TokenRecognizersFilter.isCandidate(candidates, 0)).isFalse();
+        assertThat(TokenRecognizersFilter.isCandidate(candidates, 1)).isTrue();
+    }
+
+    @Test
+    public void everyRecognizerMatchingTheText_isCandidate() throws Exception {
+        final Set<String> texts = new LinkedHashSet<>(Arrays.asList("*** Settings ***", "*Keyword", "* * * Test Case",
+                "Library:", "With  Name", "[ DOCUMENTATION ]", "[Arguments]", "${var}", "@{list}", "&{dict}",
+                "Documentation", "Document:", "Meta", "sUITE   pOSTCONDITION", "Test Timeout :", "Force Tags",
+                "Default Tags", "Test Template", "Test Teardown", "Test Precondition", "Resource", "Variables",
+                "\\#not comment", "|etadata", "[Tags|", "İ", "ǅ"));
+        collectCells(new File(this.getClass().getResource("/org/rf/ide/core/testdata/parser").toURI()), texts);
+
+        for (final String text : texts) {
+            final long candidates = filter.findCandidates(text);
+            for (int i = 0; i < recognizers.size(); i++) {
+                if (recognizers.get(i).getPattern().matcher(text).find()) {
+                    assertThat(TokenRecognizersFilter.isCandidate(candidates, i))
+                            .as("'%s' recognized by %s", text, recognizers.get(i).getClass().getSimpleName())
+                            .isTrue();
+                }
+            }
+        }
+    }
+
+    private List<RobotTokenType> candidateTypes(final String text) {
+        final long candidates = filter.findCandidates(text);
+        final List<RobotTokenType> types = new ArrayList<>();
+        for (int i = 0; i < recognizers.size(); i++) {
+            if (TokenRecognizersFilter.isCandidate(candidates, i)) {
+                types.add(recognizers.get(i).getProducedType());
+            }
+        }
+        return types;
+    }
+
+    private static List<ATokenRecognizer> allRecognizers() {
+        final List<ATokenRecognizer> recognizers = new ArrayList<>();
+        recognizers.addAll(new SettingsRecognizersProvider().getRecognizers());
+        recognizers.addAll(new VariablesDeclarationRecognizersProvider().getRecognizers());
+        recognizers.addAll(new TestCaseRecognizersProvider().getRecognizers());
+        recognizers.addAll(new UserKeywordRecognizersProvider().getRecognizers());
+        return recognizers;
+    }
+
+    private static void collectCells(final File fileOrDir, final Set<String> cells) throws IOException {
+        if (fileOrDir.isDirectory()) {
+            for (final File file : fileOrDir.listFiles()) {
+                collectCells(file, cells);
+            }
+        } else {
+            for (final String line : new String(Files.readAllBytes(fileOrDir.toPath()), StandardCharsets.UTF_8)
+                    .split("\r?\n")) {
+                cells.add(line);
+                cells.addAll(Arrays.asList(line.split("\t|  +| \\| ")));
+            }
+        }
+    }
+}
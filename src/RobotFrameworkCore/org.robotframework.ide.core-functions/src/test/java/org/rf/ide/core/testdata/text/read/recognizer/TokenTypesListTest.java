@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read.recognizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.rf.ide.core.testdata.text.read.IRobotTokenType;
+
+public class TokenTypesListTest {
+
+    @Test
+    public void listBehavesLikeArrayList_whenTypesAreAddedAndRemoved() {
+        final List<IRobotTokenType> types = new TokenTypesList(RobotTokenType.UNKNOWN);
+        final List<IRobotTokenType> expected = new ArrayList<>();
+        expected.add(RobotTokenType.UNKNOWN);
+
+        for (final List<IRobotTokenType> list : newArrayList(types, expected)) {
+            list.add(0, RobotTokenType.KEYWORD_NAME);
+            list.add(RobotTokenType.KEYWORD_ACTION_NAME);
+            list.add(1, RobotTokenType.KEYWORD_ACTION_ARGUMENT);
+            list.add(RobotTokenType.VARIABLE_USAGE);
+            list.add(RobotTokenType.PRETTY_ALIGN_SPACE);
+        }
+        assertThat(types).isEqualTo(expected);
+
+        for (final List<IRobotTokenType> list : newArrayList(types, expected)) {
+            list.remove(0);
+            list.remove(RobotTokenType.VARIABLE_USAGE);
+            list.set(1, RobotTokenType.KEYWORD_NAME);
+        }
+        assertThat(types).isEqualTo(expected);
+        assertThat(types.contains(RobotTokenType.KEYWORD_NAME)).isTrue();
+        assertThat(types.contains(RobotTokenType.VARIABLE_USAGE)).isFalse();
+
+        types.clear();
+        assertThat(types).isEmpty();
+        types.add(RobotTokenType.UNKNOWN);
+        assertThat(types).containsExactly(RobotTokenType.UNKNOWN);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void exceptionIsThrown_whenIndexIsOutOfBounds() {
+        new TokenTypesList(RobotTokenType.UNKNOWN).get(1);
+    }
+
+    private static List<List<IRobotTokenType>> newArrayList(final List<IRobotTokenType> first,
+            final List<IRobotTokenType> second) {
+        final List<List<IRobotTokenType>> lists = new ArrayList<>();
+        lists.add(first);
+        lists.add(second);
+        return lists;
+    }
+}